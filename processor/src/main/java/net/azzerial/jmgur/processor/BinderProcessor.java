@@ -0,0 +1,308 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@SupportedAnnotationTypes(BinderProcessor.JSON_ENTITY)
+public final class BinderProcessor extends AbstractProcessor {
+
+    static final String BINDING_PACKAGE = "net.azzerial.jmgur.internal.entities.binding";
+    static final String JSON_ENTITY = BINDING_PACKAGE + ".JsonEntity";
+    static final String JSON_FIELD = BINDING_PACKAGE + ".JsonField";
+    static final String BINDER_SUFFIX = "Binder";
+
+    private Elements elements;
+    private Messager messager;
+
+    /* Getters & Setters */
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /* Methods */
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        final TypeElement annotation = elements.getTypeElement(JSON_ENTITY);
+
+        if (annotation == null)
+            return false;
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "@JsonEntity can only be applied to classes", element);
+                continue;
+            }
+
+            final TypeElement type = (TypeElement) element;
+            final List<FieldBinding> bindings = collectBindings(type);
+
+            if (bindings == null)
+                continue;
+            try {
+                writeBinder(type, bindings);
+            } catch (IOException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Could not write the binder: " + e.getMessage(), type);
+            }
+        }
+        return true;
+    }
+
+    /* Internal */
+
+    private List<FieldBinding> collectBindings(TypeElement type) {
+        final List<FieldBinding> bindings = new ArrayList<>();
+        boolean valid = true;
+
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            final Set<Modifier> modifiers = field.getModifiers();
+
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT))
+                continue;
+
+            final FieldBinding binding = bind(field);
+
+            if (binding == null)
+                valid = false;
+            else
+                bindings.add(binding);
+        }
+        return valid ? bindings : null;
+    }
+
+    private FieldBinding bind(VariableElement field) {
+        final String fieldName = field.getSimpleName().toString();
+        final TypeMirror type = field.asType();
+        final AnnotationMirror mirror = findAnnotation(field, JSON_FIELD);
+        String name = toSnakeCase(fieldName);
+        boolean signed = false;
+        boolean flag = false;
+        TypeMirror element = null;
+
+        if (mirror != null) {
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+                final Object value = entry.getValue().getValue();
+
+                switch (entry.getKey().getSimpleName().toString()) {
+                    case "value": if (!((String) value).isEmpty()) name = (String) value; break;
+                    case "signed": signed = (Boolean) value; break;
+                    case "flag": flag = (Boolean) value; break;
+                    case "element": element = (TypeMirror) value; break;
+                }
+            }
+        }
+
+        final String setter = "set" + capitalize(type.getKind() == TypeKind.BOOLEAN ? stripIs(fieldName) : fieldName);
+
+        switch (type.getKind()) {
+            case INT:
+                return new FieldBinding(name, setter, null, signed ? "JsonValues.intValue(p, 0)" : "JsonValues.unsignedIntValue(p, 0)");
+            case LONG:
+                return new FieldBinding(name, setter, null, signed ? "JsonValues.longValue(p, 0L)" : "JsonValues.unsignedLongValue(p, 0L)");
+            case BOOLEAN:
+                return new FieldBinding(name, setter, null, flag ? "JsonValues.flagValue(p)" : "JsonValues.booleanValue(p, false)");
+            case DECLARED:
+                break;
+            default:
+                return unsupported(field);
+        }
+
+        final TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+        final String qualifiedName = typeElement.getQualifiedName().toString();
+
+        if (typeElement.getKind() == ElementKind.ENUM)
+            return new FieldBinding(name, setter, qualifiedName + ".fromKey(null)", qualifiedName + ".fromKey(JsonValues.stringValue(p))");
+        switch (qualifiedName) {
+            case "java.lang.String":
+                return new FieldBinding(name, setter, null, "JsonValues.stringValue(p)");
+            case "java.time.OffsetDateTime":
+                return new FieldBinding(name, setter, "JsonValues.EPOCH", signed ? "JsonValues.signedDateValue(p)" : "JsonValues.dateValue(p)");
+            case "java.util.List":
+                break;
+            default:
+                return unsupported(field);
+        }
+
+        if (element == null || element.getKind() != TypeKind.DECLARED) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "List fields must declare their element type with @JsonField(element = ...)", field);
+            return null;
+        }
+
+        final TypeElement elementType = (TypeElement) ((DeclaredType) element).asElement();
+
+        if (findAnnotation(elementType, JSON_ENTITY) == null) {
+            messager.printMessage(Diagnostic.Kind.ERROR, elementType.getQualifiedName() + " must be annotated with @JsonEntity", field);
+            return null;
+        }
+        return new FieldBinding(name, setter, "new java.util.ArrayList<>()", "JsonValues.readList(p, parser -> " + binderName(elementType) + ".read(api, parser))", true);
+    }
+
+    private FieldBinding unsupported(VariableElement field) {
+        messager.printMessage(Diagnostic.Kind.ERROR, "Unsupported field type: " + field.asType(), field);
+        return null;
+    }
+
+    private void writeBinder(TypeElement type, List<FieldBinding> bindings) throws IOException {
+        final String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        final String entity = type.getSimpleName().toString();
+        final String binder = entity + BINDER_SUFFIX;
+        final JavaFileObject file = processingEnv.getFiler().createSourceFile(binderName(type), type);
+
+        try (Writer writer = file.openWriter()) {
+            final StringBuilder sb = new StringBuilder();
+
+            sb.append("package ").append(packageName).append(";\n\n");
+            sb.append("import com.fasterxml.jackson.core.JsonParser;\n");
+            sb.append("import com.fasterxml.jackson.core.JsonToken;\n");
+            sb.append("import net.azzerial.jmgur.api.Jmgur;\n");
+            sb.append("import ").append(BINDING_PACKAGE).append(".JsonValues;\n");
+            sb.append("import ").append(BINDING_PACKAGE).append(".Projection;\n\n");
+            sb.append("import java.io.IOException;\n\n");
+            sb.append("/* Generated by ").append(BinderProcessor.class.getName()).append(" from ").append(entity).append(", do not edit. */\n");
+            sb.append("public final class ").append(binder).append(" {\n\n");
+            sb.append("    private ").append(binder).append("() {}\n\n");
+            sb.append("    /* Static Methods */\n\n");
+
+            sb.append("    public static ").append(entity).append(" create(Jmgur api) {\n");
+            sb.append("        final ").append(entity).append(" entity = new ").append(entity).append("(api);\n\n");
+            for (FieldBinding binding : bindings) {
+                if (binding.defaultValue != null)
+                    sb.append("        entity.").append(binding.setter).append('(').append(binding.defaultValue).append(");\n");
+            }
+            sb.append("        return entity;\n");
+            sb.append("    }\n\n");
+
+            sb.append("    public static ").append(entity).append(" read(Jmgur api, JsonParser p) throws IOException {\n");
+            sb.append("        final ").append(entity).append(" entity = create(api);\n\n");
+            sb.append("        JsonValues.readObject(p, name -> bind(api, entity, name, p));\n");
+            sb.append("        return entity;\n");
+            sb.append("    }\n\n");
+
+            sb.append("    public static ").append(entity).append(" read(Jmgur api, JsonParser p, Projection projection) throws IOException {\n");
+            sb.append("        final ").append(entity).append(" entity = create(api);\n\n");
+            sb.append("        JsonValues.readObject(p, name -> projection.includes(name) && bind(api, entity, name, p));\n");
+            sb.append("        return entity;\n");
+            sb.append("    }\n\n");
+
+            sb.append("    public static boolean bind(Jmgur api, ").append(entity).append(" entity, String name, JsonParser p) throws IOException {\n");
+            sb.append("        switch (name) {\n");
+            for (FieldBinding binding : bindings) {
+                sb.append("            case \"").append(binding.name).append("\":\n");
+                if (binding.nullable) {
+                    sb.append("                if (p.currentToken() != JsonToken.VALUE_NULL)\n    ");
+                }
+                sb.append("                entity.").append(binding.setter).append('(').append(binding.reader).append(");\n");
+                sb.append("                return true;\n");
+            }
+            sb.append("            default:\n");
+            sb.append("                return false;\n");
+            sb.append("        }\n");
+            sb.append("    }\n");
+            sb.append("}\n");
+            writer.write(sb.toString());
+        }
+    }
+
+    private String binderName(TypeElement type) {
+        return elements.getPackageOf(type).getQualifiedName() + "." + type.getSimpleName() + BINDER_SUFFIX;
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, String name) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(name))
+                return mirror;
+        }
+        return null;
+    }
+
+    private static String toSnakeCase(String name) {
+        final StringBuilder sb = new StringBuilder(name.length() + 4);
+
+        for (int i = 0; i < name.length(); i += 1) {
+            final char c = name.charAt(i);
+
+            if (Character.isUpperCase(c))
+                sb.append('_').append(Character.toLowerCase(c));
+            else
+                sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static String stripIs(String name) {
+        if (name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2)))
+            return name.substring(2);
+        return name;
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /* Inner Classes */
+
+    private static final class FieldBinding {
+
+        private final String name;
+        private final String setter;
+        private final String defaultValue;
+        private final String reader;
+        private final boolean nullable;
+
+        /* Constructors */
+
+        private FieldBinding(String name, String setter, String defaultValue, String reader) {
+            this(name, setter, defaultValue, reader, false);
+        }
+
+        private FieldBinding(String name, String setter, String defaultValue, String reader, boolean nullable) {
+            this.name = name;
+            this.setter = setter;
+            this.defaultValue = defaultValue;
+            this.reader = reader;
+            this.nullable = nullable;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.JmgurBuilder;
+import net.azzerial.jmgur.api.OAuth2;
+import net.azzerial.jmgur.api.entities.GalleryElement;
+import net.azzerial.jmgur.api.entities.subentities.EntityField;
+import net.azzerial.jmgur.internal.entities.EntityBinder;
+import net.azzerial.jmgur.internal.entities.binding.Projection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionBenchmark {
+
+    // Shape of a gallery page: 60 elements of which 12 are albums holding 10 images each.
+    private static final int ELEMENTS = 60;
+    private static final int ALBUM_EVERY = 5;
+    private static final int ALBUM_IMAGES = 10;
+
+    private final JsonFactory factory = new JsonFactory();
+
+    private Jmgur api;
+    private EntityBinder binder;
+    private EntityBinder projected;
+    private byte[] page;
+
+    /* Methods */
+
+    @Setup
+    public void setup() {
+        api = JmgurBuilder.of("bench")
+            .setOAuth(OAuth2.fromData("access-token", "refresh-token", 315360000L, "bench", 1L))
+            .build();
+        binder = api.getEntityBinder();
+        projected = binder.project(Projection.of(EntityField.ID, EntityField.LINK, EntityField.SCORE));
+        page = buildPage().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() {
+        api.shutdownNow();
+    }
+
+    @Benchmark
+    public List<GalleryElement> bindFull() throws IOException {
+        return bind(binder);
+    }
+
+    @Benchmark
+    public List<GalleryElement> bindProjected() throws IOException {
+        return bind(projected);
+    }
+
+    /* Internal */
+
+    private List<GalleryElement> bind(EntityBinder binder) throws IOException {
+        final List<GalleryElement> elements = new ArrayList<>(ELEMENTS);
+
+        try (JsonParser p = factory.createParser(page)) {
+            p.nextToken();
+            while (p.nextToken() != JsonToken.END_ARRAY)
+                elements.add(binder.readGalleryElement(p));
+        }
+        return elements;
+    }
+
+    private static String buildPage() {
+        final StringBuilder builder = new StringBuilder("[");
+
+        for (int i = 0; i < ELEMENTS; i += 1) {
+            if (i != 0)
+                builder.append(',');
+            if (i % ALBUM_EVERY == 0)
+                appendAlbum(builder, i);
+            else
+                appendImage(builder, "img" + i, true);
+        }
+        return builder.append(']').toString();
+    }
+
+    private static void appendAlbum(StringBuilder builder, int index) {
+        builder.append("{\"id\":\"alb").append(index).append("\",\"title\":\"Album ").append(index)
+            .append("\",\"description\":null,\"datetime\":1603539741,\"cover\":\"cov").append(index)
+            .append("\",\"cover_width\":640,\"cover_height\":1137,\"account_url\":\"someone\",\"account_id\":10356297,")
+            .append("\"privacy\":\"hidden\",\"layout\":\"blog\",\"views\":48213,\"link\":\"https://imgur.com/a/alb").append(index)
+            .append("\",\"ups\":1187,\"downs\":21,\"points\":1166,\"score\":1184,\"is_album\":true,\"vote\":null,")
+            .append("\"favorite\":false,\"nsfw\":false,\"section\":\"\",\"comment_count\":62,\"favorite_count\":133,")
+            .append("\"topic\":\"No Topic\",\"topic_id\":29,\"images_count\":").append(ALBUM_IMAGES)
+            .append(",\"in_gallery\":true,\"is_ad\":false,\"tags\":[],\"in_most_viral\":true,\"images\":[");
+        for (int i = 0; i < ALBUM_IMAGES; i += 1) {
+            if (i != 0)
+                builder.append(',');
+            appendImage(builder, "alb" + index + "i" + i, false);
+        }
+        builder.append("]}");
+    }
+
+    private static void appendImage(StringBuilder builder, String id, boolean gallery) {
+        builder.append("{\"id\":\"").append(id).append("\",\"title\":\"Image ").append(id)
+            .append("\",\"description\":\"Some description text\",\"datetime\":1603539703,\"type\":\"image/jpeg\",")
+            .append("\"animated\":false,\"width\":960,\"height\":1280,\"size\":148716,\"views\":27644,\"bandwidth\":4111183344,")
+            .append("\"vote\":null,\"favorite\":false,\"nsfw\":null,\"section\":null,\"account_url\":null,\"account_id\":null,")
+            .append("\"is_ad\":false,\"in_most_viral\":false,\"has_sound\":false,\"tags\":[],\"edited\":\"0\",\"in_gallery\":false,")
+            .append("\"link\":\"https://i.imgur.com/").append(id).append(".jpg\"");
+        if (gallery)
+            builder.append(",\"comment_count\":47,\"favorite_count\":58,\"ups\":903,\"downs\":11,\"points\":892,\"score\":912,\"is_album\":false");
+        builder.append('}');
+    }
+}
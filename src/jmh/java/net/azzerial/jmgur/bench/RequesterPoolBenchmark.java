@@ -0,0 +1,165 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.bench;
+
+import com.sun.net.httpserver.HttpServer;
+import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.JmgurBuilder;
+import net.azzerial.jmgur.api.OAuth2;
+import net.azzerial.jmgur.api.utils.config.ThreadingConfig;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RequesterPoolBenchmark {
+
+    private static final byte[] BODY = "{\"data\":{\"id\":\"bench\",\"title\":null,\"datetime\":1495556889,\"type\":\"image/png\",\"link\":\"https://i.imgur.com/bench.png\"},\"success\":true,\"status\":200}".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"platform", "virtual"})
+    public String pool;
+
+    @Param({"100", "1000"})
+    public int requests;
+
+    @Param({"50"})
+    public int latencyMillis;
+
+    private HttpServer server;
+    private ExecutorService serverPool;
+    private Jmgur api;
+
+    /* Methods */
+
+    @Setup
+    public void setup() throws IOException {
+        // The server side is the same for both pools, only the requester pool changes.
+        serverPool = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            try {
+                Thread.sleep(latencyMillis);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, BODY.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(BODY);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        server.setExecutor(serverPool);
+        server.start();
+
+        final int port = server.getAddress().getPort();
+        // Goes through the whole client (buckets, requester pool, callbacks), only the host is swapped for the local server.
+        final OkHttpClient.Builder http = new OkHttpClient.Builder()
+            .addInterceptor(chain -> {
+                final HttpUrl url = chain.request().url().newBuilder()
+                    .scheme("http")
+                    .host("127.0.0.1")
+                    .port(port)
+                    .build();
+
+                return chain.proceed(chain.request().newBuilder().url(url).build());
+            });
+        final JmgurBuilder builder = JmgurBuilder.of("client-id")
+            .setOAuth(OAuth2.fromData("access-token", "refresh-token", 315360000L, "bench", 1L))
+            .setHttpClientBuilder(http);
+
+        switch (pool) {
+            case "platform":
+                // Keeps the default ThreadingConfig requester pool.
+                break;
+            case "virtual":
+                if (!ThreadingConfig.isVirtualThreadSupported())
+                    throw new IllegalStateException("The virtual pool needs a Java 21 runtime and the Multi-Release jar on the classpath");
+                builder.setVirtualThreads(true);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown pool: " + pool);
+        }
+        api = builder.build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        api.shutdownNow();
+        server.stop(0);
+        serverPool.shutdownNow();
+    }
+
+    @Benchmark
+    public int queueRequests() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(requests);
+        final AtomicInteger failures = new AtomicInteger();
+
+        for (int i = 0; i < requests; i++) {
+            api.IMAGE.getImage("bench").queue(
+                image -> latch.countDown(),
+                t -> {
+                    failures.incrementAndGet();
+                    latch.countDown();
+                }
+            );
+        }
+        latch.await();
+        if (failures.get() != 0)
+            throw new IllegalStateException(failures.get() + " of " + requests + " requests failed");
+        return requests;
+    }
+
+    @Benchmark
+    public int submitRequests() {
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[requests];
+
+        for (int i = 0; i < requests; i++)
+            futures[i] = api.IMAGE.getImage("bench").submit();
+        CompletableFuture.allOf(futures).join();
+        return requests;
+    }
+}
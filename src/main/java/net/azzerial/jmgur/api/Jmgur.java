@@ -21,21 +21,35 @@
 
 package net.azzerial.jmgur.api;
 
+import net.azzerial.jmgur.api.requests.RateLimit;
+import net.azzerial.jmgur.api.utils.CacheStats;
+import net.azzerial.jmgur.api.utils.CircuitBreakerStats;
 import net.azzerial.jmgur.api.utils.config.AuthenticationConfig;
+import net.azzerial.jmgur.api.utils.config.CacheConfig;
+import net.azzerial.jmgur.api.utils.config.RequesterConfig;
 import net.azzerial.jmgur.api.utils.config.SessionConfig;
 import net.azzerial.jmgur.api.utils.config.ThreadingConfig;
+import net.azzerial.jmgur.api.utils.config.flags.CacheType;
 import net.azzerial.jmgur.internal.*;
+import net.azzerial.jmgur.internal.entities.EntityBinder;
 import net.azzerial.jmgur.internal.entities.EntityBuilder;
+import net.azzerial.jmgur.internal.entities.EntityCache;
 import net.azzerial.jmgur.internal.requests.Requester;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
+
 public final class Jmgur {
 
     private final AuthenticationConfig authenticationConfig;
     private final SessionConfig sessionConfig;
     private final ThreadingConfig threadingConfig;
+    private final RequesterConfig requesterConfig;
+    private final CacheConfig cacheConfig;
     private final Requester requester;
     private final EntityBuilder entityBuilder;
+    private final EntityBinder entityBinder;
+    private final EntityCache entityCache;
 
     public final AccountRepository ACCOUNT;
     public final AlbumRepository ALBUM;
@@ -45,12 +59,16 @@ public final class Jmgur {
 
     /* Constructors */
 
-    Jmgur(AuthenticationConfig authenticationConfig, SessionConfig sessionConfig, ThreadingConfig threadingConfig) {
+    Jmgur(AuthenticationConfig authenticationConfig, SessionConfig sessionConfig, ThreadingConfig threadingConfig, RequesterConfig requesterConfig, CacheConfig cacheConfig) {
         this.authenticationConfig = authenticationConfig;
         this.sessionConfig = sessionConfig;
         this.threadingConfig = threadingConfig;
+        this.requesterConfig = requesterConfig;
+        this.cacheConfig = cacheConfig;
         this.requester = new Requester(this);
         this.entityBuilder = new EntityBuilder(this);
+        this.entityBinder = new EntityBinder(this);
+        this.entityCache = new EntityCache(this, cacheConfig);
 
         // api repositories
         this.ACCOUNT = new AccountRepositoryImpl(this);
@@ -77,6 +95,16 @@ public final class Jmgur {
         return threadingConfig;
     }
 
+    @NotNull
+    public RequesterConfig getRequesterConfig() {
+        return requesterConfig;
+    }
+
+    @NotNull
+    public CacheConfig getCacheConfig() {
+        return cacheConfig;
+    }
+
     @NotNull
     public Requester getRequester() {
         return requester;
@@ -87,9 +115,35 @@ public final class Jmgur {
         return entityBuilder;
     }
 
+    @NotNull
+    public EntityBinder getEntityBinder() {
+        return entityBinder;
+    }
+
+    @NotNull
+    public EntityCache getEntityCache() {
+        return entityCache;
+    }
+
+    @NotNull
+    public CacheStats getCacheStats(@NotNull CacheType type) {
+        return entityCache.getStats(type);
+    }
+
+    @NotNull
+    public Map<String, CircuitBreakerStats> getCircuitBreakerStats() {
+        return requester.getCircuitBreakers().getStats();
+    }
+
+    @NotNull
+    public RateLimit getRateLimit() {
+        return requester.getRateLimiter().getRateLimit();
+    }
+
     /* Methods */
 
     public synchronized void shutdown() {
+        requester.shutdown();
         threadingConfig.shutdown();
     }
 
@@ -22,9 +22,16 @@
 package net.azzerial.jmgur.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import net.azzerial.jmgur.api.requests.ExponentialRetryPolicy;
+import net.azzerial.jmgur.api.requests.RetryPolicy;
 import net.azzerial.jmgur.api.utils.config.AuthenticationConfig;
+import net.azzerial.jmgur.api.utils.config.CacheConfig;
+import net.azzerial.jmgur.api.utils.config.CircuitBreakerConfig;
+import net.azzerial.jmgur.api.utils.config.RequesterConfig;
 import net.azzerial.jmgur.api.utils.config.SessionConfig;
 import net.azzerial.jmgur.api.utils.config.ThreadingConfig;
+import net.azzerial.jmgur.api.utils.config.flags.BucketStrategy;
+import net.azzerial.jmgur.api.utils.config.flags.CacheType;
 import net.azzerial.jmgur.api.utils.config.flags.ConfigFlag;
 import net.azzerial.jmgur.internal.utils.Check;
 import net.azzerial.jmgur.internal.utils.IOUtil;
@@ -32,8 +39,12 @@ import okhttp3.OkHttpClient;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
+import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public final class JmgurBuilder {
 
@@ -48,6 +59,21 @@ public final class JmgurBuilder {
     private boolean shutdownCallbackPool = true;
     private ExecutorService requesterPool;
     private boolean shutdownRequesterPool = true;
+    private ScheduledExecutorService schedulerPool;
+    private boolean shutdownSchedulerPool = true;
+    private boolean virtualThreads = false;
+    private BucketStrategy bucketStrategy = BucketStrategy.getDefault();
+    private int bucketConcurrency = RequesterConfig.DEFAULT_BUCKET_CONCURRENCY;
+    private File responseCacheDirectory;
+    private long responseCacheSize = RequesterConfig.DEFAULT_RESPONSE_CACHE_SIZE;
+    private long responseCacheTtl = RequesterConfig.DEFAULT_RESPONSE_CACHE_TTL;
+    private RetryPolicy retryPolicy = ExponentialRetryPolicy.getDefault();
+    private double retryBudget = RequesterConfig.DEFAULT_RETRY_BUDGET;
+    private double retryBudgetMinimum = RequesterConfig.DEFAULT_RETRY_BUDGET_MINIMUM;
+    private double hedgeBudget = RequesterConfig.DEFAULT_HEDGE_BUDGET;
+    private CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.getDefault();
+    private final EnumMap<CacheType, Integer> cacheSizes = new EnumMap<>(CacheType.class);
+    private final EnumMap<CacheType, Long> cacheTtls = new EnumMap<>(CacheType.class);
 
     /* Static Constructors */
 
@@ -90,6 +116,26 @@ public final class JmgurBuilder {
         return this;
     }
 
+    @NotNull
+    public JmgurBuilder setAsyncRequests(boolean enable) {
+        return setFlag(ConfigFlag.ASYNC_REQUESTS, enable);
+    }
+
+    @NotNull
+    public JmgurBuilder setCoalesceRequests(boolean enable) {
+        return setFlag(ConfigFlag.COALESCE_REQUESTS, enable);
+    }
+
+    @NotNull
+    public JmgurBuilder setStreamingParser(boolean enable) {
+        return setFlag(ConfigFlag.STREAMING_PARSER, enable);
+    }
+
+    @NotNull
+    public JmgurBuilder setLazyEntities(boolean enable) {
+        return setFlag(ConfigFlag.LAZY_ENTITIES, enable);
+    }
+
     @NotNull
     private JmgurBuilder setFlag(@NotNull ConfigFlag flag, boolean enable) {
         Check.notNull(flag, "flag");
@@ -124,6 +170,111 @@ public final class JmgurBuilder {
         return this;
     }
 
+    @NotNull
+    public JmgurBuilder setSchedulerPool(@Nullable ScheduledExecutorService pool) {
+        return setSchedulerPool(pool, pool == null);
+    }
+
+    @NotNull
+    public JmgurBuilder setSchedulerPool(@Nullable ScheduledExecutorService pool, boolean automaticShutdown) {
+        this.schedulerPool = pool;
+        this.shutdownSchedulerPool = automaticShutdown;
+        return this;
+    }
+
+    @NotNull
+    public JmgurBuilder setVirtualThreads(boolean enable) {
+        this.virtualThreads = enable;
+        return this;
+    }
+
+    @NotNull
+    public JmgurBuilder setBucketStrategy(@NotNull BucketStrategy strategy) {
+        Check.notNull(strategy, "strategy");
+        this.bucketStrategy = strategy;
+        return this;
+    }
+
+    @NotNull
+    public JmgurBuilder setBucketConcurrency(int concurrency) {
+        Check.positive(concurrency, "concurrency");
+        this.bucketConcurrency = concurrency;
+        return this;
+    }
+
+    @NotNull
+    public JmgurBuilder setResponseCache(@Nullable File directory) {
+        return setResponseCache(directory, RequesterConfig.DEFAULT_RESPONSE_CACHE_SIZE, RequesterConfig.DEFAULT_RESPONSE_CACHE_TTL, TimeUnit.MILLISECONDS);
+    }
+
+    @NotNull
+    public JmgurBuilder setResponseCache(@Nullable File directory, long maximumSize, long ttl, @NotNull TimeUnit unit) {
+        Check.positive(maximumSize, "maximumSize");
+        Check.notNegative(ttl, "ttl");
+        Check.notNull(unit, "unit");
+        this.responseCacheDirectory = directory;
+        this.responseCacheSize = maximumSize;
+        this.responseCacheTtl = unit.toMillis(ttl);
+        return this;
+    }
+
+    @NotNull
+    public JmgurBuilder setRetryPolicy(@Nullable RetryPolicy policy) {
+        this.retryPolicy = policy == null ? RetryPolicy.NONE : policy;
+        return this;
+    }
+
+    @NotNull
+    public JmgurBuilder setRetryBudget(double ratio) {
+        Check.check(ratio >= 0.0, "ratio must be positive or zero");
+        this.retryBudget = ratio;
+        return this;
+    }
+
+    @NotNull
+    public JmgurBuilder setRetryBudget(double ratio, double minimumPerSecond) {
+        Check.check(minimumPerSecond >= 0.0, "minimumPerSecond must be positive or zero");
+        this.retryBudgetMinimum = minimumPerSecond;
+        return setRetryBudget(ratio);
+    }
+
+    @NotNull
+    public JmgurBuilder setHedgeBudget(double ratio) {
+        Check.check(ratio >= 0.0, "ratio must be positive or zero");
+        this.hedgeBudget = ratio;
+        return this;
+    }
+
+    @NotNull
+    public JmgurBuilder setCircuitBreaker(@Nullable CircuitBreakerConfig config) {
+        this.circuitBreakerConfig = config == null ? CircuitBreakerConfig.getDefault() : config;
+        return this;
+    }
+
+    @NotNull
+    public JmgurBuilder enableCache(@NotNull CacheType type, int maximumSize) {
+        return enableCache(type, maximumSize, 0L, TimeUnit.MILLISECONDS);
+    }
+
+    @NotNull
+    public JmgurBuilder enableCache(@NotNull CacheType type, int maximumSize, long ttl, @NotNull TimeUnit unit) {
+        Check.notNull(type, "type");
+        Check.positive(maximumSize, "maximumSize");
+        Check.notNegative(ttl, "ttl");
+        Check.notNull(unit, "unit");
+        this.cacheSizes.put(type, maximumSize);
+        this.cacheTtls.put(type, unit.toMillis(ttl));
+        return this;
+    }
+
+    @NotNull
+    public JmgurBuilder disableCache(@NotNull CacheType type) {
+        Check.notNull(type, "type");
+        this.cacheSizes.remove(type);
+        this.cacheTtls.remove(type);
+        return this;
+    }
+
     /* Methods */
 
     public Jmgur build() {
@@ -144,9 +295,26 @@ public final class JmgurBuilder {
         final AuthenticationConfig authenticationConfig = new AuthenticationConfig(clientId, oauth::getAccessToken);
         final SessionConfig sessionConfig = new SessionConfig(httpClient, mapper, oauth, flags);
         final ThreadingConfig threadingConfig = new ThreadingConfig(JmgurInfo::getName);
-        threadingConfig.setCallbackPool(callbackPool, shutdownCallbackPool);
-        threadingConfig.setRequesterPool(requesterPool, shutdownRequesterPool);
+        if (virtualThreads) {
+            Check.check(ThreadingConfig.isVirtualThreadSupported(), "Virtual threads require Java 21 or newer");
+            threadingConfig.setCallbackPool(callbackPool == null ? ThreadingConfig.newVirtualExecutor(JmgurInfo::getName, "Callback") : callbackPool, callbackPool == null || shutdownCallbackPool);
+            threadingConfig.setRequesterPool(requesterPool == null ? ThreadingConfig.newVirtualExecutor(JmgurInfo::getName, "Requester") : requesterPool, requesterPool == null || shutdownRequesterPool);
+        } else {
+            threadingConfig.setCallbackPool(callbackPool, shutdownCallbackPool);
+            threadingConfig.setRequesterPool(requesterPool, shutdownRequesterPool);
+        }
+        threadingConfig.setSchedulerPool(schedulerPool, shutdownSchedulerPool);
+        final RequesterConfig requesterConfig = new RequesterConfig();
+        requesterConfig.setBucketStrategy(bucketStrategy);
+        requesterConfig.setBucketConcurrency(bucketConcurrency);
+        requesterConfig.setResponseCache(responseCacheDirectory, responseCacheSize, responseCacheTtl);
+        requesterConfig.setRetryPolicy(retryPolicy);
+        requesterConfig.setRetryBudget(retryBudget);
+        requesterConfig.setRetryBudgetMinimum(retryBudgetMinimum);
+        requesterConfig.setHedgeBudget(hedgeBudget);
+        requesterConfig.setCircuitBreakerConfig(circuitBreakerConfig);
+        final CacheConfig cacheConfig = new CacheConfig(cacheSizes, cacheTtls);
 
-        return new Jmgur(authenticationConfig, sessionConfig, threadingConfig);
+        return new Jmgur(authenticationConfig, sessionConfig, threadingConfig, requesterConfig, cacheConfig);
     }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.api.entities.subentities;
+
+import org.jetbrains.annotations.NotNull;
+
+public enum EntityField {
+    ACCOUNT_ID("account_id"),
+    ACCOUNT_URL("account_url"),
+    ANIMATED("animated"),
+    BANDWIDTH("bandwidth"),
+    COMMENT_COUNT("comment_count"),
+    COVER("cover"),
+    COVER_EDITED("cover_edited"),
+    COVER_HEIGHT("cover_height"),
+    COVER_WIDTH("cover_width"),
+    DATETIME("datetime"),
+    DELETE_HASH("deletehash"),
+    DESCRIPTION("description"),
+    DOWNS("downs"),
+    EDITED("edited"),
+    FAVORITE("favorite"),
+    FAVORITE_COUNT("favorite_count"),
+    GIFV("gifv"),
+    HAS_SOUND("has_sound"),
+    HEIGHT("height"),
+    HLS("hls"),
+    ID("id"),
+    IMAGES("images"),
+    IMAGES_COUNT("images_count"),
+    IN_GALLERY("in_gallery"),
+    IN_MOST_VIRAL("in_most_viral"),
+    IS_ALBUM("is_album"),
+    LAYOUT("layout"),
+    LINK("link"),
+    LOOPING("looping"),
+    MP4("mp4"),
+    MP4_SIZE("mp4_size"),
+    NAME("name"),
+    NSFW("nsfw"),
+    POINTS("points"),
+    PRIVACY("privacy"),
+    SCORE("score"),
+    SECTION("section"),
+    SIZE("size"),
+    TITLE("title"),
+    TYPE("type"),
+    UPS("ups"),
+    VIEWS("views"),
+    VOTE("vote"),
+    WIDTH("width");
+
+    private final String key;
+
+    /* Constructors */
+
+    EntityField(@NotNull String key) {
+        this.key = key;
+    }
+
+    /* Getters & Setters */
+
+    @NotNull
+    public String getKey() {
+        return key;
+    }
+}
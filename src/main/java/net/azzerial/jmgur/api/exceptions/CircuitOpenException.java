@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.api.exceptions;
+
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+
+public final class CircuitOpenException extends RuntimeException {
+
+    private final String name;
+    private final long retryAfter;
+
+    /* Constructors */
+
+    public CircuitOpenException(@NotNull String name, long retryAfter) {
+        super("The circuit breaker for " + name + " is open, requests are rejected for " + Math.max(retryAfter, 0L) + "ms");
+        Check.notNull(name, "name");
+        this.name = name;
+        this.retryAfter = Math.max(retryAfter, 0L);
+    }
+
+    /* Getters & Setters */
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    public long getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.api.requests;
+
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public final class BulkResult<T> {
+
+    private final List<T> results;
+    private final Map<Integer, Throwable> failures;
+
+    /* Constructors */
+
+    public BulkResult(@NotNull List<T> results, @NotNull Map<Integer, Throwable> failures) {
+        Check.notNull(results, "results");
+        Check.notNull(failures, "failures");
+        this.results = Collections.unmodifiableList(results);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /* Getters & Setters */
+
+    @NotNull
+    public List<T> getResults() {
+        return results;
+    }
+
+    @Nullable
+    public T getResult(int index) {
+        return results.get(index);
+    }
+
+    @NotNull
+    public List<T> getSuccesses() {
+        final List<T> successes = new ArrayList<>(results.size() - failures.size());
+        for (int i = 0; i < results.size(); i++) {
+            if (!failures.containsKey(i))
+                successes.add(results.get(i));
+        }
+        return Collections.unmodifiableList(successes);
+    }
+
+    @NotNull
+    public Map<Integer, Throwable> getFailures() {
+        return failures;
+    }
+
+    @Nullable
+    public Throwable getFailure(int index) {
+        return failures.get(index);
+    }
+
+    public int getTotal() {
+        return results.size();
+    }
+
+    public int getSuccessCount() {
+        return results.size() - failures.size();
+    }
+
+    public int getFailureCount() {
+        return failures.size();
+    }
+
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    /* Methods */
+
+    @Override
+    public String toString() {
+        return "BulkResult{" +
+            "total=" + getTotal() +
+            ", successCount=" + getSuccessCount() +
+            ", failureCount=" + getFailureCount() +
+            '}';
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.api.requests;
+
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+public final class ExponentialRetryPolicy implements RetryPolicy {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final long DEFAULT_BASE_DELAY = 100L;
+    public static final long DEFAULT_MAX_DELAY = 5_000L;
+
+    private final int maxAttempts;
+    private final long baseDelay;
+    private final long maxDelay;
+
+    /* Constructors */
+
+    public ExponentialRetryPolicy(int maxAttempts, long baseDelay, long maxDelay, @NotNull TimeUnit unit) {
+        Check.positive(maxAttempts, "maxAttempts");
+        Check.positive(baseDelay, "baseDelay");
+        Check.positive(maxDelay, "maxDelay");
+        Check.notNull(unit, "unit");
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = unit.toMillis(baseDelay);
+        this.maxDelay = Math.max(this.baseDelay, unit.toMillis(maxDelay));
+    }
+
+    /* Getters & Setters */
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getBaseDelay() {
+        return baseDelay;
+    }
+
+    public long getMaxDelay() {
+        return maxDelay;
+    }
+
+    /* Methods */
+
+    @Override
+    public long getRetryDelay(@NotNull Request<?> request, int attempt, int code, @Nullable IOException failure) {
+        if (attempt >= maxAttempts || !isRetryable(request, code, failure))
+            return NO_RETRY;
+
+        final long ceiling = Math.min(maxDelay, baseDelay << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    @NotNull
+    public static ExponentialRetryPolicy getDefault() {
+        return new ExponentialRetryPolicy(DEFAULT_MAX_ATTEMPTS, DEFAULT_BASE_DELAY, DEFAULT_MAX_DELAY, TimeUnit.MILLISECONDS);
+    }
+
+    /* Internal */
+
+    private static boolean isRetryable(@NotNull Request<?> request, int code, @Nullable IOException failure) {
+        if (failure instanceof ConnectException)
+            return true;
+        if (!RetryPolicy.isSafe(request))
+            return false;
+        if (failure != null)
+            return failure instanceof SocketTimeoutException;
+        return code >= 500;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.api.requests;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.OffsetDateTime;
+
+public final class RateLimit {
+
+    public static final int UNKNOWN = -1;
+
+    private final int clientLimit;
+    private final int clientRemaining;
+    private final OffsetDateTime clientReset;
+    private final int userLimit;
+    private final int userRemaining;
+    private final OffsetDateTime userReset;
+    private final int postLimit;
+    private final int postRemaining;
+    private final OffsetDateTime postReset;
+
+    /* Constructors */
+
+    public RateLimit(
+        int clientLimit, int clientRemaining, @Nullable OffsetDateTime clientReset,
+        int userLimit, int userRemaining, @Nullable OffsetDateTime userReset,
+        int postLimit, int postRemaining, @Nullable OffsetDateTime postReset
+    ) {
+        this.clientLimit = clientLimit;
+        this.clientRemaining = clientRemaining;
+        this.clientReset = clientReset;
+        this.userLimit = userLimit;
+        this.userRemaining = userRemaining;
+        this.userReset = userReset;
+        this.postLimit = postLimit;
+        this.postRemaining = postRemaining;
+        this.postReset = postReset;
+    }
+
+    /* Getters & Setters */
+
+    public int getClientLimit() {
+        return clientLimit;
+    }
+
+    public int getClientRemaining() {
+        return clientRemaining;
+    }
+
+    @Nullable
+    public OffsetDateTime getClientReset() {
+        return clientReset;
+    }
+
+    public int getUserLimit() {
+        return userLimit;
+    }
+
+    public int getUserRemaining() {
+        return userRemaining;
+    }
+
+    @Nullable
+    public OffsetDateTime getUserReset() {
+        return userReset;
+    }
+
+    public int getPostLimit() {
+        return postLimit;
+    }
+
+    public int getPostRemaining() {
+        return postRemaining;
+    }
+
+    @Nullable
+    public OffsetDateTime getPostReset() {
+        return postReset;
+    }
+
+    public boolean isKnown() {
+        return clientRemaining != UNKNOWN || userRemaining != UNKNOWN || postRemaining != UNKNOWN;
+    }
+
+    /* Methods */
+
+    @Override
+    public String toString() {
+        return "RateLimit{" +
+            "clientLimit=" + clientLimit +
+            ", clientRemaining=" + clientRemaining +
+            ", clientReset=" + clientReset +
+            ", userLimit=" + userLimit +
+            ", userRemaining=" + userRemaining +
+            ", userReset=" + userReset +
+            ", postLimit=" + postLimit +
+            ", postRemaining=" + postRemaining +
+            ", postReset=" + postReset +
+            '}';
+    }
+}
@@ -27,13 +27,16 @@ import net.azzerial.jmgur.api.exceptions.ErrorResponseException;
 import net.azzerial.jmgur.internal.requests.Route;
 import net.azzerial.jmgur.internal.requests.restaction.RestActionImpl;
 import net.azzerial.jmgur.internal.utils.Check;
+import net.azzerial.jmgur.internal.utils.concurrent.TimingWheel;
 import okhttp3.RequestBody;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public final class Request<T> {
 
@@ -44,9 +47,14 @@ public final class Request<T> {
     private final Route.CompiledRoute route;
     private final RequestBody body;
     private final long deadline;
+    private final Predicate<Object> elementSink;
 
     private boolean done = false;
-    private boolean isCancelled = false;
+    private volatile boolean isCancelled = false;
+    private BiConsumer<? super T, ? super Throwable> onComplete;
+    private volatile Runnable canceller;
+    private volatile TimingWheel.Timeout deadlineTimeout;
+    private volatile long attemptStart;
 
     /* Constructors */
 
@@ -54,6 +62,15 @@ public final class Request<T> {
         @NotNull RestActionImpl<T> restAction,
         @NotNull Consumer<? super T> onSuccess, @NotNull Consumer<? super Throwable> onFailure,
         @Nullable RequestBody body, long deadline, @NotNull Route.CompiledRoute route
+    ) {
+        this(restAction, onSuccess, onFailure, body, deadline, route, null);
+    }
+
+    public Request(
+        @NotNull RestActionImpl<T> restAction,
+        @NotNull Consumer<? super T> onSuccess, @NotNull Consumer<? super Throwable> onFailure,
+        @Nullable RequestBody body, long deadline, @NotNull Route.CompiledRoute route,
+        @Nullable Predicate<Object> elementSink
     ) {
         Check.notNull(restAction, "restAction");
         Check.notNull(onSuccess, "onSuccess");
@@ -67,6 +84,7 @@ public final class Request<T> {
         this.body = body;
         this.deadline = deadline;
         this.route = route;
+        this.elementSink = elementSink;
     }
 
     /* Getters & Setters */
@@ -101,10 +119,47 @@ public final class Request<T> {
         return route;
     }
 
+    public long getDeadline() {
+        return deadline;
+    }
+
+    @Nullable
+    public Predicate<Object> getElementSink() {
+        return elementSink;
+    }
+
+    public boolean isStreaming() {
+        return elementSink != null;
+    }
+
     public boolean isCancelled() {
         return isCancelled;
     }
 
+    public synchronized boolean isDone() {
+        return done;
+    }
+
+    public void setCanceller(@Nullable Runnable canceller) {
+        this.canceller = canceller;
+        if (canceller != null && isDone())
+            canceller.run();
+    }
+
+    public long getAttemptStart() {
+        return attemptStart;
+    }
+
+    public void setAttemptStart(long attemptStart) {
+        this.attemptStart = attemptStart;
+    }
+
+    public void setDeadlineTimeout(@Nullable TimingWheel.Timeout deadlineTimeout) {
+        this.deadlineTimeout = deadlineTimeout;
+        if (deadlineTimeout != null && isDone())
+            deadlineTimeout.cancel();
+    }
+
     public boolean isSkipped() {
         if (isTimeout()) {
             onTimeout();
@@ -120,12 +175,32 @@ public final class Request<T> {
 
     public void cancel() {
         this.isCancelled = true;
+        abort();
+    }
+
+    public void expire() {
+        onTimeout();
+        abort();
+    }
+
+    public boolean offer(@NotNull Object element) {
+        if (elementSink == null)
+            throw new IllegalStateException("The request is not streaming");
+        if (elementSink.test(element))
+            return true;
+        // Cancelling the call drops the connection rather than draining the rest of the body.
+        abort();
+        return false;
+    }
+
+    public void onComplete(@Nullable BiConsumer<? super T, ? super Throwable> onComplete) {
+        this.onComplete = onComplete;
     }
 
     public void onSuccess(@Nullable T successObj) {
-        if (done)
+        if (!markDone())
             return;
-        done = true;
+        notifyComplete(successObj, null);
         api.getThreadingConfig().getCallbackPool().execute(() -> {
             try {
                 onSuccess.accept(successObj);
@@ -142,9 +217,9 @@ public final class Request<T> {
     }
 
     public void onFailure(@Nullable Throwable failException) {
-        if (done)
+        if (!markDone())
             return;
-        done = true;
+        notifyComplete(null, failException);
         api.getThreadingConfig().getCallbackPool().execute(() -> {
             try {
                 onFailure.accept(failException);
@@ -170,6 +245,41 @@ public final class Request<T> {
 
     /* Internal */
 
+    private boolean markDone() {
+        synchronized (this) {
+            if (done)
+                return false;
+            done = true;
+        }
+        final TimingWheel.Timeout timeout = deadlineTimeout;
+        if (timeout != null)
+            timeout.cancel();
+        return true;
+    }
+
+    private void abort() {
+        final Runnable abort = canceller;
+        if (abort == null)
+            return;
+        try {
+            abort.run();
+        } catch (Throwable t) {
+            RestActionImpl.LOG.error("Encountered error while aborting a request", t);
+        }
+    }
+
+    private void notifyComplete(@Nullable T successObj, @Nullable Throwable failException) {
+        if (onComplete == null)
+            return;
+        try {
+            onComplete.accept(successObj, failException);
+        } catch (Throwable t) {
+            RestActionImpl.LOG.error("Encountered error while processing completion listener", t);
+            if (t instanceof Error)
+                throw (Error) t;
+        }
+    }
+
     private boolean isTimeout() {
         return deadline > 0 && deadline < System.currentTimeMillis();
     }
@@ -22,6 +22,7 @@
 
 package net.azzerial.jmgur.api.requests;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
@@ -183,6 +184,23 @@ public final class Response implements Closeable {
         return parseBody(typeOf, parser).orElseThrow(IllegalStateException::new);
     }
 
+    @NotNull
+    public <T> T parse(@NotNull IOFunction<JsonParser, T> parser) {
+        Check.notNull(parser, "parser");
+        return convert(in -> {
+            try (JsonParser jsonParser = api.getSessionConfig().getMapper().getFactory().createParser(in)) {
+                jsonParser.nextToken();
+                return parser.apply(jsonParser);
+            }
+        });
+    }
+
+    @NotNull
+    public <T> T parseBytes(@NotNull IOFunction<byte[], T> parser) {
+        Check.notNull(parser, "parser");
+        return convert(in -> parser.apply(IOUtil.readFully(in)));
+    }
+
     @NotNull
     public String getString() {
         return parseBody(String.class, this::readString).orElseGet(() -> fallbackString == null ? "N/A" : fallbackString);
@@ -190,6 +208,32 @@ public final class Response implements Closeable {
 
     /* Internal */
 
+    @NotNull
+    @SuppressWarnings({"unchecked", "ConstantConditions"})
+    private <T> T convert(@NotNull IOFunction<InputStream, T> converter) {
+        if (converted) {
+            if (object == null)
+                throw new IllegalStateException();
+            return (T) object;
+        }
+
+        converted = true;
+        if (body == null || rawResponse == null || rawResponse.body().contentLength() == 0)
+            throw new IllegalStateException();
+
+        final T t;
+        try {
+            t = converter.apply(body);
+        } catch (final IOException | RuntimeException e) {
+            throw new IllegalStateException("An error occurred while parsing the response for a RestAction", e);
+        }
+
+        if (t == null)
+            throw new IllegalStateException();
+        this.object = t;
+        return t;
+    }
+
     private String readString(@NotNull BufferedReader reader) {
         Check.notNull(reader, "reader");
         return reader.lines().collect(Collectors.joining("\n"));
@@ -29,6 +29,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 
 public final class RestFuture<T> extends CompletableFuture<T> {
 
@@ -37,8 +38,13 @@ public final class RestFuture<T> extends CompletableFuture<T> {
     /* Constructors */
 
     public RestFuture(@NotNull RestActionImpl<T> restAction, @Nullable RequestBody data, long deadline, @NotNull Route.CompiledRoute route) {
-        this.request = new Request<>(restAction, this::complete, this::completeExceptionally, data, deadline, route);
-        restAction.getApi().getRequester().request(this.request);
+        this(restAction, data, deadline, route, null);
+    }
+
+    public RestFuture(@NotNull RestActionImpl<T> restAction, @Nullable RequestBody data, long deadline, @NotNull Route.CompiledRoute route, @Nullable Predicate<Object> elementSink) {
+        this.request = new Request<>(restAction, this::complete, this::completeExceptionally, data, deadline, route, elementSink);
+        if (!restAction.completeFromCache(this.request))
+            restAction.getApi().getRequester().request(this.request);
     }
 
     public RestFuture(@Nullable T t) {
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.api.requests;
+
+import net.azzerial.jmgur.internal.requests.Method;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+
+@FunctionalInterface
+public interface RetryPolicy {
+
+    long NO_RETRY = -1L;
+
+    RetryPolicy NONE = (request, attempt, code, failure) -> NO_RETRY;
+
+    /* Methods */
+
+    long getRetryDelay(@NotNull Request<?> request, int attempt, int code, @Nullable IOException failure);
+
+    /* Static Methods */
+
+    static boolean isSafe(@NotNull Request<?> request) {
+        final Method method = request.getRoute().getMethod();
+        return method == Method.GET || method == Method.HEAD || method == Method.OPTIONS;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.azzerial.jmgur.api.requests.restaction;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+public interface PageRangeRestAction<T> extends RestAction<List<T>> {
+
+    /* Getters & Setters */
+
+    int getParallelism();
+
+    @NotNull
+    PageRangeRestAction<T> setParallelism(int parallelism);
+
+    boolean isOrdered();
+
+    @NotNull
+    PageRangeRestAction<T> setOrdered(boolean ordered);
+
+    @NotNull
+    PageRangeRestAction<T> onPage(@Nullable ObjIntConsumer<? super T> listener);
+}
@@ -17,10 +17,63 @@
 package net.azzerial.jmgur.api.requests.restaction;
 
 import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.entities.subentities.EntityField;
+import net.azzerial.jmgur.internal.requests.restaction.PagedIterator;
+import net.azzerial.jmgur.internal.requests.restaction.PagedPublisher;
+import net.azzerial.jmgur.internal.utils.Check;
 import org.jetbrains.annotations.NotNull;
+import org.reactivestreams.Publisher;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface PagedRestAction<T> {
 
+    /* Static Methods */
+
+    @NotNull
+    static <E> Iterator<E> iterator(@NotNull PagedRestAction<? extends Collection<? extends E>> action) {
+        return new PagedIterator<>(action);
+    }
+
+    @NotNull
+    static <E> Iterator<E> iterator(@NotNull PagedRestAction<? extends Collection<? extends E>> action, @NotNull Function<? super E, ?> distinctBy) {
+        Check.notNull(distinctBy, "distinctBy");
+        return new PagedIterator<>(action, distinctBy);
+    }
+
+    @NotNull
+    static <E> Stream<E> stream(@NotNull PagedRestAction<? extends Collection<? extends E>> action) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(action), Spliterator.ORDERED), false);
+    }
+
+    @NotNull
+    static <E> Stream<E> stream(@NotNull PagedRestAction<? extends Collection<? extends E>> action, @NotNull Function<? super E, ?> distinctBy) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(action, distinctBy), Spliterator.ORDERED | Spliterator.DISTINCT), false);
+    }
+
+    @NotNull
+    static <E> Publisher<E> publisher(@NotNull PagedRestAction<? extends Collection<? extends E>> action) {
+        return new PagedPublisher<>(action, PagedPublisher.DEFAULT_MAX_PAGES_IN_FLIGHT);
+    }
+
+    @NotNull
+    static <E> Publisher<E> publisher(@NotNull PagedRestAction<? extends Collection<? extends E>> action, int maxPagesInFlight) {
+        return new PagedPublisher<>(action, maxPagesInFlight);
+    }
+
+    @NotNull
+    static <E> Publisher<E> publisher(@NotNull PagedRestAction<? extends Collection<? extends E>> action, int maxPagesInFlight, @NotNull Function<? super E, ?> distinctBy) {
+        Check.notNull(distinctBy, "distinctBy");
+        return new PagedPublisher<>(action, maxPagesInFlight, distinctBy);
+    }
+
     /* Getters & Setters*/
 
     @NotNull
@@ -37,6 +90,25 @@ public interface PagedRestAction<T> {
 
     int page();
 
+    @NotNull
+    PageRangeRestAction<T> getRange(int from, int to);
+
+    int getPrefetch();
+
+    @NotNull
+    PagedRestAction<T> setPrefetch(int depth);
+
+    int getRetention();
+
+    @NotNull
+    PagedRestAction<T> setRetention(int pages);
+
+    @NotNull
+    PagedRestAction<T> setPageCache(long ttl, @NotNull TimeUnit unit);
+
+    @NotNull
+    PagedRestAction<T> project(@NotNull EntityField... fields);
+
     /* Methods */
 
     @NotNull
@@ -23,14 +23,30 @@
 package net.azzerial.jmgur.api.requests.restaction;
 
 import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.entities.subentities.EntityField;
 import net.azzerial.jmgur.internal.requests.restaction.RestActionImpl;
+import net.azzerial.jmgur.internal.requests.restaction.operator.AllOfRestAction;
+import net.azzerial.jmgur.internal.requests.restaction.operator.AnyOfRestAction;
+import net.azzerial.jmgur.internal.requests.restaction.operator.BulkRestActionImpl;
+import net.azzerial.jmgur.internal.requests.restaction.operator.DelayRestAction;
+import net.azzerial.jmgur.internal.requests.restaction.operator.ElementStreamRestAction;
+import net.azzerial.jmgur.internal.requests.restaction.operator.ErrorResumeRestAction;
+import net.azzerial.jmgur.internal.requests.restaction.operator.FlatMapRestAction;
+import net.azzerial.jmgur.internal.requests.restaction.operator.MapRestAction;
+import net.azzerial.jmgur.internal.requests.restaction.operator.ZipRestAction;
 import net.azzerial.jmgur.internal.utils.Check;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 public interface RestAction<T> {
 
@@ -62,6 +78,57 @@ public interface RestAction<T> {
         RestActionImpl.setDefaultTimeout(timeout, unit);
     }
 
+    /* Static Methods */
+
+    @NotNull
+    static <T> RestAction<List<T>> allOf(@NotNull Collection<? extends RestAction<? extends T>> actions) {
+        Check.notEmpty(actions, "actions");
+        Check.noneNull(actions, "actions");
+        return new AllOfRestAction<>(actions);
+    }
+
+    @NotNull
+    @SafeVarargs
+    static <T> RestAction<List<T>> allOf(@NotNull RestAction<? extends T>... actions) {
+        Check.check(actions != null, "actions may not be null");
+        final List<RestAction<? extends T>> list = new ArrayList<>(actions.length);
+        for (final RestAction<? extends T> action : actions)
+            list.add(action);
+        return allOf(list);
+    }
+
+    @NotNull
+    static <T> BulkRestAction<T> allOf(@NotNull Collection<? extends RestAction<? extends T>> actions, int maxInFlight) {
+        Check.notEmpty(actions, "actions");
+        Check.noneNull(actions, "actions");
+        Check.positive(maxInFlight, "maxInFlight");
+        return new BulkRestActionImpl<>(actions, maxInFlight);
+    }
+
+    @NotNull
+    static <T> RestAction<T> anyOf(@NotNull Collection<? extends RestAction<? extends T>> actions) {
+        Check.notEmpty(actions, "actions");
+        Check.noneNull(actions, "actions");
+        return new AnyOfRestAction<>(actions);
+    }
+
+    @NotNull
+    @SafeVarargs
+    static <T> RestAction<T> anyOf(@NotNull RestAction<? extends T>... actions) {
+        Check.check(actions != null, "actions may not be null");
+        final List<RestAction<? extends T>> list = new ArrayList<>(actions.length);
+        for (final RestAction<? extends T> action : actions)
+            list.add(action);
+        return anyOf(list);
+    }
+
+    @NotNull
+    static <E> RestAction<Integer> forEachElement(@NotNull RestAction<? extends Collection<? extends E>> action, @NotNull Predicate<? super E> consumer) {
+        Check.notNull(action, "action");
+        Check.notNull(consumer, "consumer");
+        return new ElementStreamRestAction<>(action, consumer);
+    }
+
     /* Getters & Setters */
 
     @NotNull
@@ -96,4 +163,54 @@ public interface RestAction<T> {
         Check.notNegative(timestamp, "timestamp");
         throw new UnsupportedOperationException();
     }
+
+    @NotNull
+    default <O> RestAction<O> map(@NotNull Function<? super T, ? extends O> function) {
+        Check.notNull(function, "function");
+        return new MapRestAction<>(this, function);
+    }
+
+    @NotNull
+    default <O> RestAction<O> flatMap(@NotNull Function<? super T, ? extends RestAction<? extends O>> function) {
+        Check.notNull(function, "function");
+        return new FlatMapRestAction<>(this, function);
+    }
+
+    @NotNull
+    default <U, O> RestAction<O> zip(@NotNull RestAction<U> other, @NotNull BiFunction<? super T, ? super U, ? extends O> function) {
+        Check.notNull(other, "other");
+        Check.notNull(function, "function");
+        return new ZipRestAction<>(this, other, function);
+    }
+
+    @NotNull
+    default RestAction<T> onErrorResume(@NotNull Function<? super Throwable, ? extends RestAction<? extends T>> fallback) {
+        Check.notNull(fallback, "fallback");
+        return new ErrorResumeRestAction<>(this, fallback);
+    }
+
+    @NotNull
+    default RestAction<T> delay(long delay, @NotNull TimeUnit unit) {
+        Check.notNegative(delay, "delay");
+        Check.notNull(unit, "unit");
+        return new DelayRestAction<>(this, delay, unit);
+    }
+
+    @NotNull
+    default RestAction<T> hedge() {
+        throw new UnsupportedOperationException();
+    }
+
+    @NotNull
+    default RestAction<T> hedge(long delay, @NotNull TimeUnit unit) {
+        Check.positive(delay, "delay");
+        Check.notNull(unit, "unit");
+        throw new UnsupportedOperationException();
+    }
+
+    @NotNull
+    default RestAction<T> project(@NotNull EntityField... fields) {
+        Check.notEmpty(fields, "fields");
+        throw new UnsupportedOperationException();
+    }
 }
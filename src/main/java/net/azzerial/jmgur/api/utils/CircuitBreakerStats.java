@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.api.utils;
+
+import net.azzerial.jmgur.api.requests.CircuitState;
+import org.jetbrains.annotations.NotNull;
+
+public final class CircuitBreakerStats {
+
+    private final String name;
+    private final CircuitState state;
+    private final int callCount;
+    private final double failureRate;
+    private final double slowCallRate;
+    private final long rejectedCount;
+
+    /* Constructors */
+
+    public CircuitBreakerStats(@NotNull String name, @NotNull CircuitState state, int callCount, double failureRate, double slowCallRate, long rejectedCount) {
+        this.name = name;
+        this.state = state;
+        this.callCount = callCount;
+        this.failureRate = failureRate;
+        this.slowCallRate = slowCallRate;
+        this.rejectedCount = rejectedCount;
+    }
+
+    /* Getters & Setters */
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    @NotNull
+    public CircuitState getState() {
+        return state;
+    }
+
+    public int getCallCount() {
+        return callCount;
+    }
+
+    public double getFailureRate() {
+        return failureRate;
+    }
+
+    public double getSlowCallRate() {
+        return slowCallRate;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /* Methods */
+
+    @Override
+    public String toString() {
+        return "CircuitBreakerStats{" +
+            "name=" + name +
+            ", state=" + state +
+            ", callCount=" + callCount +
+            ", failureRate=" + failureRate +
+            ", slowCallRate=" + slowCallRate +
+            ", rejectedCount=" + rejectedCount +
+            '}';
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.api.utils.config;
+
+import net.azzerial.jmgur.api.utils.config.flags.CacheType;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public final class CacheConfig {
+
+    private final Map<CacheType, Integer> maximumSizes;
+    private final Map<CacheType, Long> ttls;
+
+    /* Constructors */
+
+    public CacheConfig(@NotNull Map<CacheType, Integer> maximumSizes, @NotNull Map<CacheType, Long> ttls) {
+        Check.notNull(maximumSizes, "maximumSizes");
+        Check.notNull(ttls, "ttls");
+        this.maximumSizes = maximumSizes.isEmpty() ? new EnumMap<>(CacheType.class) : new EnumMap<>(maximumSizes);
+        this.ttls = ttls.isEmpty() ? new EnumMap<>(CacheType.class) : new EnumMap<>(ttls);
+    }
+
+    /* Getters & Setters */
+
+    public boolean isEnabled(@NotNull CacheType type) {
+        Check.notNull(type, "type");
+        return maximumSizes.containsKey(type);
+    }
+
+    public int getMaximumSize(@NotNull CacheType type) {
+        Check.notNull(type, "type");
+        return maximumSizes.getOrDefault(type, 0);
+    }
+
+    public long getTtl(@NotNull CacheType type) {
+        Check.notNull(type, "type");
+        return ttls.getOrDefault(type, 0L);
+    }
+
+    /* Methods */
+
+    @NotNull
+    public static CacheConfig getDefault() {
+        return new CacheConfig(new EnumMap<>(CacheType.class), new EnumMap<>(CacheType.class));
+    }
+}
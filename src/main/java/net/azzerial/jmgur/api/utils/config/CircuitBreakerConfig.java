@@ -0,0 +1,171 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.api.utils.config;
+
+import net.azzerial.jmgur.api.requests.CircuitBreakerListener;
+import net.azzerial.jmgur.api.utils.config.flags.BucketStrategy;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+public final class CircuitBreakerConfig {
+
+    public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+    public static final double DEFAULT_SLOW_CALL_RATE_THRESHOLD = 0.8;
+    public static final long DEFAULT_SLOW_CALL_DURATION = TimeUnit.SECONDS.toMillis(10);
+    public static final int DEFAULT_WINDOW_SIZE = 50;
+    public static final int DEFAULT_MINIMUM_CALLS = 20;
+    public static final long DEFAULT_OPEN_DURATION = TimeUnit.SECONDS.toMillis(30);
+    public static final int DEFAULT_HALF_OPEN_PROBES = 3;
+
+    private final List<CircuitBreakerListener> listeners = new CopyOnWriteArrayList<>();
+
+    private boolean enabled;
+    private BucketStrategy strategy;
+    private double failureRateThreshold;
+    private double slowCallRateThreshold;
+    private long slowCallDuration;
+    private int windowSize;
+    private int minimumCalls;
+    private long openDuration;
+    private int halfOpenProbes;
+
+    /* Constructors */
+
+    public CircuitBreakerConfig() {
+        this.enabled = false;
+        this.strategy = BucketStrategy.ENDPOINT_GROUP;
+        this.failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+        this.slowCallRateThreshold = DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+        this.slowCallDuration = DEFAULT_SLOW_CALL_DURATION;
+        this.windowSize = DEFAULT_WINDOW_SIZE;
+        this.minimumCalls = DEFAULT_MINIMUM_CALLS;
+        this.openDuration = DEFAULT_OPEN_DURATION;
+        this.halfOpenProbes = DEFAULT_HALF_OPEN_PROBES;
+    }
+
+    /* Getters & Setters */
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @NotNull
+    public BucketStrategy getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(@NotNull BucketStrategy strategy) {
+        Check.notNull(strategy, "strategy");
+        this.strategy = strategy;
+    }
+
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(double failureRateThreshold) {
+        Check.check(failureRateThreshold > 0.0 && failureRateThreshold <= 1.0, "failureRateThreshold must be in ]0, 1]");
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public double getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public void setSlowCallRateThreshold(double slowCallRateThreshold) {
+        Check.check(slowCallRateThreshold > 0.0 && slowCallRateThreshold <= 1.0, "slowCallRateThreshold must be in ]0, 1]");
+        this.slowCallRateThreshold = slowCallRateThreshold;
+    }
+
+    public long getSlowCallDuration() {
+        return slowCallDuration;
+    }
+
+    public void setSlowCallDuration(long slowCallDuration, @NotNull TimeUnit unit) {
+        Check.positive(slowCallDuration, "slowCallDuration");
+        Check.notNull(unit, "unit");
+        this.slowCallDuration = unit.toMillis(slowCallDuration);
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public void setWindow(int windowSize, int minimumCalls) {
+        Check.positive(windowSize, "windowSize");
+        Check.positive(minimumCalls, "minimumCalls");
+        Check.check(minimumCalls <= windowSize, "minimumCalls may not be greater than windowSize");
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+    }
+
+    public long getOpenDuration() {
+        return openDuration;
+    }
+
+    public void setOpenDuration(long openDuration, @NotNull TimeUnit unit) {
+        Check.positive(openDuration, "openDuration");
+        Check.notNull(unit, "unit");
+        this.openDuration = unit.toMillis(openDuration);
+    }
+
+    public int getHalfOpenProbes() {
+        return halfOpenProbes;
+    }
+
+    public void setHalfOpenProbes(int halfOpenProbes) {
+        Check.positive(halfOpenProbes, "halfOpenProbes");
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    @NotNull
+    public List<CircuitBreakerListener> getListeners() {
+        return Collections.unmodifiableList(listeners);
+    }
+
+    /* Methods */
+
+    public void addListener(@NotNull CircuitBreakerListener listener) {
+        Check.notNull(listener, "listener");
+        listeners.add(listener);
+    }
+
+    public void removeListener(@NotNull CircuitBreakerListener listener) {
+        Check.notNull(listener, "listener");
+        listeners.remove(listener);
+    }
+
+    @NotNull
+    public static CircuitBreakerConfig getDefault() {
+        final CircuitBreakerConfig config = new CircuitBreakerConfig();
+        config.setEnabled(false);
+        return config;
+    }
+}
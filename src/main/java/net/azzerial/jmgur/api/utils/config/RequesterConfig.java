@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.api.utils.config;
+
+import net.azzerial.jmgur.api.requests.ExponentialRetryPolicy;
+import net.azzerial.jmgur.api.requests.RetryPolicy;
+import net.azzerial.jmgur.api.utils.config.flags.BucketStrategy;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+public final class RequesterConfig {
+
+    public static final int DEFAULT_BUCKET_CONCURRENCY = 5;
+    public static final long DEFAULT_RESPONSE_CACHE_SIZE = 64L * 1024 * 1024;
+    public static final long DEFAULT_RESPONSE_CACHE_TTL = TimeUnit.MINUTES.toMillis(10);
+    public static final double DEFAULT_RETRY_BUDGET = 0.2;
+    public static final double DEFAULT_RETRY_BUDGET_MINIMUM = 2.0;
+    public static final double DEFAULT_HEDGE_BUDGET = 0.1;
+
+    private BucketStrategy bucketStrategy;
+    private int bucketConcurrency;
+    private File responseCacheDirectory;
+    private long responseCacheSize;
+    private long responseCacheTtl;
+    private RetryPolicy retryPolicy;
+    private double retryBudget;
+    private double retryBudgetMinimum;
+    private double hedgeBudget;
+    private CircuitBreakerConfig circuitBreakerConfig;
+
+    /* Constructors */
+
+    public RequesterConfig() {
+        this.bucketStrategy = BucketStrategy.getDefault();
+        this.bucketConcurrency = DEFAULT_BUCKET_CONCURRENCY;
+        this.responseCacheDirectory = null;
+        this.responseCacheSize = DEFAULT_RESPONSE_CACHE_SIZE;
+        this.responseCacheTtl = DEFAULT_RESPONSE_CACHE_TTL;
+        this.retryPolicy = ExponentialRetryPolicy.getDefault();
+        this.retryBudget = DEFAULT_RETRY_BUDGET;
+        this.retryBudgetMinimum = DEFAULT_RETRY_BUDGET_MINIMUM;
+        this.hedgeBudget = DEFAULT_HEDGE_BUDGET;
+        this.circuitBreakerConfig = CircuitBreakerConfig.getDefault();
+    }
+
+    /* Getters & Setters */
+
+    @NotNull
+    public BucketStrategy getBucketStrategy() {
+        return bucketStrategy;
+    }
+
+    public void setBucketStrategy(@NotNull BucketStrategy bucketStrategy) {
+        Check.notNull(bucketStrategy, "bucketStrategy");
+        this.bucketStrategy = bucketStrategy;
+    }
+
+    public int getBucketConcurrency() {
+        return bucketConcurrency;
+    }
+
+    public void setBucketConcurrency(int bucketConcurrency) {
+        Check.positive(bucketConcurrency, "bucketConcurrency");
+        this.bucketConcurrency = bucketConcurrency;
+    }
+
+    @Nullable
+    public File getResponseCacheDirectory() {
+        return responseCacheDirectory;
+    }
+
+    public long getResponseCacheSize() {
+        return responseCacheSize;
+    }
+
+    public long getResponseCacheTtl() {
+        return responseCacheTtl;
+    }
+
+    public void setResponseCache(@Nullable File directory, long size, long ttl) {
+        Check.positive(size, "size");
+        Check.notNegative(ttl, "ttl");
+        this.responseCacheDirectory = directory;
+        this.responseCacheSize = size;
+        this.responseCacheTtl = ttl;
+    }
+
+    @NotNull
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    public void setRetryPolicy(@NotNull RetryPolicy retryPolicy) {
+        Check.notNull(retryPolicy, "retryPolicy");
+        this.retryPolicy = retryPolicy;
+    }
+
+    public double getRetryBudget() {
+        return retryBudget;
+    }
+
+    public void setRetryBudget(double retryBudget) {
+        Check.check(retryBudget >= 0.0, "retryBudget must be positive or zero");
+        this.retryBudget = retryBudget;
+    }
+
+    public double getRetryBudgetMinimum() {
+        return retryBudgetMinimum;
+    }
+
+    public void setRetryBudgetMinimum(double retryBudgetMinimum) {
+        Check.check(retryBudgetMinimum >= 0.0, "retryBudgetMinimum must be positive or zero");
+        this.retryBudgetMinimum = retryBudgetMinimum;
+    }
+
+    public double getHedgeBudget() {
+        return hedgeBudget;
+    }
+
+    public void setHedgeBudget(double hedgeBudget) {
+        Check.check(hedgeBudget >= 0.0, "hedgeBudget must be positive or zero");
+        this.hedgeBudget = hedgeBudget;
+    }
+
+    @NotNull
+    public CircuitBreakerConfig getCircuitBreakerConfig() {
+        return circuitBreakerConfig;
+    }
+
+    public void setCircuitBreakerConfig(@NotNull CircuitBreakerConfig circuitBreakerConfig) {
+        Check.notNull(circuitBreakerConfig, "circuitBreakerConfig");
+        this.circuitBreakerConfig = circuitBreakerConfig;
+    }
+
+    /* Methods */
+
+    @NotNull
+    public static RequesterConfig getDefault() {
+        return new RequesterConfig();
+    }
+}
@@ -25,6 +25,7 @@ package net.azzerial.jmgur.api.utils.config;
 import net.azzerial.jmgur.api.JmgurInfo;
 import net.azzerial.jmgur.internal.utils.Check;
 import net.azzerial.jmgur.internal.utils.concurrent.CountingThreadFactory;
+import net.azzerial.jmgur.internal.utils.concurrent.VirtualThreads;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -37,9 +38,11 @@ public final class ThreadingConfig {
 
     private ExecutorService callbackPool;
     private ExecutorService requesterPool;
+    private ScheduledExecutorService schedulerPool;
 
     private boolean shutdownCallbackPool;
     private boolean shutdownRequesterPool;
+    private boolean shutdownSchedulerPool;
 
     /* Constructors */
 
@@ -47,8 +50,10 @@ public final class ThreadingConfig {
         this.identifier = identifier;
         this.callbackPool = ForkJoinPool.commonPool();
         this.requesterPool = defaultRequester();
+        this.schedulerPool = defaultScheduler();
         this.shutdownCallbackPool = false;
         this.shutdownRequesterPool = true;
+        this.shutdownSchedulerPool = true;
     }
 
     /* Getters & Setters */
@@ -81,6 +86,20 @@ public final class ThreadingConfig {
         return shutdownRequesterPool;
     }
 
+    @NotNull
+    public ScheduledExecutorService getSchedulerPool() {
+        return schedulerPool;
+    }
+
+    public void setSchedulerPool(@Nullable ScheduledExecutorService executor, boolean shutdown) {
+        this.schedulerPool = executor == null ? defaultScheduler() : executor;
+        this.shutdownSchedulerPool = executor == null || shutdown;
+    }
+
+    public boolean isShutdownSchedulerPool() {
+        return shutdownSchedulerPool;
+    }
+
     /* Methods */
 
     @NotNull
@@ -96,6 +115,31 @@ public final class ThreadingConfig {
         return new ThreadPoolExecutor(coreSize, coreSize * 2, keepAliveSeconds, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize), new CountingThreadFactory(identifier, baseName, daemon));
     }
 
+    @NotNull
+    public static ScheduledThreadPoolExecutor newScheduler(int coreSize, @NotNull Supplier<String> identifier, @NotNull String baseName) {
+        return newScheduler(coreSize, identifier, baseName, true);
+    }
+
+    @NotNull
+    public static ScheduledThreadPoolExecutor newScheduler(int coreSize, @NotNull Supplier<String> identifier, @NotNull String baseName, boolean daemon) {
+        Check.notNull(identifier, "identifier");
+        Check.notBlank(identifier.get(), "identifier#get");
+        Check.notBlank(baseName, "baseName");
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(coreSize, new CountingThreadFactory(identifier, baseName, daemon));
+
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        return VirtualThreads.isSupported();
+    }
+
+    @NotNull
+    public static ExecutorService newVirtualExecutor(@NotNull Supplier<String> identifier, @NotNull String baseName) {
+        return VirtualThreads.newExecutor(identifier, baseName);
+    }
+
     @NotNull
     public static ThreadingConfig getDefault() {
         return new ThreadingConfig(JmgurInfo::getName);
@@ -106,6 +150,8 @@ public final class ThreadingConfig {
             callbackPool.shutdown();
         if (shutdownRequesterPool)
             requesterPool.shutdown();
+        if (shutdownSchedulerPool)
+            schedulerPool.shutdown();
     }
 
     public void shutdownNow() {
@@ -113,6 +159,8 @@ public final class ThreadingConfig {
             callbackPool.shutdownNow();
         if (shutdownRequesterPool)
             requesterPool.shutdownNow();
+        if (shutdownSchedulerPool)
+            schedulerPool.shutdownNow();
     }
 
     /* Internal */
@@ -121,4 +169,9 @@ public final class ThreadingConfig {
     private ThreadPoolExecutor defaultRequester() {
         return newExecutor(5, 15L, 10, identifier, "Requester", false);
     }
+
+    @NotNull
+    private ScheduledThreadPoolExecutor defaultScheduler() {
+        return newScheduler(1, identifier, "Scheduler");
+    }
 }
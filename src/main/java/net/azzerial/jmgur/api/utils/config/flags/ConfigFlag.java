@@ -27,7 +27,11 @@ import org.jetbrains.annotations.NotNull;
 import java.util.EnumSet;
 
 public enum ConfigFlag {
-    RETRY_TIMEOUT(true);
+    ASYNC_REQUESTS,
+    COALESCE_REQUESTS,
+    RETRY_TIMEOUT(true),
+    STREAMING_PARSER,
+    LAZY_ENTITIES;
 
     private final boolean isDefault;
 
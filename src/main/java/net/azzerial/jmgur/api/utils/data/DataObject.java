@@ -22,6 +22,7 @@
 
 package net.azzerial.jmgur.api.utils.data;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -99,6 +100,15 @@ public class DataObject {
         }
     }
 
+    @NotNull
+    public static DataObject fromJson(@NotNull JsonParser parser) {
+        try {
+            return new DataObject(mapper.readValue(parser, mapType));
+        } catch (IOException ex) {
+            throw new ParsingException(ex);
+        }
+    }
+
     /* Constructors */
 
     DataObject(@NotNull Map<String, Object> data) {
@@ -24,10 +24,12 @@ import net.azzerial.jmgur.api.entities.subentities.CommentSort;
 import net.azzerial.jmgur.api.entities.subentities.FavoriteSort;
 import net.azzerial.jmgur.api.requests.restaction.PagedRestAction;
 import net.azzerial.jmgur.api.requests.restaction.RestAction;
+import net.azzerial.jmgur.api.utils.config.flags.CacheType;
 import net.azzerial.jmgur.api.utils.data.DataArray;
 import net.azzerial.jmgur.api.utils.data.DataObject;
 import net.azzerial.jmgur.api.utils.data.DataType;
 import net.azzerial.jmgur.internal.entities.AccountSettingsDTOImpl;
+import net.azzerial.jmgur.internal.entities.EntityBinder;
 import net.azzerial.jmgur.internal.entities.EntityBuilder;
 import net.azzerial.jmgur.internal.requests.Route;
 import net.azzerial.jmgur.internal.requests.restaction.PagedRestActionImpl;
@@ -63,15 +65,18 @@ public final class AccountRepositoryImpl implements AccountRepository {
     @Override
     public RestAction<Account> getUserAccount(@NotNull String name) {
         Check.notBlank(name, "name");
-        return new RestActionImpl<>(
+        final RestActionImpl<Account> action = new RestActionImpl<>(
             api,
             Route.AccountEndpoints.GET_USER_PROFILE.compile(name),
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataObject obj = res.getObject().getObject("data");
-                return builder.createAccount(obj);
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                final Account account = binder.bind(res, binder::readAccount, api.getEntityBuilder()::createAccount);
+
+                return binder.isProjected() ? account : api.getEntityCache().put(CacheType.ACCOUNT, name, account);
             }
         );
+
+        return action.setCacheLookup(() -> api.getEntityCache().get(CacheType.ACCOUNT, name));
     }
 
     @NotNull
@@ -82,9 +87,8 @@ public final class AccountRepositoryImpl implements AccountRepository {
             api,
             Route.AccountEndpoints.GET_USER_GALLERY_PROFILE.compile(name),
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataObject obj = res.getObject().getObject("data");
-                return builder.createGalleryProfile(obj);
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                return binder.bind(res, binder::readGalleryProfile, api.getEntityBuilder()::createGalleryProfile);
             }
         );
     }
@@ -118,7 +122,10 @@ public final class AccountRepositoryImpl implements AccountRepository {
         return new RestActionImpl<>(
             api,
             Route.AccountEndpoints.POST_SELF_BLOCK_CREATE.compile(name),
-            (req, res) -> res.isOk()
+            (req, res) -> {
+                api.getEntityCache().onUserBlocked(name);
+                return res.isOk();
+            }
         );
     }
 
@@ -129,7 +136,10 @@ public final class AccountRepositoryImpl implements AccountRepository {
         return new RestActionImpl<>(
             api,
             Route.AccountEndpoints.DELETE_SELF_BLOCK_CREATE.compile(name),
-            (req, res) -> res.isOk()
+            (req, res) -> {
+                api.getEntityCache().onUserBlocked(name);
+                return res.isOk();
+            }
         );
     }
 
@@ -146,15 +156,8 @@ public final class AccountRepositoryImpl implements AccountRepository {
             Route.AccountEndpoints.GET_USER_GALLERY_FAVORITES,
             new String[] {name, null, sort.getKey()},
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataArray arr = res.getObject().getArray("data");
-                final List<GalleryElement> galleryElements = new ArrayList<>();
-
-                for (int i = 0; i < arr.length(); i += 1) {
-                    final DataObject galleryElementObj = arr.getObject(i);
-                    galleryElements.add(builder.createGalleryElement(galleryElementObj));
-                }
-                return galleryElements;
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                return binder.bindList(res, binder::readGalleryElement, api.getEntityBuilder()::createGalleryElement);
             }
         );
     }
@@ -170,15 +173,8 @@ public final class AccountRepositoryImpl implements AccountRepository {
             Route.AccountEndpoints.GET_USER_FAVORITES,
             new String[] {name, null, sort.getKey()},
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataArray arr = res.getObject().getArray("data");
-                final List<GalleryElement> galleryElements = new ArrayList<>();
-
-                for (int i = 0; i < arr.length(); i += 1) {
-                    final DataObject galleryElementObj = arr.getObject(i);
-                    galleryElements.add(builder.createGalleryElement(galleryElementObj));
-                }
-                return galleryElements;
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                return binder.bindList(res, binder::readGalleryElement, api.getEntityBuilder()::createGalleryElement);
             }
         );
     }
@@ -192,15 +188,8 @@ public final class AccountRepositoryImpl implements AccountRepository {
             Route.AccountEndpoints.GET_USER_SUBMISSIONS,
             new String[] {name, null},
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataArray arr = res.getObject().getArray("data");
-                final List<GalleryElement> galleryElements = new ArrayList<>();
-
-                for (int i = 0; i < arr.length(); i += 1) {
-                    final DataObject galleryElementObj = arr.getObject(i);
-                    galleryElements.add(builder.createGalleryElement(galleryElementObj));
-                }
-                return galleryElements;
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                return binder.bindList(res, binder::readGalleryElement, api.getEntityBuilder()::createGalleryElement);
             }
         );
     }
@@ -259,9 +248,8 @@ public final class AccountRepositoryImpl implements AccountRepository {
             api,
             Route.AccountEndpoints.GET_SELF_SETTINGS.compile(),
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataObject obj = res.getObject().getObject("data");
-                return builder.createAccountSettings(obj);
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                return binder.bind(res, binder::readAccountSettings, api.getEntityBuilder()::createAccountSettings);
             }
         );
     }
@@ -297,15 +285,8 @@ public final class AccountRepositoryImpl implements AccountRepository {
             Route.AccountEndpoints.GET_USER_ALBUMS,
             new String[] {name, null},
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataArray arr = res.getObject().getArray("data");
-                final List<Album> albums = new ArrayList<>();
-
-                for (int i = 0; i < arr.length(); i += 1) {
-                    final DataObject albumObj = arr.getObject(i);
-                    albums.add(builder.createAlbum(albumObj));
-                }
-                return albums;
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                return binder.bindList(res, binder::readAlbum, api.getEntityBuilder()::createAlbum);
             }
         );
     }
@@ -319,9 +300,8 @@ public final class AccountRepositoryImpl implements AccountRepository {
             api,
             Route.AccountEndpoints.GET_USER_ALBUM.compile(name, hash),
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataObject obj = res.getObject().getObject("data");
-                return builder.createAlbum(obj);
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                return binder.bind(res, binder::readAlbum, api.getEntityBuilder()::createAlbum);
             }
         );
     }
@@ -370,7 +350,11 @@ public final class AccountRepositoryImpl implements AccountRepository {
             Route.AccountEndpoints.DELETE_USER_ALBUM.compile(name, deleteHash),
             (req, res) -> {
                 final DataObject obj = res.getObject();
-                return obj.hasKey("data") && obj.isType("data", DataType.BOOLEAN);
+                final boolean deleted = obj.hasKey("data") && obj.isType("data", DataType.BOOLEAN);
+
+                if (deleted)
+                    api.getEntityCache().onAlbumDeleted(deleteHash);
+                return deleted;
             }
         );
     }
@@ -390,15 +374,8 @@ public final class AccountRepositoryImpl implements AccountRepository {
             Route.AccountEndpoints.GET_USER_COMMENTS,
             new String[] {name, sort.getKey(), null},
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataArray arr = res.getObject().getArray("data");
-                final List<Comment> comments = new ArrayList<>();
-
-                for (int i = 0; i < arr.length(); i += 1) {
-                    final DataObject commentObj = arr.getObject(i);
-                    comments.add(builder.createComment(commentObj));
-                }
-                return comments;
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                return binder.bindList(res, binder::readComment, api.getEntityBuilder()::createComment);
             }
         );
     }
@@ -412,9 +389,8 @@ public final class AccountRepositoryImpl implements AccountRepository {
             api,
             Route.AccountEndpoints.GET_USER_COMMENT.compile(name, Long.toUnsignedString(id)),
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataObject obj = res.getObject().getObject("data");
-                return builder.createComment(obj);
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                return binder.bind(res, binder::readComment, api.getEntityBuilder()::createComment);
             }
         );
     }
@@ -466,7 +442,11 @@ public final class AccountRepositoryImpl implements AccountRepository {
             Route.AccountEndpoints.DELETE_SELF_COMMENT.compile("me", Long.toUnsignedString(id)),
             (req, res) -> {
                 final DataObject obj = res.getObject();
-                return obj.hasKey("data") && obj.isType("data", DataType.BOOLEAN);
+                final boolean deleted = obj.hasKey("data") && obj.isType("data", DataType.BOOLEAN);
+
+                if (deleted)
+                    api.getEntityCache().onCommentDeleted(id);
+                return deleted;
             }
         );
     }
@@ -481,15 +461,8 @@ public final class AccountRepositoryImpl implements AccountRepository {
             Route.AccountEndpoints.GET_SELF_IMAGES,
             new String[] {"me", null},
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataArray arr = res.getObject().getArray("data");
-                final List<Image> images = new ArrayList<>();
-
-                for (int i = 0; i < arr.length(); i += 1) {
-                    final DataObject imageObj = arr.getObject(i);
-                    images.add(builder.createImage(imageObj));
-                }
-                return images;
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                return binder.bindList(res, binder::readImage, api.getEntityBuilder()::createImage);
             }
         );
     }
@@ -503,9 +476,8 @@ public final class AccountRepositoryImpl implements AccountRepository {
             api,
             Route.AccountEndpoints.GET_USER_IMAGE.compile(name, hash),
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataObject obj = res.getObject().getObject("data");
-                return builder.createImage(obj);
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                return binder.bind(res, binder::readImage, api.getEntityBuilder()::createImage);
             }
         );
     }
@@ -554,7 +526,11 @@ public final class AccountRepositoryImpl implements AccountRepository {
             Route.AccountEndpoints.DELETE_USER_IMAGE.compile(name, deleteHash),
             (req, res) -> {
                 final DataObject obj = res.getObject();
-                return obj.hasKey("data") && obj.isType("data", DataType.BOOLEAN);
+                final boolean deleted = obj.hasKey("data") && obj.isType("data", DataType.BOOLEAN);
+
+                if (deleted)
+                    api.getEntityCache().onImageDeleted(deleteHash);
+                return deleted;
             }
         );
     }
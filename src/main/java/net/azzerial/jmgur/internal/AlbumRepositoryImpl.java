@@ -22,17 +22,16 @@ import net.azzerial.jmgur.api.entities.Album;
 import net.azzerial.jmgur.api.entities.Image;
 import net.azzerial.jmgur.api.entities.dto.AlbumInformationDTO;
 import net.azzerial.jmgur.api.requests.restaction.RestAction;
-import net.azzerial.jmgur.api.utils.data.DataArray;
+import net.azzerial.jmgur.api.utils.config.flags.CacheType;
 import net.azzerial.jmgur.api.utils.data.DataObject;
 import net.azzerial.jmgur.internal.entities.AlbumInformationDTOImpl;
-import net.azzerial.jmgur.internal.entities.EntityBuilder;
+import net.azzerial.jmgur.internal.entities.EntityBinder;
 import net.azzerial.jmgur.internal.requests.Route;
 import net.azzerial.jmgur.internal.requests.restaction.RestActionImpl;
 import net.azzerial.jmgur.internal.utils.Check;
 import okhttp3.MultipartBody;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class AlbumRepositoryImpl implements AlbumRepository {
@@ -59,15 +58,18 @@ public class AlbumRepositoryImpl implements AlbumRepository {
     @Override
     public RestAction<Album> getAlbum(@NotNull String hash) {
         Check.notBlank(hash, "hash");
-        return new RestActionImpl<>(
+        final RestActionImpl<Album> action = new RestActionImpl<>(
             api,
             Route.AlbumEndpoints.GET_ALBUM.compile(hash),
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataObject obj = res.getObject().getObject("data");
-                return builder.createAlbum(obj);
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                final Album album = binder.bind(res, binder::readAlbum, api.getEntityBuilder()::createAlbum);
+
+                return binder.isProjected() ? album : api.getEntityCache().put(CacheType.ALBUM, hash, album);
             }
         );
+
+        return action.setCacheLookup(() -> api.getEntityCache().get(CacheType.ALBUM, hash));
     }
 
     @NotNull
@@ -78,15 +80,8 @@ public class AlbumRepositoryImpl implements AlbumRepository {
             api,
             Route.AlbumEndpoints.GET_ALBUM_IMAGES.compile(hash),
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataArray arr = res.getObject().getArray("data");
-                final List<Image> images = new ArrayList<>();
-
-                for (int i = 0; i < arr.length(); i += 1) {
-                    final DataObject imageObj = arr.getObject(i);
-                    images.add(builder.createImage(imageObj));
-                }
-                return images;
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                return binder.bindList(res, binder::readImage, api.getEntityBuilder()::createImage);
             }
         );
     }
@@ -100,9 +95,8 @@ public class AlbumRepositoryImpl implements AlbumRepository {
             api,
             Route.AlbumEndpoints.GET_ALBUM_IMAGE.compile(albumHash, imageHash),
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataObject obj = res.getObject().getObject("data");
-                return builder.createImage(obj);
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                return binder.bind(res, binder::readImage, api.getEntityBuilder()::createImage);
             }
         );
     }
@@ -147,7 +141,11 @@ public class AlbumRepositoryImpl implements AlbumRepository {
             impl.isEmpty() ? null : body.build(),
             (req, res) -> {
                 final DataObject obj = res.getObject();
-                return obj.getBoolean("data");
+                final boolean updated = obj.getBoolean("data");
+
+                if (updated)
+                    api.getEntityCache().onAlbumUpdated(hash);
+                return updated;
             }
         );
     }
@@ -161,7 +159,11 @@ public class AlbumRepositoryImpl implements AlbumRepository {
             Route.AlbumEndpoints.DELETE_ALBUM.compile(hash),
             (req, res) -> {
                 final DataObject obj = res.getObject();
-                return obj.getBoolean("data");
+                final boolean deleted = obj.getBoolean("data");
+
+                if (deleted)
+                    api.getEntityCache().onAlbumDeleted(hash);
+                return deleted;
             }
         );
     }
@@ -175,7 +177,10 @@ public class AlbumRepositoryImpl implements AlbumRepository {
             Route.AlbumEndpoints.POST_ALBUM_FAVORITE.compile(hash),
             (req, res) -> {
                 final DataObject obj = res.getObject();
-                return obj.getString("data").equals("favorited");
+                final boolean favorited = obj.getString("data").equals("favorited");
+
+                api.getEntityCache().onAlbumFavorited(hash, favorited);
+                return favorited;
             }
         );
     }
@@ -196,7 +201,11 @@ public class AlbumRepositoryImpl implements AlbumRepository {
             imagesHash.isEmpty() ? null : body.build(),
             (req, res) -> {
                 final DataObject obj = res.getObject();
-                return obj.getBoolean("data");
+                final boolean updated = obj.getBoolean("data");
+
+                if (updated)
+                    api.getEntityCache().onAlbumImagesChanged(albumHash);
+                return updated;
             }
         );
     }
@@ -217,7 +226,11 @@ public class AlbumRepositoryImpl implements AlbumRepository {
             imagesHash.isEmpty() ? null : body.build(),
             (req, res) -> {
                 final DataObject obj = res.getObject();
-                return obj.getBoolean("data");
+                final boolean updated = obj.getBoolean("data");
+
+                if (updated)
+                    api.getEntityCache().onAlbumImagesChanged(albumHash);
+                return updated;
             }
         );
     }
@@ -238,7 +251,11 @@ public class AlbumRepositoryImpl implements AlbumRepository {
             imagesHash.isEmpty() ? null : body.build(),
             (req, res) -> {
                 final DataObject obj = res.getObject();
-                return obj.getBoolean("data");
+                final boolean updated = obj.getBoolean("data");
+
+                if (updated)
+                    api.getEntityCache().onAlbumImagesRemoved(albumHash, imagesHash);
+                return updated;
             }
         );
     }
@@ -23,9 +23,10 @@ import net.azzerial.jmgur.api.entities.dto.CommentInformationDTO;
 import net.azzerial.jmgur.api.entities.subentities.ReportReason;
 import net.azzerial.jmgur.api.entities.subentities.Vote;
 import net.azzerial.jmgur.api.requests.restaction.RestAction;
+import net.azzerial.jmgur.api.utils.config.flags.CacheType;
 import net.azzerial.jmgur.api.utils.data.DataObject;
 import net.azzerial.jmgur.internal.entities.CommentInformationDTOImpl;
-import net.azzerial.jmgur.internal.entities.EntityBuilder;
+import net.azzerial.jmgur.internal.entities.EntityBinder;
 import net.azzerial.jmgur.internal.requests.Route;
 import net.azzerial.jmgur.internal.requests.restaction.RestActionImpl;
 import net.azzerial.jmgur.internal.utils.Check;
@@ -57,15 +58,18 @@ public class CommentRepositoryImpl implements CommentRepository {
     @Override
     public RestAction<Comment> getComment(long id) {
         Check.positive(id, "id");
-        return new RestActionImpl<>(
+        final RestActionImpl<Comment> action = new RestActionImpl<>(
             api,
             Route.CommentEndpoints.GET_COMMENT.compile(Long.toUnsignedString(id)),
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataObject obj = res.getObject().getObject("data");
-                return builder.createComment(obj);
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                final Comment comment = binder.bind(res, binder::readComment, api.getEntityBuilder()::createComment);
+
+                return binder.isProjected() ? comment : api.getEntityCache().put(CacheType.COMMENT, id, comment);
             }
         );
+
+        return action.setCacheLookup(() -> api.getEntityCache().get(CacheType.COMMENT, id));
     }
 
     @NotNull
@@ -102,7 +106,11 @@ public class CommentRepositoryImpl implements CommentRepository {
             Route.CommentEndpoints.DELETE_COMMENT.compile(Long.toUnsignedString(id)),
             (req, res) -> {
                 final DataObject obj = res.getObject();
-                return obj.getBoolean("data");
+                final boolean deleted = obj.getBoolean("data");
+
+                if (deleted)
+                    api.getEntityCache().onCommentDeleted(id);
+                return deleted;
             }
         );
     }
@@ -115,9 +123,8 @@ public class CommentRepositoryImpl implements CommentRepository {
             api,
             Route.CommentEndpoints.GET_COMMENT_REPLIES.compile(Long.toUnsignedString(id)),
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataObject obj = res.getObject().getObject("data");
-                return builder.createComment(obj);
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                return binder.bind(res, binder::readComment, api.getEntityBuilder()::createComment);
             }
         );
     }
@@ -161,7 +168,11 @@ public class CommentRepositoryImpl implements CommentRepository {
             Route.CommentEndpoints.POST_COMMENT_VOTE.compile(Long.toUnsignedString(id), vote.getKey()),
             (req, res) -> {
                 final DataObject obj = res.getObject();
-                return obj.getBoolean("data");
+                final boolean voted = obj.getBoolean("data");
+
+                if (voted)
+                    api.getEntityCache().onCommentVoted(id, vote);
+                return voted;
             }
         );
     }
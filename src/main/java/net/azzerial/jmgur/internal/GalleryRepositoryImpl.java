@@ -27,9 +27,9 @@ import net.azzerial.jmgur.api.entities.subentities.ReportReason;
 import net.azzerial.jmgur.api.entities.subentities.Vote;
 import net.azzerial.jmgur.api.requests.restaction.PagedRestAction;
 import net.azzerial.jmgur.api.requests.restaction.RestAction;
-import net.azzerial.jmgur.api.utils.data.DataArray;
+import net.azzerial.jmgur.api.utils.config.flags.CacheType;
 import net.azzerial.jmgur.api.utils.data.DataObject;
-import net.azzerial.jmgur.internal.entities.EntityBuilder;
+import net.azzerial.jmgur.internal.entities.EntityBinder;
 import net.azzerial.jmgur.internal.entities.GalleryDTOImpl;
 import net.azzerial.jmgur.internal.entities.GallerySearchDTOImpl;
 import net.azzerial.jmgur.internal.entities.GalleryShareDTOImpl;
@@ -41,7 +41,6 @@ import okhttp3.MultipartBody;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -85,15 +84,8 @@ public class GalleryRepositoryImpl implements GalleryRepository {
                 "album_previews", String.valueOf(impl.isAlbumPreviews())
             },
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataArray arr = res.getObject().getArray("data");
-                final List<GalleryElement> galleryElements = new ArrayList<>();
-
-                for (int i = 0; i < arr.length(); i += 1) {
-                    final DataObject galleryElementObj = arr.getObject(i);
-                    galleryElements.add(builder.createGalleryElement(galleryElementObj));
-                }
-                return galleryElements;
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                return binder.bindList(res, binder::readGalleryElement, api.getEntityBuilder()::createGalleryElement);
             }
         );
     }
@@ -127,15 +119,8 @@ public class GalleryRepositoryImpl implements GalleryRepository {
             },
             queryParams.toArray(new String[]{}),
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataArray arr = res.getObject().getArray("data");
-                final List<GalleryElement> galleryElements = new ArrayList<>();
-
-                for (int i = 0; i < arr.length(); i += 1) {
-                    final DataObject galleryElementObj = arr.getObject(i);
-                    galleryElements.add(builder.createGalleryElement(galleryElementObj));
-                }
-                return galleryElements;
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                return binder.bindList(res, binder::readGalleryElement, api.getEntityBuilder()::createGalleryElement);
             }
         );
     }
@@ -144,30 +129,36 @@ public class GalleryRepositoryImpl implements GalleryRepository {
     @Override
     public RestAction<GalleryAlbum> getGalleryAlbum(@NotNull String hash) {
         Check.notBlank(hash, "hash");
-        return new RestActionImpl<>(
+        final RestActionImpl<GalleryAlbum> action = new RestActionImpl<>(
             api,
             Route.GalleryEndpoints.GET_GALLERY_ALBUM.compile(hash),
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataObject obj = res.getObject().getObject("data");
-                return builder.createGalleryAlbum(obj);
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                final GalleryAlbum galleryAlbum = binder.bind(res, binder::readGalleryAlbum, api.getEntityBuilder()::createGalleryAlbum);
+
+                return binder.isProjected() ? galleryAlbum : api.getEntityCache().put(CacheType.GALLERY_ALBUM, hash, galleryAlbum);
             }
         );
+
+        return action.setCacheLookup(() -> api.getEntityCache().get(CacheType.GALLERY_ALBUM, hash));
     }
 
     @NotNull
     @Override
     public RestAction<GalleryImage> getGalleryImage(@NotNull String hash) {
         Check.notBlank(hash, "hash");
-        return new RestActionImpl<>(
+        final RestActionImpl<GalleryImage> action = new RestActionImpl<>(
             api,
             Route.GalleryEndpoints.GET_GALLERY_IMAGE.compile(hash),
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataObject obj = res.getObject().getObject("data");
-                return builder.createGalleryImage(obj);
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                final GalleryImage galleryImage = binder.bind(res, binder::readGalleryImage, api.getEntityBuilder()::createGalleryImage);
+
+                return binder.isProjected() ? galleryImage : api.getEntityCache().put(CacheType.GALLERY_IMAGE, hash, galleryImage);
             }
         );
+
+        return action.setCacheLookup(() -> api.getEntityCache().get(CacheType.GALLERY_IMAGE, hash));
     }
 
     /* Sharing */
@@ -191,7 +182,11 @@ public class GalleryRepositoryImpl implements GalleryRepository {
             impl.isEmpty() ? null : body.build(),
             (req, res) -> {
                 final DataObject obj = res.getObject();
-                return obj.getBoolean("data");
+                final boolean shared = obj.getBoolean("data");
+
+                if (shared)
+                    api.getEntityCache().onGalleryPostShared(hash);
+                return shared;
             }
         );
     }
@@ -215,7 +210,11 @@ public class GalleryRepositoryImpl implements GalleryRepository {
             impl.isEmpty() ? null : body.build(),
             (req, res) -> {
                 final DataObject obj = res.getObject();
-                return obj.getBoolean("data");
+                final boolean shared = obj.getBoolean("data");
+
+                if (shared)
+                    api.getEntityCache().onGalleryPostShared(hash);
+                return shared;
             }
         );
     }
@@ -229,7 +228,11 @@ public class GalleryRepositoryImpl implements GalleryRepository {
             Route.GalleryEndpoints.DELETE_FROM_GALLERY.compile(hash),
             (req, res) -> {
                 final DataObject obj = res.getObject();
-                return obj.getBoolean("data");
+                final boolean removed = obj.getBoolean("data");
+
+                if (removed)
+                    api.getEntityCache().onGalleryPostRemoved(hash);
+                return removed;
             }
         );
     }
@@ -265,9 +268,8 @@ public class GalleryRepositoryImpl implements GalleryRepository {
             api,
             Route.GalleryEndpoints.GET_ELEMENT_VOTES.compile(hash),
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataObject obj = res.getObject().getObject("data");
-                return builder.createVotes(obj);
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                return binder.bind(res, binder::readVotes, api.getEntityBuilder()::createVotes);
             }
         );
     }
@@ -283,7 +285,11 @@ public class GalleryRepositoryImpl implements GalleryRepository {
             Route.GalleryEndpoints.POST_ELEMENT_VOTE.compile(hash, vote.getKey()),
             (req, res) -> {
                 final DataObject obj = res.getObject();
-                return obj.getBoolean("data");
+                final boolean voted = obj.getBoolean("data");
+
+                if (voted)
+                    api.getEntityCache().onGalleryPostVoted(hash, vote);
+                return voted;
             }
         );
     }
@@ -303,15 +309,8 @@ public class GalleryRepositoryImpl implements GalleryRepository {
             api,
             Route.GalleryEndpoints.GET_ELEMENT_COMMENTS.compile(hash, sort.getKey()),
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataArray arr = res.getObject().getArray("data");
-                final List<Comment> comments = new ArrayList<>();
-
-                for (int i = 0; i < arr.length(); i += 1) {
-                    final DataObject commentObj = arr.getObject(i);
-                    comments.add(builder.createComment(commentObj));
-                }
-                return comments;
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                return binder.bindList(res, binder::readComment, api.getEntityBuilder()::createComment);
             }
         );
     }
@@ -325,9 +324,8 @@ public class GalleryRepositoryImpl implements GalleryRepository {
             api,
             Route.GalleryEndpoints.GET_ELEMENT_COMMENT.compile(hash, Long.toUnsignedString(id)),
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataObject obj = res.getObject().getObject("data");
-                return builder.createComment(obj);
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                return binder.bind(res, binder::readComment, api.getEntityBuilder()::createComment);
             }
         );
     }
@@ -23,8 +23,9 @@ import net.azzerial.jmgur.api.entities.dto.ImageInformationDTO;
 import net.azzerial.jmgur.api.entities.dto.ImageUploadDTO;
 import net.azzerial.jmgur.api.entities.subentities.UploadFileType;
 import net.azzerial.jmgur.api.requests.restaction.RestAction;
+import net.azzerial.jmgur.api.utils.config.flags.CacheType;
 import net.azzerial.jmgur.api.utils.data.DataObject;
-import net.azzerial.jmgur.internal.entities.EntityBuilder;
+import net.azzerial.jmgur.internal.entities.EntityBinder;
 import net.azzerial.jmgur.internal.entities.ImageInformationDTOImpl;
 import net.azzerial.jmgur.internal.entities.ImageUploadDTOImpl;
 import net.azzerial.jmgur.internal.requests.Route;
@@ -60,15 +61,18 @@ public class ImageRepositoryImpl implements ImageRepository {
     @Override
     public RestAction<Image> getImage(@NotNull String hash) {
         Check.notBlank(hash, "hash");
-        return new RestActionImpl<>(
+        final RestActionImpl<Image> action = new RestActionImpl<>(
             api,
             Route.ImageEndpoints.GET_IMAGE.compile(hash),
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataObject obj = res.getObject().getObject("data");
-                return builder.createImage(obj);
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                final Image image = binder.bind(res, binder::readImage, api.getEntityBuilder()::createImage);
+
+                return binder.isProjected() ? image : api.getEntityCache().put(CacheType.IMAGE, hash, image);
             }
         );
+
+        return action.setCacheLookup(() -> api.getEntityCache().get(CacheType.IMAGE, hash));
     }
 
     @NotNull
@@ -97,9 +101,8 @@ public class ImageRepositoryImpl implements ImageRepository {
             Route.ImageEndpoints.POST_IMAGE.compile(),
             body.build(),
             (req, res) -> {
-                final EntityBuilder builder = api.getEntityBuilder();
-                final DataObject obj = res.getObject().getObject("data");
-                return builder.createImage(obj);
+                final EntityBinder binder = api.getEntityBinder().forRequest(req);
+                return binder.bind(res, binder::readImage, api.getEntityBuilder()::createImage);
             }
         );
     }
@@ -113,7 +116,11 @@ public class ImageRepositoryImpl implements ImageRepository {
             Route.ImageEndpoints.DELETE_IMAGE.compile(hash),
             (req, res) -> {
                 final DataObject obj = res.getObject();
-                return obj.getBoolean("data");
+                final boolean deleted = obj.getBoolean("data");
+
+                if (deleted)
+                    api.getEntityCache().onImageDeleted(hash);
+                return deleted;
             }
         );
     }
@@ -134,7 +141,11 @@ public class ImageRepositoryImpl implements ImageRepository {
             impl.isEmpty() ? null : body.build(),
             (req, res) -> {
                 final DataObject obj = res.getObject();
-                return obj.getBoolean("data");
+                final boolean updated = obj.getBoolean("data");
+
+                if (updated)
+                    api.getEntityCache().onImageInformationUpdated(hash, impl.getMap());
+                return updated;
             }
         );
     }
@@ -148,7 +159,10 @@ public class ImageRepositoryImpl implements ImageRepository {
             Route.ImageEndpoints.POST_IMAGE_FAVORITE.compile(hash),
             (req, res) -> {
                 final DataObject obj = res.getObject();
-                return obj.getString("data").equals("favorited");
+                final boolean favorited = obj.getString("data").equals("favorited");
+
+                api.getEntityCache().onImageFavorited(hash, favorited);
+                return favorited;
             }
         );
     }
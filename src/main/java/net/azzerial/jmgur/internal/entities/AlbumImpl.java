@@ -22,6 +22,8 @@ import net.azzerial.jmgur.api.entities.Album;
 import net.azzerial.jmgur.api.entities.Image;
 import net.azzerial.jmgur.api.entities.subentities.AlbumLayout;
 import net.azzerial.jmgur.api.entities.subentities.AlbumPrivacy;
+import net.azzerial.jmgur.internal.entities.binding.JsonEntity;
+import net.azzerial.jmgur.internal.entities.binding.JsonField;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -31,7 +33,8 @@ import java.util.List;
 import static net.azzerial.jmgur.internal.utils.Helper.print;
 
 @Setter
-public final class AlbumImpl implements Album {
+@JsonEntity
+public final class AlbumImpl implements Album, Cloneable {
 
     private final transient Jmgur api;
 
@@ -55,7 +58,9 @@ public final class AlbumImpl implements Album {
     private int imagesCount;
     private boolean inGallery;
     private boolean isAlbum;
+    @JsonField("deletehash")
     private String deleteHash;
+    @JsonField(element = ImageImpl.class)
     private List<Image> images;
 
     /* Constructors */
@@ -196,6 +201,15 @@ public final class AlbumImpl implements Album {
 
     /* Methods */
 
+    @NotNull
+    AlbumImpl copy() {
+        try {
+            return (AlbumImpl) clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
     @Override
     public String toString() {
         return "Album{" +
@@ -20,6 +20,8 @@ import lombok.Setter;
 import net.azzerial.jmgur.api.Jmgur;
 import net.azzerial.jmgur.api.entities.Comment;
 import net.azzerial.jmgur.api.entities.subentities.Vote;
+import net.azzerial.jmgur.internal.entities.binding.JsonEntity;
+import net.azzerial.jmgur.internal.entities.binding.JsonField;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -29,7 +31,8 @@ import java.util.List;
 import static net.azzerial.jmgur.internal.utils.Helper.print;
 
 @Setter
-public final class CommentImpl implements Comment {
+@JsonEntity
+public final class CommentImpl implements Comment, Cloneable {
 
     private final transient Jmgur api;
 
@@ -42,11 +45,13 @@ public final class CommentImpl implements Comment {
     private String albumCover;
     private int ups;
     private int downs;
+    @JsonField(signed = true)
     private int points;
     private OffsetDateTime datetime;
     private long parentId;
     private boolean deleted;
     private Vote vote;
+    @JsonField(element = CommentImpl.class)
     private List<Comment> children;
 
     /* Constructors */
@@ -147,6 +152,15 @@ public final class CommentImpl implements Comment {
 
     /* Methods */
 
+    @NotNull
+    CommentImpl copy() {
+        try {
+            return (CommentImpl) clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
     @Override
     public String toString() {
         return "Comment{" +
@@ -0,0 +1,317 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.azzerial.jmgur.internal.entities;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.entities.*;
+import net.azzerial.jmgur.api.entities.subentities.AlbumPrivacy;
+import net.azzerial.jmgur.api.entities.subentities.ImagePrivacy;
+import net.azzerial.jmgur.api.requests.Request;
+import net.azzerial.jmgur.api.requests.Response;
+import net.azzerial.jmgur.api.utils.IOFunction;
+import net.azzerial.jmgur.api.utils.config.flags.ConfigFlag;
+import net.azzerial.jmgur.api.utils.data.DataArray;
+import net.azzerial.jmgur.api.utils.data.DataObject;
+import net.azzerial.jmgur.internal.entities.binding.ByteSourceParser;
+import net.azzerial.jmgur.internal.entities.binding.Projection;
+import net.azzerial.jmgur.internal.entities.lazy.LazyGalleryElementImpl;
+import net.azzerial.jmgur.internal.entities.lazy.LazyImageImpl;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static net.azzerial.jmgur.internal.entities.binding.JsonValues.*;
+import static net.azzerial.jmgur.internal.utils.Helper.fromEpochSecond;
+
+public final class EntityBinder {
+
+    private final Jmgur api;
+    private final Projection projection;
+    private final Predicate<Object> sink;
+
+    /* Constructors */
+
+    public EntityBinder(@NotNull Jmgur api) {
+        this(api, null, null);
+    }
+
+    private EntityBinder(@NotNull Jmgur api, @Nullable Projection projection, @Nullable Predicate<Object> sink) {
+        this.api = api;
+        this.projection = projection;
+        this.sink = sink;
+    }
+
+    /* Getters & Setters */
+
+    public Jmgur getApi() {
+        return api;
+    }
+
+    @Nullable
+    public Projection getProjection() {
+        return projection;
+    }
+
+    public boolean isProjected() {
+        return projection != null;
+    }
+
+    public boolean isStreaming() {
+        return sink != null;
+    }
+
+    public boolean isEnabled() {
+        return api.getSessionConfig().hasFlag(ConfigFlag.STREAMING_PARSER);
+    }
+
+    public boolean isLazy() {
+        return api.getSessionConfig().hasFlag(ConfigFlag.LAZY_ENTITIES);
+    }
+
+    /* Methods */
+
+    @NotNull
+    public EntityBinder project(@Nullable Projection projection) {
+        if (projection == this.projection)
+            return this;
+        return new EntityBinder(api, projection, sink);
+    }
+
+    @NotNull
+    public EntityBinder forRequest(@NotNull Request<?> request) {
+        final Projection projection = request.getRestAction().getProjection();
+
+        if (request.isStreaming())
+            return new EntityBinder(api, projection, request::offer);
+        return project(projection);
+    }
+
+    public <T> T bind(@NotNull Response response, @NotNull IOFunction<JsonParser, T> reader, @NotNull Function<DataObject, T> fallback) {
+        // Only the token level readers apply a projection, a projected call always goes through them.
+        if (!isEnabled() && projection == null)
+            return fallback.apply(response.getObject().getObject("data"));
+        if (isLazy() && projection == null)
+            return response.parseBytes(bytes -> readSource(bytes, parser -> readData(parser, reader)));
+        return response.parse(parser -> readData(parser, reader));
+    }
+
+    public <T> List<T> bindList(@NotNull Response response, @NotNull IOFunction<JsonParser, T> reader, @NotNull Function<DataObject, T> fallback) {
+        if (sink != null) {
+            // Elements are handed over as soon as they are read, the remaining body is dropped on stop.
+            // Without the streaming parser each element still goes through the DataObject path, one at a time.
+            final IOFunction<JsonParser, T> elementReader = isEnabled() || projection != null ? reader : p -> fallback.apply(DataObject.fromJson(p));
+
+            if (!response.parse(parser -> streamData(parser, elementReader)))
+                response.close();
+            return Collections.emptyList();
+        }
+        if (!isEnabled() && projection == null) {
+            final DataArray arr = response.getObject().getArray("data");
+            final List<T> list = new ArrayList<>(arr.length());
+
+            for (int i = 0; i < arr.length(); i += 1)
+                list.add(fallback.apply(arr.getObject(i)));
+            return list;
+        }
+        if (isLazy() && projection == null)
+            return response.parseBytes(bytes -> readSource(bytes, parser -> readData(parser, p -> readList(p, reader))));
+        return response.parse(parser -> readData(parser, p -> readList(p, reader)));
+    }
+
+    public Account readAccount(@NotNull JsonParser p) throws IOException {
+        final AccountImpl account = new AccountImpl(api);
+        String avatarName = "default/default";
+        String avatar = null;
+        String coverName = null;
+        String cover = null;
+
+        account.setCreated(EPOCH);
+        expect(p, JsonToken.START_OBJECT);
+        String name;
+        while ((name = p.nextFieldName()) != null) {
+            p.nextToken();
+            if (projection != null && !projection.includes(name)) {
+                p.skipChildren();
+                continue;
+            }
+            switch (name) {
+                case "id": account.setId(unsignedLongValue(p, 0L)); break;
+                case "url": account.setUrl(stringValue(p)); break;
+                case "bio": account.setBio(stringValue(p)); break;
+                case "avatar": avatar = stringValue(p); break;
+                case "avatar_name": avatarName = stringValue(p, avatarName); break;
+                case "cover": cover = stringValue(p); break;
+                case "cover_name": coverName = stringValue(p); break;
+                case "reputation": account.setReputation(intValue(p, 0)); break;
+                case "reputation_name": account.setReputationName(stringValue(p)); break;
+                case "created": account.setCreated(fromEpochSecond(unsignedLongValue(p, 0L))); break;
+                case "is_blocked": account.setBlocked(booleanValue(p, false)); break;
+                default: p.skipChildren();
+            }
+        }
+        account.setAvatar(api.getEntityBuilder().createAvatar(avatarName, avatar));
+        account.setCover(api.getEntityBuilder().createCover(coverName, cover));
+        return account;
+    }
+
+    public AccountSettings readAccountSettings(@NotNull JsonParser p) throws IOException {
+        final AccountSettingsImpl accountSettings = new AccountSettingsImpl(api);
+
+        accountSettings.setPublicImages(ImagePrivacy.fromKey(false));
+        accountSettings.setAlbumPrivacy(AlbumPrivacy.fromKey(null));
+        readObject(p, name -> {
+            if (projection != null && !projection.includes(name))
+                return false;
+            switch (name) {
+                case "account_url": accountSettings.setAccountUrl(stringValue(p)); return true;
+                case "email": accountSettings.setEmail(stringValue(p)); return true;
+                case "avatar": accountSettings.setAvatar(stringValue(p)); return true;
+                case "cover": accountSettings.setCover(stringValue(p)); return true;
+                case "public_images": accountSettings.setPublicImages(ImagePrivacy.fromKey(booleanValue(p, false))); return true;
+                case "album_privacy": accountSettings.setAlbumPrivacy(AlbumPrivacy.fromKey(stringValue(p))); return true;
+                case "accepted_gallery_terms": accountSettings.setAcceptedGalleryTerms(booleanValue(p, false)); return true;
+                case "messaging_enabled": accountSettings.setMessagingEnabled(booleanValue(p, false)); return true;
+                case "show_mature": accountSettings.setShowMature(booleanValue(p, false)); return true;
+                case "newsletter_subscribed": accountSettings.setNewsletterSubscribed(booleanValue(p, false)); return true;
+                default: return false;
+            }
+        });
+        return accountSettings;
+    }
+
+    public Album readAlbum(@NotNull JsonParser p) throws IOException {
+        return projection == null ? AlbumImplBinder.read(api, p) : AlbumImplBinder.read(api, p, projection);
+    }
+
+    public Comment readComment(@NotNull JsonParser p) throws IOException {
+        return projection == null ? CommentImplBinder.read(api, p) : CommentImplBinder.read(api, p, projection);
+    }
+
+    public GalleryAlbum readGalleryAlbum(@NotNull JsonParser p) throws IOException {
+        if (p instanceof ByteSourceParser)
+            return LazyGalleryElementImpl.readAlbum(api, (ByteSourceParser) p);
+        return projection == null ? GalleryAlbumImplBinder.read(api, p) : GalleryAlbumImplBinder.read(api, p, projection);
+    }
+
+    public GalleryElement readGalleryElement(@NotNull JsonParser p) throws IOException {
+        if (p instanceof ByteSourceParser)
+            return LazyGalleryElementImpl.read(api, (ByteSourceParser) p);
+        // The element type is only known once "is_album" is read, which may come last.
+        // Shared fields are bound to the image, album only fields to a lazily created album.
+        final GalleryImageImpl galleryImage = GalleryImageImplBinder.create(api);
+        final GalleryAlbumImpl[] galleryAlbum = { null };
+
+        readObject(p, name -> {
+            if (projection != null && !projection.includes(name))
+                return false;
+            if (GalleryImageImplBinder.bind(api, galleryImage, name, p))
+                return true;
+            if (galleryAlbum[0] == null)
+                galleryAlbum[0] = GalleryAlbumImplBinder.create(api);
+            return GalleryAlbumImplBinder.bind(api, galleryAlbum[0], name, p);
+        });
+        if (!galleryImage.isAlbum())
+            return galleryImage;
+        return toGalleryAlbum(galleryImage, galleryAlbum[0] == null ? GalleryAlbumImplBinder.create(api) : galleryAlbum[0]);
+    }
+
+    public GalleryImage readGalleryImage(@NotNull JsonParser p) throws IOException {
+        if (p instanceof ByteSourceParser)
+            return LazyGalleryElementImpl.readImage(api, (ByteSourceParser) p);
+        return projection == null ? GalleryImageImplBinder.read(api, p) : GalleryImageImplBinder.read(api, p, projection);
+    }
+
+    public GalleryProfile readGalleryProfile(@NotNull JsonParser p) throws IOException {
+        return projection == null ? GalleryProfileImplBinder.read(api, p) : GalleryProfileImplBinder.read(api, p, projection);
+    }
+
+    public Image readImage(@NotNull JsonParser p) throws IOException {
+        if (p instanceof ByteSourceParser)
+            return LazyImageImpl.read(api, (ByteSourceParser) p);
+        return projection == null ? ImageImplBinder.read(api, p) : ImageImplBinder.read(api, p, projection);
+    }
+
+    public Trophy readTrophy(@NotNull JsonParser p) throws IOException {
+        return projection == null ? TrophyImplBinder.read(api, p) : TrophyImplBinder.read(api, p, projection);
+    }
+
+    public Votes readVotes(@NotNull JsonParser p) throws IOException {
+        return projection == null ? VotesImplBinder.read(api, p) : VotesImplBinder.read(api, p, projection);
+    }
+
+    /* Internal */
+
+    private <T> boolean streamData(@NotNull JsonParser p, @NotNull IOFunction<JsonParser, T> reader) throws IOException {
+        expect(p, JsonToken.START_OBJECT);
+        String name;
+
+        while ((name = p.nextFieldName()) != null) {
+            p.nextToken();
+            if (!name.equals("data")) {
+                p.skipChildren();
+                continue;
+            }
+            expect(p, JsonToken.START_ARRAY);
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                if (!sink.test(reader.apply(p)))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private <T> T readSource(@NotNull byte[] source, @NotNull IOFunction<JsonParser, T> reader) throws IOException {
+        try (ByteSourceParser parser = ByteSourceParser.open(api.getSessionConfig().getMapper().getFactory(), source, 0)) {
+            parser.nextToken();
+            return reader.apply(parser);
+        }
+    }
+
+    @NotNull
+    private GalleryAlbumImpl toGalleryAlbum(@NotNull GalleryImageImpl galleryImage, @NotNull GalleryAlbumImpl galleryAlbum) {
+        galleryAlbum.setId(galleryImage.getHash());
+        galleryAlbum.setTitle(galleryImage.getTitle());
+        galleryAlbum.setDescription(galleryImage.getDescription());
+        galleryAlbum.setDatetime(galleryImage.getCreationDate());
+        galleryAlbum.setAccountUrl(galleryImage.getAuthorName());
+        galleryAlbum.setAccountId(galleryImage.getAuthorIdLong());
+        galleryAlbum.setViews(galleryImage.getViews());
+        galleryAlbum.setLink(galleryImage.getUrl());
+        galleryAlbum.setUps(galleryImage.getUps());
+        galleryAlbum.setDowns(galleryImage.getDowns());
+        galleryAlbum.setPoints(galleryImage.getPoints());
+        galleryAlbum.setScore(galleryImage.getScore());
+        galleryAlbum.setAlbum(galleryImage.isAlbum());
+        galleryAlbum.setVote(galleryImage.getVote());
+        galleryAlbum.setFavorite(galleryImage.isFavorite());
+        galleryAlbum.setNsfw(galleryImage.isNSFW());
+        galleryAlbum.setSection(galleryImage.getSection());
+        galleryAlbum.setCommentCount(galleryImage.getCommentCount());
+        galleryAlbum.setFavoriteCount(galleryImage.getFavoriteCount());
+        galleryAlbum.setInGallery(galleryImage.isInGallery());
+        galleryAlbum.setInMostViral(galleryImage.isInMostViral());
+        return galleryAlbum;
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.entities;
+
+import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.entities.Album;
+import net.azzerial.jmgur.api.entities.GalleryImage;
+import net.azzerial.jmgur.api.entities.Image;
+import net.azzerial.jmgur.api.entities.subentities.Vote;
+import net.azzerial.jmgur.api.utils.CacheStats;
+import net.azzerial.jmgur.api.utils.config.CacheConfig;
+import net.azzerial.jmgur.api.utils.config.flags.CacheType;
+import net.azzerial.jmgur.internal.utils.Check;
+import net.azzerial.jmgur.internal.utils.cache.TinyLfuCache;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+public final class EntityCache {
+
+    private final Jmgur api;
+    private final Map<CacheType, TinyLfuCache<Object, Object>> caches = new EnumMap<>(CacheType.class);
+
+    /* Constructors */
+
+    public EntityCache(@NotNull Jmgur api, @NotNull CacheConfig config) {
+        Check.notNull(api, "api");
+        Check.notNull(config, "config");
+        this.api = api;
+        for (final CacheType type : CacheType.values()) {
+            if (config.isEnabled(type))
+                caches.put(type, new TinyLfuCache<>(config.getMaximumSize(type), config.getTtl(type)));
+        }
+    }
+
+    /* Getters & Setters */
+
+    @NotNull
+    public Jmgur getApi() {
+        return api;
+    }
+
+    public boolean isEnabled(@NotNull CacheType type) {
+        Check.notNull(type, "type");
+        return caches.containsKey(type);
+    }
+
+    @NotNull
+    public CacheStats getStats(@NotNull CacheType type) {
+        Check.notNull(type, "type");
+        final TinyLfuCache<Object, Object> cache = caches.get(type);
+        return cache == null ? new CacheStats(0L, 0L, 0L, 0) : cache.getStats();
+    }
+
+    /* Methods */
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NotNull CacheType type, @NotNull Object key) {
+        Check.notNull(type, "type");
+        Check.notNull(key, "key");
+        final TinyLfuCache<Object, Object> cache = caches.get(type);
+        return cache == null ? null : (T) cache.get(normalize(type, key));
+    }
+
+    @Nullable
+    public <T> T put(@NotNull CacheType type, @NotNull Object key, @Nullable T value) {
+        Check.notNull(type, "type");
+        Check.notNull(key, "key");
+        final TinyLfuCache<Object, Object> cache = caches.get(type);
+
+        if (cache != null && value != null)
+            cache.put(normalize(type, key), value);
+        return value;
+    }
+
+    public <T> boolean update(@NotNull CacheType type, @NotNull Object key, @NotNull Class<T> entityType, @NotNull UnaryOperator<T> updater) {
+        Check.notNull(type, "type");
+        Check.notNull(key, "key");
+        Check.notNull(entityType, "entityType");
+        Check.notNull(updater, "updater");
+        final TinyLfuCache<Object, Object> cache = caches.get(type);
+        // Cached instances may already be held by callers, updaters patch a copy which then replaces the entry.
+        // Entries of another type (such as lazy views) cannot be patched and are invalidated instead.
+        return cache != null && cache.update(normalize(type, key), value -> entityType.isInstance(value) ? updater.apply(entityType.cast(value)) : null);
+    }
+
+    public void invalidate(@NotNull CacheType type, @NotNull Object key) {
+        Check.notNull(type, "type");
+        Check.notNull(key, "key");
+        final TinyLfuCache<Object, Object> cache = caches.get(type);
+
+        if (cache != null)
+            cache.invalidate(normalize(type, key));
+    }
+
+    public void invalidateIf(@NotNull CacheType type, @NotNull Predicate<Object> predicate) {
+        Check.notNull(type, "type");
+        Check.notNull(predicate, "predicate");
+        final TinyLfuCache<Object, Object> cache = caches.get(type);
+
+        if (cache != null)
+            cache.invalidateIf(predicate);
+    }
+
+    public void invalidateAll() {
+        caches.values().forEach(TinyLfuCache::invalidateAll);
+    }
+
+    /* --- Events --- */
+
+    public void onImageDeleted(@NotNull String hash) {
+        invalidate(CacheType.IMAGE, hash);
+        invalidate(CacheType.GALLERY_IMAGE, hash);
+        // Deletions may go through a delete hash, which is never used as a cache key.
+        invalidateIf(CacheType.IMAGE, cached -> cached instanceof Image && hash.equals(((Image) cached).getDeleteHash()));
+    }
+
+    public void onImageInformationUpdated(@NotNull String hash, @NotNull Map<String, String> information) {
+        final String title = information.get("title");
+        final String description = information.get("description");
+
+        update(CacheType.IMAGE, hash, ImageImpl.class, cached -> {
+            final ImageImpl image = cached.copy();
+
+            if (title != null)
+                image.setTitle(title);
+            if (description != null)
+                image.setDescription(description);
+            return image;
+        });
+        update(CacheType.GALLERY_IMAGE, hash, GalleryImageImpl.class, cached -> {
+            final GalleryImageImpl image = cached.copy();
+
+            if (title != null)
+                image.setTitle(title);
+            if (description != null)
+                image.setDescription(description);
+            return image;
+        });
+    }
+
+    public void onImageFavorited(@NotNull String hash, boolean favorite) {
+        update(CacheType.IMAGE, hash, ImageImpl.class, cached -> {
+            final ImageImpl image = cached.copy();
+
+            image.setFavorite(favorite);
+            return image;
+        });
+        update(CacheType.GALLERY_IMAGE, hash, GalleryImageImpl.class, cached -> {
+            final GalleryImageImpl image = cached.copy();
+
+            image.setFavorite(favorite);
+            return image;
+        });
+    }
+
+    public void onAlbumUpdated(@NotNull String hash) {
+        onAlbumImagesChanged(hash);
+        invalidateIf(CacheType.ALBUM, cached -> cached instanceof Album && hash.equals(((Album) cached).getDeleteHash()));
+    }
+
+    public void onAlbumDeleted(@NotNull String hash) {
+        onAlbumUpdated(hash);
+    }
+
+    public void onAlbumFavorited(@NotNull String hash, boolean favorite) {
+        update(CacheType.ALBUM, hash, AlbumImpl.class, cached -> {
+            final AlbumImpl album = cached.copy();
+
+            album.setFavorite(favorite);
+            return album;
+        });
+        update(CacheType.GALLERY_ALBUM, hash, GalleryAlbumImpl.class, cached -> {
+            final GalleryAlbumImpl album = cached.copy();
+
+            album.setFavorite(favorite);
+            return album;
+        });
+    }
+
+    public void onAlbumImagesChanged(@NotNull String hash) {
+        invalidate(CacheType.ALBUM, hash);
+        invalidate(CacheType.GALLERY_ALBUM, hash);
+    }
+
+    public void onAlbumImagesRemoved(@NotNull String hash, @NotNull Collection<String> imagesHash) {
+        final Set<String> removed = new HashSet<>(imagesHash);
+
+        update(CacheType.ALBUM, hash, AlbumImpl.class, cached -> {
+            final AlbumImpl album = cached.copy();
+            final List<Image> images = new ArrayList<>(cached.getImages());
+
+            images.removeIf(image -> removed.contains(image.getHash()));
+            album.setImagesCount(Math.max(0, cached.getSize() - (cached.getImages().size() - images.size())));
+            album.setImages(images);
+            return album;
+        });
+        update(CacheType.GALLERY_ALBUM, hash, GalleryAlbumImpl.class, cached -> {
+            final GalleryAlbumImpl album = cached.copy();
+            final List<GalleryImage> images = new ArrayList<>(cached.getImages());
+
+            images.removeIf(image -> removed.contains(image.getHash()));
+            album.setImagesCount(Math.max(0, cached.getSize() - (cached.getImages().size() - images.size())));
+            album.setImages(images);
+            return album;
+        });
+    }
+
+    public void onCommentVoted(long id, @NotNull Vote vote) {
+        update(CacheType.COMMENT, id, CommentImpl.class, cached -> {
+            final CommentImpl comment = cached.copy();
+            final int ups = voteDelta(cached.getVote(), vote, Vote.UP);
+            final int downs = voteDelta(cached.getVote(), vote, Vote.DOWN);
+
+            comment.setUps(cached.getUps() + ups);
+            comment.setDowns(cached.getDowns() + downs);
+            comment.setPoints(cached.getPoints() + ups - downs);
+            comment.setVote(vote);
+            return comment;
+        });
+    }
+
+    public void onCommentDeleted(long id) {
+        invalidate(CacheType.COMMENT, id);
+    }
+
+    public void onUserBlocked(@NotNull String name) {
+        invalidate(CacheType.ACCOUNT, name);
+    }
+
+    public void onGalleryPostVoted(@NotNull String hash, @NotNull Vote vote) {
+        update(CacheType.GALLERY_IMAGE, hash, GalleryImageImpl.class, cached -> {
+            final GalleryImageImpl image = cached.copy();
+            final int ups = voteDelta(cached.getVote(), vote, Vote.UP);
+            final int downs = voteDelta(cached.getVote(), vote, Vote.DOWN);
+
+            image.setUps(cached.getUps() + ups);
+            image.setDowns(cached.getDowns() + downs);
+            image.setPoints(cached.getPoints() + ups - downs);
+            image.setVote(vote);
+            return image;
+        });
+        update(CacheType.GALLERY_ALBUM, hash, GalleryAlbumImpl.class, cached -> {
+            final GalleryAlbumImpl album = cached.copy();
+            final int ups = voteDelta(cached.getVote(), vote, Vote.UP);
+            final int downs = voteDelta(cached.getVote(), vote, Vote.DOWN);
+
+            album.setUps(cached.getUps() + ups);
+            album.setDowns(cached.getDowns() + downs);
+            album.setPoints(cached.getPoints() + ups - downs);
+            album.setVote(vote);
+            return album;
+        });
+    }
+
+    public void onGalleryPostRemoved(@NotNull String hash) {
+        invalidate(CacheType.GALLERY_IMAGE, hash);
+        invalidate(CacheType.GALLERY_ALBUM, hash);
+        update(CacheType.IMAGE, hash, ImageImpl.class, cached -> {
+            final ImageImpl image = cached.copy();
+
+            image.setInGallery(false);
+            return image;
+        });
+        update(CacheType.ALBUM, hash, AlbumImpl.class, cached -> {
+            final AlbumImpl album = cached.copy();
+
+            album.setInGallery(false);
+            return album;
+        });
+    }
+
+    public void onGalleryPostShared(@NotNull String hash) {
+        invalidate(CacheType.GALLERY_IMAGE, hash);
+        invalidate(CacheType.GALLERY_ALBUM, hash);
+        update(CacheType.IMAGE, hash, ImageImpl.class, cached -> {
+            final ImageImpl image = cached.copy();
+
+            image.setInGallery(true);
+            return image;
+        });
+        update(CacheType.ALBUM, hash, AlbumImpl.class, cached -> {
+            final AlbumImpl album = cached.copy();
+
+            album.setInGallery(true);
+            return album;
+        });
+    }
+
+    /* Internal */
+
+    private static int voteDelta(@Nullable Vote previous, @NotNull Vote vote, @NotNull Vote counted) {
+        return (vote == counted ? 1 : 0) - (previous == counted ? 1 : 0);
+    }
+
+    @NotNull
+    private Object normalize(@NotNull CacheType type, @NotNull Object key) {
+        if (type != CacheType.ACCOUNT)
+            return key;
+
+        final String name = key.toString();
+        return name.equals("me") ?
+            api.getSessionConfig().getOAuth2().getAccountUsername().toLowerCase(Locale.ROOT) :
+            name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -23,6 +23,8 @@ import net.azzerial.jmgur.api.entities.GalleryImage;
 import net.azzerial.jmgur.api.entities.subentities.AlbumLayout;
 import net.azzerial.jmgur.api.entities.subentities.AlbumPrivacy;
 import net.azzerial.jmgur.api.entities.subentities.Vote;
+import net.azzerial.jmgur.internal.entities.binding.JsonEntity;
+import net.azzerial.jmgur.internal.entities.binding.JsonField;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -32,7 +34,8 @@ import java.util.List;
 import static net.azzerial.jmgur.internal.utils.Helper.print;
 
 @Setter
-public final class GalleryAlbumImpl implements GalleryAlbum {
+@JsonEntity
+public final class GalleryAlbumImpl implements GalleryAlbum, Cloneable {
 
     private final transient Jmgur api;
 
@@ -62,7 +65,9 @@ public final class GalleryAlbumImpl implements GalleryAlbum {
     private int favoriteCount;
     private int imagesCount;
     private boolean inGallery;
+    @JsonField(flag = true)
     private boolean inMostViral;
+    @JsonField(element = GalleryImageImpl.class)
     private List<GalleryImage> images;
 
     /* Constructors */
@@ -233,6 +238,15 @@ public final class GalleryAlbumImpl implements GalleryAlbum {
 
     /* Methods */
 
+    @NotNull
+    GalleryAlbumImpl copy() {
+        try {
+            return (GalleryAlbumImpl) clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
     @Override
     public String toString() {
         return "GalleryAlbum{" +
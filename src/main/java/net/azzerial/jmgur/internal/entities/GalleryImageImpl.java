@@ -20,6 +20,8 @@ import lombok.Setter;
 import net.azzerial.jmgur.api.Jmgur;
 import net.azzerial.jmgur.api.entities.GalleryImage;
 import net.azzerial.jmgur.api.entities.subentities.Vote;
+import net.azzerial.jmgur.internal.entities.binding.JsonEntity;
+import net.azzerial.jmgur.internal.entities.binding.JsonField;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -28,7 +30,8 @@ import java.time.OffsetDateTime;
 import static net.azzerial.jmgur.internal.utils.Helper.print;
 
 @Setter
-public final class GalleryImageImpl implements GalleryImage {
+@JsonEntity
+public final class GalleryImageImpl implements GalleryImage, Cloneable {
 
     private final transient Jmgur api;
 
@@ -49,6 +52,7 @@ public final class GalleryImageImpl implements GalleryImage {
     private String section;
     private String accountUrl;
     private long accountId;
+    @JsonField(flag = true)
     private boolean inMostViral;
     private boolean hasSound;
     private int edited;
@@ -265,6 +269,15 @@ public final class GalleryImageImpl implements GalleryImage {
 
     /* Methods */
 
+    @NotNull
+    GalleryImageImpl copy() {
+        try {
+            return (GalleryImageImpl) clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
     @Override
     public String toString() {
         return "GalleryImage{" +
@@ -20,15 +20,19 @@ import lombok.Setter;
 import net.azzerial.jmgur.api.Jmgur;
 import net.azzerial.jmgur.api.entities.GalleryProfile;
 import net.azzerial.jmgur.api.entities.Trophy;
+import net.azzerial.jmgur.internal.entities.binding.JsonEntity;
+import net.azzerial.jmgur.internal.entities.binding.JsonField;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 
 @Setter
+@JsonEntity
 public final class GalleryProfileImpl implements GalleryProfile {
 
     private final transient Jmgur api;
 
+    @JsonField(element = TrophyImpl.class)
     private List<Trophy> trophies;
     private int totalGalleryComments;
     private int totalGalleryFavorites;
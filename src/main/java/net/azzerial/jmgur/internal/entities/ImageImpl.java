@@ -20,6 +20,8 @@ import lombok.Setter;
 import net.azzerial.jmgur.api.Jmgur;
 import net.azzerial.jmgur.api.entities.Image;
 import net.azzerial.jmgur.api.entities.subentities.Vote;
+import net.azzerial.jmgur.internal.entities.binding.JsonEntity;
+import net.azzerial.jmgur.internal.entities.binding.JsonField;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -28,7 +30,8 @@ import java.time.OffsetDateTime;
 import static net.azzerial.jmgur.internal.utils.Helper.print;
 
 @Setter
-public final class ImageImpl implements Image {
+@JsonEntity
+public final class ImageImpl implements Image, Cloneable {
 
     private final transient Jmgur api;
 
@@ -53,6 +56,7 @@ public final class ImageImpl implements Image {
     private boolean hasSound;
     private int edited;
     private boolean inGallery;
+    @JsonField("deletehash")
     private String deleteHash;
     private String name;
     private String link;
@@ -204,6 +208,15 @@ public final class ImageImpl implements Image {
 
     /* Methods */
 
+    @NotNull
+    ImageImpl copy() {
+        try {
+            return (ImageImpl) clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
     @Override
     public String toString() {
         return "Image{" +
@@ -19,6 +19,8 @@ package net.azzerial.jmgur.internal.entities;
 import lombok.Setter;
 import net.azzerial.jmgur.api.Jmgur;
 import net.azzerial.jmgur.api.entities.Trophy;
+import net.azzerial.jmgur.internal.entities.binding.JsonEntity;
+import net.azzerial.jmgur.internal.entities.binding.JsonField;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -27,6 +29,7 @@ import java.time.OffsetDateTime;
 import static net.azzerial.jmgur.internal.utils.Helper.print;
 
 @Setter
+@JsonEntity
 public final class TrophyImpl implements Trophy {
 
     private final transient Jmgur api;
@@ -37,6 +40,7 @@ public final class TrophyImpl implements Trophy {
     private String description;
     private String data;
     private String dataLink;
+    @JsonField(signed = true)
     private OffsetDateTime datetime;
     private String image;
     private int imageWidth;
@@ -19,9 +19,11 @@ package net.azzerial.jmgur.internal.entities;
 import lombok.Setter;
 import net.azzerial.jmgur.api.Jmgur;
 import net.azzerial.jmgur.api.entities.Votes;
+import net.azzerial.jmgur.internal.entities.binding.JsonEntity;
 import org.jetbrains.annotations.NotNull;
 
 @Setter
+@JsonEntity
 public final class VotesImpl implements Votes {
 
     private final transient Jmgur api;
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.entities.binding;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+public final class ByteSourceParser extends JsonParserDelegate {
+
+    private final byte[] source;
+    private final int base;
+
+    /* Constructors */
+
+    public ByteSourceParser(@NotNull JsonParser parser, @NotNull byte[] source, int base) {
+        super(parser);
+        Check.notNull(source, "source");
+        Check.check(base >= 0 && base <= source.length, "base must be within the source");
+        this.source = source;
+        this.base = base;
+    }
+
+    /* Static Methods */
+
+    @NotNull
+    public static ByteSourceParser open(@NotNull JsonFactory factory, @NotNull byte[] source, int offset) throws IOException {
+        Check.notNull(source, "source");
+        return open(factory, source, offset, source.length);
+    }
+
+    @NotNull
+    public static ByteSourceParser open(@NotNull JsonFactory factory, @NotNull byte[] source, int offset, int end) throws IOException {
+        Check.notNull(factory, "factory");
+        Check.notNull(source, "source");
+        Check.check(offset <= end && end <= source.length, "end must be within the source");
+        return new ByteSourceParser(factory.createParser(source, offset, end - offset), source, offset);
+    }
+
+    /* Getters & Setters */
+
+    @NotNull
+    public byte[] getSource() {
+        return source;
+    }
+
+    public int getTokenOffset() {
+        return base + (int) delegate.getTokenLocation().getByteOffset();
+    }
+
+    public int getCurrentOffset() {
+        return base + (int) delegate.getCurrentLocation().getByteOffset();
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.entities.binding;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.azzerial.jmgur.api.exceptions.ParsingException;
+import net.azzerial.jmgur.api.utils.IOFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.azzerial.jmgur.internal.utils.Helper.fromEpochSecond;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JsonValues {
+
+    public static final OffsetDateTime EPOCH = fromEpochSecond(0L);
+
+    /* Static Methods */
+
+    /* --- Structure --- */
+
+    @Nullable
+    public static <T> T readData(@NotNull JsonParser p, @NotNull IOFunction<JsonParser, T> reader) throws IOException {
+        expect(p, JsonToken.START_OBJECT);
+        T data = null;
+        String name;
+
+        while ((name = p.nextFieldName()) != null) {
+            p.nextToken();
+            if (name.equals("data"))
+                data = reader.apply(p);
+            else
+                p.skipChildren();
+        }
+        return data;
+    }
+
+    @NotNull
+    public static <T> List<T> readList(@NotNull JsonParser p, @NotNull IOFunction<JsonParser, T> reader) throws IOException {
+        expect(p, JsonToken.START_ARRAY);
+        final List<T> list = new ArrayList<>();
+
+        while (p.nextToken() != JsonToken.END_ARRAY)
+            list.add(reader.apply(p));
+        return list;
+    }
+
+    public static void readObject(@NotNull JsonParser p, @NotNull FieldReader reader) throws IOException {
+        expect(p, JsonToken.START_OBJECT);
+        String name;
+
+        while ((name = p.nextFieldName()) != null) {
+            p.nextToken();
+            if (!reader.read(name))
+                p.skipChildren();
+        }
+    }
+
+    public static void expect(@NotNull JsonParser p, @NotNull JsonToken token) {
+        if (p.currentToken() != token)
+            throw new ParsingException(String.format("Expected %s at %s but found %s", token, p.getCurrentLocation(), p.currentToken()));
+    }
+
+    /* --- Values --- */
+
+    @Nullable
+    public static String stringValue(@NotNull JsonParser p) throws IOException {
+        return stringValue(p, null);
+    }
+
+    @Nullable
+    public static String stringValue(@NotNull JsonParser p, @Nullable String defaultValue) throws IOException {
+        final JsonToken token = p.currentToken();
+
+        if (token == JsonToken.VALUE_NULL)
+            return defaultValue;
+        if (!token.isScalarValue())
+            throw valueError(p, "String");
+        return p.getText();
+    }
+
+    public static boolean booleanValue(@NotNull JsonParser p, boolean defaultValue) throws IOException {
+        switch (p.currentToken()) {
+            case VALUE_TRUE: return true;
+            case VALUE_FALSE: return false;
+            case VALUE_NULL: return defaultValue;
+            case VALUE_STRING: return Boolean.parseBoolean(p.getText());
+            default: throw valueError(p, "boolean");
+        }
+    }
+
+    public static boolean flagValue(@NotNull JsonParser p) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NUMBER_INT)
+            return p.getIntValue() == 1;
+        return booleanValue(p, false);
+    }
+
+    public static int intValue(@NotNull JsonParser p, int defaultValue) throws IOException {
+        switch (p.currentToken()) {
+            case VALUE_NUMBER_INT:
+                return p.getNumberType() == JsonParser.NumberType.INT ? p.getIntValue() : p.getNumberValue().intValue();
+            case VALUE_NUMBER_FLOAT: return p.getNumberValue().intValue();
+            case VALUE_NULL: return defaultValue;
+            case VALUE_STRING: return Integer.parseInt(p.getText());
+            default: throw valueError(p, "int");
+        }
+    }
+
+    public static int unsignedIntValue(@NotNull JsonParser p, int defaultValue) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_STRING)
+            return Integer.parseUnsignedInt(p.getText());
+        return intValue(p, defaultValue);
+    }
+
+    public static long longValue(@NotNull JsonParser p, long defaultValue) throws IOException {
+        switch (p.currentToken()) {
+            case VALUE_NUMBER_INT:
+                return p.getNumberType() != JsonParser.NumberType.BIG_INTEGER ? p.getLongValue() : p.getNumberValue().longValue();
+            case VALUE_NUMBER_FLOAT: return p.getNumberValue().longValue();
+            case VALUE_NULL: return defaultValue;
+            case VALUE_STRING: return Long.parseLong(p.getText());
+            default: throw valueError(p, "long");
+        }
+    }
+
+    public static long unsignedLongValue(@NotNull JsonParser p, long defaultValue) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_STRING)
+            return Long.parseUnsignedLong(p.getText());
+        return longValue(p, defaultValue);
+    }
+
+    @NotNull
+    public static OffsetDateTime dateValue(@NotNull JsonParser p) throws IOException {
+        return fromEpochSecond(unsignedLongValue(p, 0L));
+    }
+
+    @NotNull
+    public static OffsetDateTime signedDateValue(@NotNull JsonParser p) throws IOException {
+        return fromEpochSecond(longValue(p, 0L));
+    }
+
+    @NotNull
+    private static ParsingException valueError(@NotNull JsonParser p, @NotNull String type) throws IOException {
+        return new ParsingException(String.format("Cannot parse value for \"%s\" into type %s: %s", p.getCurrentName(), type, p.currentToken()));
+    }
+
+    /* Inner Classes */
+
+    @FunctionalInterface
+    public interface FieldReader {
+
+        boolean read(@NotNull String name) throws IOException;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.entities.binding;
+
+import net.azzerial.jmgur.api.entities.subentities.EntityField;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public final class Projection {
+
+    private final Set<String> keys;
+    private final String key;
+
+    /* Constructors */
+
+    private Projection(@NotNull EnumSet<EntityField> fields) {
+        // The element type of gallery listings is decided by "is_album", it can never be projected out.
+        fields.add(EntityField.IS_ALBUM);
+        this.keys = new HashSet<>(fields.size() * 2);
+        for (EntityField field : fields)
+            keys.add(field.getKey());
+        this.key = fields.stream()
+            .map(EntityField::getKey)
+            .collect(Collectors.joining(","));
+    }
+
+    /* Static Methods */
+
+    @NotNull
+    public static Projection of(@NotNull EntityField... fields) {
+        Check.notEmpty(fields, "fields");
+        Check.noneNull(Arrays.asList(fields), "fields");
+        return new Projection(EnumSet.copyOf(Arrays.asList(fields)));
+    }
+
+    /* Getters & Setters */
+
+    @NotNull
+    public String getKey() {
+        return key;
+    }
+
+    /* Methods */
+
+    public boolean includes(@NotNull String name) {
+        return keys.contains(name);
+    }
+
+    @Override
+    public String toString() {
+        return "Projection{" + key + '}';
+    }
+}
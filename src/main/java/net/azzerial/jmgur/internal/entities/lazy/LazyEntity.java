@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.entities.lazy;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.exceptions.ParsingException;
+import net.azzerial.jmgur.api.utils.IOFunction;
+import net.azzerial.jmgur.internal.entities.binding.ByteSourceParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+
+import static net.azzerial.jmgur.internal.entities.binding.JsonValues.*;
+
+abstract class LazyEntity implements Serializable {
+
+    protected final transient Jmgur api;
+    private final byte[] source;
+    private final int offset;
+    private final int[] offsets;
+    private final Object[] values;
+    private long decoded;
+
+    /* Constructors */
+
+    LazyEntity(@NotNull Jmgur api, @NotNull byte[] source, int offset, @NotNull int[] offsets) {
+        this.api = api;
+        this.source = source;
+        this.offset = offset;
+        this.offsets = offsets;
+        this.values = new Object[offsets.length >> 1];
+        this.decoded = 0L;
+    }
+
+    /* Getters & Setters */
+
+    @NotNull
+    public Jmgur getApi() {
+        return api;
+    }
+
+    /* Internal */
+
+    @NotNull
+    protected final <T> T materialize(@NotNull IOFunction<JsonParser, T> reader) {
+        return decode(api, source, offset, source.length, reader, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected final synchronized <T> T value(int slot, @NotNull IOFunction<JsonParser, T> decoder, @Nullable T defaultValue) {
+        final long bit = 1L << slot;
+
+        if ((decoded & bit) != 0L)
+            return (T) values[slot];
+
+        final T value = decode(api, source, offsets[slot << 1], offsets[(slot << 1) + 1], decoder, defaultValue);
+
+        values[slot] = value;
+        decoded |= bit;
+        return value;
+    }
+
+    @Nullable
+    protected final String stringField(int slot) {
+        return value(slot, p -> stringValue(p), null);
+    }
+
+    protected final boolean booleanField(int slot) {
+        return value(slot, p -> booleanValue(p, false), false);
+    }
+
+    protected final boolean flagField(int slot) {
+        return value(slot, p -> flagValue(p), false);
+    }
+
+    protected final int unsignedIntField(int slot) {
+        return value(slot, p -> unsignedIntValue(p, 0), 0);
+    }
+
+    protected final long unsignedLongField(int slot) {
+        return value(slot, p -> unsignedLongValue(p, 0L), 0L);
+    }
+
+    @NotNull
+    protected final OffsetDateTime dateField(int slot) {
+        return value(slot, p -> dateValue(p), EPOCH);
+    }
+
+    /* --- Index --- */
+
+    @NotNull
+    static int[] index(@NotNull ByteSourceParser p, @NotNull LazyFields fields) throws IOException {
+        expect(p, JsonToken.START_OBJECT);
+        // Two entries per slot, the value start and end offsets. Only numbers need a bounded end,
+        // as they cannot be followed by anything but whitespace once decoded as a root value.
+        final JsonParser parser = p.delegate();
+        final int[] offsets = new int[fields.size() << 1];
+        final int length = p.getSource().length;
+        String name;
+
+        Arrays.fill(offsets, -1);
+        while ((name = parser.nextFieldName()) != null) {
+            final JsonToken token = parser.nextToken();
+            final int slot = fields.slot(name);
+
+            if (token != JsonToken.VALUE_NULL && slot != -1) {
+                offsets[slot << 1] = p.getTokenOffset();
+                offsets[(slot << 1) + 1] = token.isNumeric() ? p.getCurrentOffset() : length;
+            }
+            parser.skipChildren();
+        }
+        return offsets;
+    }
+
+    static <T> T decode(@NotNull Jmgur api, @NotNull byte[] source, int offset, int end, @NotNull IOFunction<? super ByteSourceParser, T> decoder, @Nullable T defaultValue) {
+        if (offset == -1)
+            return defaultValue;
+        try (ByteSourceParser p = ByteSourceParser.open(api.getSessionConfig().getMapper().getFactory(), source, offset, end)) {
+            p.nextToken();
+            return decoder.apply(p);
+        } catch (IOException e) {
+            throw new ParsingException(e);
+        }
+    }
+}
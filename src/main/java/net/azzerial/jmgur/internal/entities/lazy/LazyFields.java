@@ -0,0 +1,54 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.entities.lazy;
+
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+final class LazyFields {
+
+    private final String[] names;
+    private final Map<String, Integer> slots;
+
+    /* Constructors */
+
+    LazyFields(@NotNull String... names) {
+        Check.notEmpty(names, "names");
+        Check.check(names.length <= Long.SIZE, "a lazy entity cannot have more than %d fields", Long.SIZE);
+        this.names = names;
+        this.slots = new HashMap<>(names.length * 2);
+
+        for (int i = 0; i < names.length; i += 1)
+            slots.put(names[i], i);
+    }
+
+    /* Getters & Setters */
+
+    public int size() {
+        return names.length;
+    }
+
+    /* Methods */
+
+    public int slot(@NotNull String name) {
+        final Integer slot = slots.get(name);
+        return slot == null ? -1 : slot;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.entities.lazy;
+
+import com.fasterxml.jackson.core.JsonParser;
+import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.entities.GalleryAlbum;
+import net.azzerial.jmgur.api.entities.GalleryImage;
+import net.azzerial.jmgur.api.entities.subentities.AlbumLayout;
+import net.azzerial.jmgur.api.entities.subentities.AlbumPrivacy;
+import net.azzerial.jmgur.internal.entities.GalleryAlbumImplBinder;
+import net.azzerial.jmgur.internal.entities.binding.ByteSourceParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.azzerial.jmgur.internal.entities.binding.JsonValues.readList;
+import static net.azzerial.jmgur.internal.entities.binding.JsonValues.stringValue;
+
+final class LazyGalleryAlbumImpl extends LazyGalleryElementImpl implements GalleryAlbum {
+
+    private static final int COVER = FIELDS.slot("cover");
+    private static final int COVER_WIDTH = FIELDS.slot("cover_width");
+    private static final int COVER_HEIGHT = FIELDS.slot("cover_height");
+    private static final int PRIVACY = FIELDS.slot("privacy");
+    private static final int LAYOUT = FIELDS.slot("layout");
+    private static final int IMAGES_COUNT = FIELDS.slot("images_count");
+    private static final int IMAGES = FIELDS.slot("images");
+
+    /* Constructors */
+
+    LazyGalleryAlbumImpl(@NotNull Jmgur api, @NotNull byte[] source, int offset, @NotNull int[] offsets) {
+        super(api, source, offset, offsets);
+    }
+
+    /* Getters & Setters */
+
+    @NotNull
+    @Override
+    public String getCoverHash() {
+        return stringField(COVER);
+    }
+
+    @Override
+    public int getCoverWidth() {
+        return unsignedIntField(COVER_WIDTH);
+    }
+
+    @Override
+    public int getCoverHeight() {
+        return unsignedIntField(COVER_HEIGHT);
+    }
+
+    @Nullable
+    @Override
+    public AlbumPrivacy getPrivacy() {
+        return value(PRIVACY, p -> AlbumPrivacy.fromKey(stringValue(p)), AlbumPrivacy.fromKey(null));
+    }
+
+    @Nullable
+    @Override
+    public AlbumLayout getLayout() {
+        return value(LAYOUT, p -> AlbumLayout.fromKey(stringValue(p)), AlbumLayout.fromKey(null));
+    }
+
+    @Override
+    public int getSize() {
+        return unsignedIntField(IMAGES_COUNT);
+    }
+
+    @NotNull
+    @Override
+    public List<GalleryImage> getImages() {
+        return value(IMAGES, this::readImages, new ArrayList<>());
+    }
+
+    /* Methods */
+
+    @Override
+    public String toString() {
+        return materialize(p -> GalleryAlbumImplBinder.read(api, p)).toString();
+    }
+
+    /* Internal */
+
+    @NotNull
+    private List<GalleryImage> readImages(@NotNull JsonParser p) throws IOException {
+        return readList(p, parser -> readImage(api, (ByteSourceParser) parser));
+    }
+}
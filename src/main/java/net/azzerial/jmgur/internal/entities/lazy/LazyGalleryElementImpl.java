@@ -0,0 +1,214 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.entities.lazy;
+
+import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.entities.GalleryAlbum;
+import net.azzerial.jmgur.api.entities.GalleryElement;
+import net.azzerial.jmgur.api.entities.GalleryImage;
+import net.azzerial.jmgur.api.entities.subentities.Vote;
+import net.azzerial.jmgur.internal.entities.binding.ByteSourceParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+import static net.azzerial.jmgur.internal.entities.binding.JsonValues.booleanValue;
+import static net.azzerial.jmgur.internal.entities.binding.JsonValues.stringValue;
+
+public abstract class LazyGalleryElementImpl extends LazyEntity implements GalleryElement {
+
+    static final LazyFields FIELDS = new LazyFields(
+        // GalleryElement
+        "id", "title", "description", "datetime", "account_url", "account_id", "views", "link",
+        "comment_count", "favorite_count", "ups", "downs", "points", "score", "vote", "favorite",
+        "nsfw", "section", "in_gallery", "in_most_viral", "is_album",
+        // GalleryImage
+        "type", "animated", "width", "height", "size", "bandwidth", "has_sound", "edited",
+        "mp4", "gifv", "hls", "mp4_size", "looping",
+        // GalleryAlbum
+        "cover", "cover_width", "cover_height", "privacy", "layout", "images_count", "images"
+    );
+
+    private static final int ID = FIELDS.slot("id");
+    private static final int TITLE = FIELDS.slot("title");
+    private static final int DESCRIPTION = FIELDS.slot("description");
+    private static final int DATETIME = FIELDS.slot("datetime");
+    private static final int ACCOUNT_URL = FIELDS.slot("account_url");
+    private static final int ACCOUNT_ID = FIELDS.slot("account_id");
+    private static final int VIEWS = FIELDS.slot("views");
+    private static final int LINK = FIELDS.slot("link");
+    private static final int COMMENT_COUNT = FIELDS.slot("comment_count");
+    private static final int FAVORITE_COUNT = FIELDS.slot("favorite_count");
+    private static final int UPS = FIELDS.slot("ups");
+    private static final int DOWNS = FIELDS.slot("downs");
+    private static final int POINTS = FIELDS.slot("points");
+    private static final int SCORE = FIELDS.slot("score");
+    private static final int VOTE = FIELDS.slot("vote");
+    private static final int FAVORITE = FIELDS.slot("favorite");
+    private static final int NSFW = FIELDS.slot("nsfw");
+    private static final int SECTION = FIELDS.slot("section");
+    private static final int IN_GALLERY = FIELDS.slot("in_gallery");
+    private static final int IN_MOST_VIRAL = FIELDS.slot("in_most_viral");
+    private static final int IS_ALBUM = FIELDS.slot("is_album");
+
+    /* Constructors */
+
+    LazyGalleryElementImpl(@NotNull Jmgur api, @NotNull byte[] source, int offset, @NotNull int[] offsets) {
+        super(api, source, offset, offsets);
+    }
+
+    /* Static Methods */
+
+    @NotNull
+    public static GalleryElement read(@NotNull Jmgur api, @NotNull ByteSourceParser p) throws IOException {
+        final int offset = p.getTokenOffset();
+        final int[] offsets = index(p, FIELDS);
+
+        if (decode(api, p.getSource(), offsets[IS_ALBUM << 1], offsets[(IS_ALBUM << 1) + 1], parser -> booleanValue(parser, false), false))
+            return new LazyGalleryAlbumImpl(api, p.getSource(), offset, offsets);
+        return new LazyGalleryImageImpl(api, p.getSource(), offset, offsets);
+    }
+
+    @NotNull
+    public static GalleryAlbum readAlbum(@NotNull Jmgur api, @NotNull ByteSourceParser p) throws IOException {
+        final int offset = p.getTokenOffset();
+        return new LazyGalleryAlbumImpl(api, p.getSource(), offset, index(p, FIELDS));
+    }
+
+    @NotNull
+    public static GalleryImage readImage(@NotNull Jmgur api, @NotNull ByteSourceParser p) throws IOException {
+        final int offset = p.getTokenOffset();
+        return new LazyGalleryImageImpl(api, p.getSource(), offset, index(p, FIELDS));
+    }
+
+    /* Getters & Setters */
+
+    @NotNull
+    @Override
+    public String getHash() {
+        return stringField(ID);
+    }
+
+    @Nullable
+    @Override
+    public String getTitle() {
+        return stringField(TITLE);
+    }
+
+    @Nullable
+    @Override
+    public String getDescription() {
+        return stringField(DESCRIPTION);
+    }
+
+    @NotNull
+    @Override
+    public OffsetDateTime getCreationDate() {
+        return dateField(DATETIME);
+    }
+
+    @Nullable
+    @Override
+    public String getAuthorName() {
+        return stringField(ACCOUNT_URL);
+    }
+
+    @Override
+    public long getAuthorIdLong() {
+        return unsignedLongField(ACCOUNT_ID);
+    }
+
+    @Override
+    public int getViews() {
+        return unsignedIntField(VIEWS);
+    }
+
+    @NotNull
+    @Override
+    public String getUrl() {
+        return stringField(LINK);
+    }
+
+    @Override
+    public int getCommentCount() {
+        return unsignedIntField(COMMENT_COUNT);
+    }
+
+    @Override
+    public int getFavoriteCount() {
+        return unsignedIntField(FAVORITE_COUNT);
+    }
+
+    @Override
+    public int getUps() {
+        return unsignedIntField(UPS);
+    }
+
+    @Override
+    public int getDowns() {
+        return unsignedIntField(DOWNS);
+    }
+
+    @Override
+    public int getPoints() {
+        return unsignedIntField(POINTS);
+    }
+
+    @Override
+    public int getScore() {
+        return unsignedIntField(SCORE);
+    }
+
+    @Nullable
+    @Override
+    public Vote getVote() {
+        return value(VOTE, p -> Vote.fromKey(stringValue(p)), Vote.fromKey(null));
+    }
+
+    @Override
+    public boolean isFavorite() {
+        return booleanField(FAVORITE);
+    }
+
+    @Override
+    public boolean isNSFW() {
+        return booleanField(NSFW);
+    }
+
+    @Nullable
+    @Override
+    public String getSection() {
+        return stringField(SECTION);
+    }
+
+    @Override
+    public boolean isInGallery() {
+        return booleanField(IN_GALLERY);
+    }
+
+    @Override
+    public boolean isInMostViral() {
+        return flagField(IN_MOST_VIRAL);
+    }
+
+    @Override
+    public boolean isAlbum() {
+        return booleanField(IS_ALBUM);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.entities.lazy;
+
+import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.entities.GalleryImage;
+import net.azzerial.jmgur.internal.entities.GalleryImageImplBinder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+final class LazyGalleryImageImpl extends LazyGalleryElementImpl implements GalleryImage {
+
+    private static final int TYPE = FIELDS.slot("type");
+    private static final int ANIMATED = FIELDS.slot("animated");
+    private static final int WIDTH = FIELDS.slot("width");
+    private static final int HEIGHT = FIELDS.slot("height");
+    private static final int SIZE = FIELDS.slot("size");
+    private static final int BANDWIDTH = FIELDS.slot("bandwidth");
+    private static final int HAS_SOUND = FIELDS.slot("has_sound");
+    private static final int EDITED = FIELDS.slot("edited");
+    private static final int MP4 = FIELDS.slot("mp4");
+    private static final int GIFV = FIELDS.slot("gifv");
+    private static final int HLS = FIELDS.slot("hls");
+    private static final int MP4_SIZE = FIELDS.slot("mp4_size");
+    private static final int LOOPING = FIELDS.slot("looping");
+
+    /* Constructors */
+
+    LazyGalleryImageImpl(@NotNull Jmgur api, @NotNull byte[] source, int offset, @NotNull int[] offsets) {
+        super(api, source, offset, offsets);
+    }
+
+    /* Getters & Setters */
+
+    @NotNull
+    @Override
+    public String getMimeType() {
+        return stringField(TYPE);
+    }
+
+    @Override
+    public boolean isAnimated() {
+        return booleanField(ANIMATED);
+    }
+
+    @Override
+    public int getWidth() {
+        return unsignedIntField(WIDTH);
+    }
+
+    @Override
+    public int getHeight() {
+        return unsignedIntField(HEIGHT);
+    }
+
+    @Override
+    public int getSize() {
+        return unsignedIntField(SIZE);
+    }
+
+    @Override
+    public int getBandwidth() {
+        return unsignedIntField(BANDWIDTH);
+    }
+
+    @Override
+    public boolean hasSound() {
+        return booleanField(HAS_SOUND);
+    }
+
+    @Override
+    public int getEditCount() {
+        return unsignedIntField(EDITED);
+    }
+
+    @Nullable
+    @Override
+    public String getMp4Url() {
+        return stringField(MP4);
+    }
+
+    @Nullable
+    @Override
+    public String getGifvUrl() {
+        return stringField(GIFV);
+    }
+
+    @Nullable
+    @Override
+    public String getHlsUrl() {
+        return stringField(HLS);
+    }
+
+    @Override
+    public int getMp4Size() {
+        return unsignedIntField(MP4_SIZE);
+    }
+
+    @Override
+    public boolean isLooping() {
+        return booleanField(LOOPING);
+    }
+
+    /* Methods */
+
+    @Override
+    public String toString() {
+        return materialize(p -> GalleryImageImplBinder.read(api, p)).toString();
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.entities.lazy;
+
+import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.entities.Image;
+import net.azzerial.jmgur.api.entities.subentities.Vote;
+import net.azzerial.jmgur.internal.entities.ImageImplBinder;
+import net.azzerial.jmgur.internal.entities.binding.ByteSourceParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+import static net.azzerial.jmgur.internal.entities.binding.JsonValues.stringValue;
+
+public final class LazyImageImpl extends LazyEntity implements Image {
+
+    private static final LazyFields FIELDS = new LazyFields(
+        "id", "title", "description", "datetime", "type", "animated", "width", "height", "size",
+        "views", "bandwidth", "vote", "favorite", "nsfw", "section", "account_url", "account_id",
+        "in_most_viral", "has_sound", "edited", "in_gallery", "deletehash", "name", "link"
+    );
+
+    private static final int ID = FIELDS.slot("id");
+    private static final int TITLE = FIELDS.slot("title");
+    private static final int DESCRIPTION = FIELDS.slot("description");
+    private static final int DATETIME = FIELDS.slot("datetime");
+    private static final int TYPE = FIELDS.slot("type");
+    private static final int ANIMATED = FIELDS.slot("animated");
+    private static final int WIDTH = FIELDS.slot("width");
+    private static final int HEIGHT = FIELDS.slot("height");
+    private static final int SIZE = FIELDS.slot("size");
+    private static final int VIEWS = FIELDS.slot("views");
+    private static final int BANDWIDTH = FIELDS.slot("bandwidth");
+    private static final int VOTE = FIELDS.slot("vote");
+    private static final int FAVORITE = FIELDS.slot("favorite");
+    private static final int NSFW = FIELDS.slot("nsfw");
+    private static final int SECTION = FIELDS.slot("section");
+    private static final int ACCOUNT_URL = FIELDS.slot("account_url");
+    private static final int ACCOUNT_ID = FIELDS.slot("account_id");
+    private static final int IN_MOST_VIRAL = FIELDS.slot("in_most_viral");
+    private static final int HAS_SOUND = FIELDS.slot("has_sound");
+    private static final int EDITED = FIELDS.slot("edited");
+    private static final int IN_GALLERY = FIELDS.slot("in_gallery");
+    private static final int DELETE_HASH = FIELDS.slot("deletehash");
+    private static final int NAME = FIELDS.slot("name");
+    private static final int LINK = FIELDS.slot("link");
+
+    /* Constructors */
+
+    LazyImageImpl(@NotNull Jmgur api, @NotNull byte[] source, int offset, @NotNull int[] offsets) {
+        super(api, source, offset, offsets);
+    }
+
+    /* Static Methods */
+
+    @NotNull
+    public static Image read(@NotNull Jmgur api, @NotNull ByteSourceParser p) throws IOException {
+        final int offset = p.getTokenOffset();
+        return new LazyImageImpl(api, p.getSource(), offset, index(p, FIELDS));
+    }
+
+    /* Getters & Setters */
+
+    @NotNull
+    @Override
+    public String getHash() {
+        return stringField(ID);
+    }
+
+    @Nullable
+    @Override
+    public String getTitle() {
+        return stringField(TITLE);
+    }
+
+    @Nullable
+    @Override
+    public String getDescription() {
+        return stringField(DESCRIPTION);
+    }
+
+    @NotNull
+    @Override
+    public OffsetDateTime getCreationDate() {
+        return dateField(DATETIME);
+    }
+
+    @NotNull
+    @Override
+    public String getMimeType() {
+        return stringField(TYPE);
+    }
+
+    @Override
+    public boolean isAnimated() {
+        return booleanField(ANIMATED);
+    }
+
+    @Override
+    public int getWidth() {
+        return unsignedIntField(WIDTH);
+    }
+
+    @Override
+    public int getHeight() {
+        return unsignedIntField(HEIGHT);
+    }
+
+    @Override
+    public int getSize() {
+        return unsignedIntField(SIZE);
+    }
+
+    @Override
+    public int getViews() {
+        return unsignedIntField(VIEWS);
+    }
+
+    @Override
+    public int getBandwidth() {
+        return unsignedIntField(BANDWIDTH);
+    }
+
+    @Nullable
+    @Override
+    public Vote getVote() {
+        return value(VOTE, p -> Vote.fromKey(stringValue(p)), Vote.fromKey(null));
+    }
+
+    @Override
+    public boolean isFavorite() {
+        return booleanField(FAVORITE);
+    }
+
+    @Override
+    public boolean isNSFW() {
+        return booleanField(NSFW);
+    }
+
+    @Nullable
+    @Override
+    public String getSection() {
+        return stringField(SECTION);
+    }
+
+    @Nullable
+    @Override
+    public String getAuthorName() {
+        return stringField(ACCOUNT_URL);
+    }
+
+    @Override
+    public long getAuthorIdLong() {
+        return unsignedLongField(ACCOUNT_ID);
+    }
+
+    @Override
+    public boolean isInMostViral() {
+        return booleanField(IN_MOST_VIRAL);
+    }
+
+    @Override
+    public boolean hasSound() {
+        return booleanField(HAS_SOUND);
+    }
+
+    @Override
+    public int getEditCount() {
+        return unsignedIntField(EDITED);
+    }
+
+    @Override
+    public boolean isInGallery() {
+        return booleanField(IN_GALLERY);
+    }
+
+    @Nullable
+    @Override
+    public String getDeleteHash() {
+        return stringField(DELETE_HASH);
+    }
+
+    @Nullable
+    @Override
+    public String getFileName() {
+        return stringField(NAME);
+    }
+
+    @NotNull
+    @Override
+    public String getUrl() {
+        return stringField(LINK);
+    }
+
+    /* Methods */
+
+    @Override
+    public String toString() {
+        return materialize(p -> ImageImplBinder.read(api, p)).toString();
+    }
+}
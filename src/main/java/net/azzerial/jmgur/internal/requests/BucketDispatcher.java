@@ -0,0 +1,284 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests;
+
+import net.azzerial.jmgur.api.requests.Request;
+import net.azzerial.jmgur.api.requests.Response;
+import net.azzerial.jmgur.api.utils.config.RequesterConfig;
+import net.azzerial.jmgur.api.utils.config.flags.BucketStrategy;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public final class BucketDispatcher {
+
+    public static final long BACKOFF_BASE = 100L;
+    public static final long BACKOFF_MAX = 10_000L;
+    public static final long REJECTED_DELAY = 50L;
+
+    private final Requester requester;
+    private final BucketStrategy strategy;
+    private final int capacity;
+    private final int concurrency;
+    private final Map<Object, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Deque<Bucket> waiting = new ArrayDeque<>();
+
+    private int dispatching = 0;
+
+    /* Constructors */
+
+    public BucketDispatcher(@NotNull Requester requester, @NotNull RequesterConfig config) {
+        Check.notNull(requester, "requester");
+        Check.notNull(config, "config");
+        this.requester = requester;
+        this.strategy = config.getBucketStrategy();
+        this.capacity = requester.isAsync() ? Integer.MAX_VALUE : getCapacity(requester.getApi().getThreadingConfig().getRequesterPool());
+        this.concurrency = Math.min(config.getBucketConcurrency(), capacity);
+    }
+
+    /* Getters & Setters */
+
+    @NotNull
+    public BucketStrategy getStrategy() {
+        return strategy;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public int getQueueSize(@NotNull Route route) {
+        Check.notNull(route, "route");
+        final Bucket bucket = buckets.get(getKey(route));
+        return bucket == null ? 0 : bucket.size();
+    }
+
+    /* Methods */
+
+    public void submit(@NotNull Request<?> request) {
+        Check.notNull(request, "request");
+        final Bucket bucket = buckets.computeIfAbsent(getKey(request.getRoute().getBaseRoute()), k -> new Bucket());
+
+        bucket.add(request);
+        drain(bucket);
+    }
+
+    /* Internal */
+
+    private static int getCapacity(@NotNull ExecutorService pool) {
+        if (!(pool instanceof ThreadPoolExecutor))
+            return Integer.MAX_VALUE;
+        final ThreadPoolExecutor executor = (ThreadPoolExecutor) pool;
+        return (int) Math.min((long) executor.getMaximumPoolSize() + executor.getQueue().remainingCapacity(), Integer.MAX_VALUE);
+    }
+
+    @NotNull
+    private Object getKey(@NotNull Route route) {
+        switch (strategy) {
+            case GLOBAL:
+                return BucketStrategy.GLOBAL;
+            case ROUTE:
+                return route;
+            default:
+                return route.getGroup();
+        }
+    }
+
+    private void drain(@NotNull Bucket bucket) {
+        Request<?> request;
+
+        while ((request = bucket.poll()) != null) {
+            if (request.isSkipped()) {
+                bucket.complete(0);
+                continue;
+            }
+
+            final CircuitBreaker breaker = requester.getCircuitBreakers().get(request.getRoute().getBaseRoute());
+            final CircuitBreaker.Permit permit = breaker == null ? null : breaker.tryAcquire();
+            if (breaker != null && permit == null) {
+                bucket.complete(0);
+                request.onFailure(breaker.newException());
+                continue;
+            }
+
+            final long delay = requester.getRateLimiter().acquire(request);
+            if (delay > 0) {
+                if (permit != null)
+                    permit.release();
+                // A request is never held back past its deadline, it expires once the deadline is reached.
+                final long wait = request.getDeadline() > 0 ? Math.min(delay, request.getDeadline() - System.currentTimeMillis()) : delay;
+                if (wait <= 0) {
+                    bucket.complete(0);
+                    request.expire();
+                    continue;
+                }
+                Requester.LOG.debug("Holding back request to {} for {}ms to stay within the rate limit", request.getRoute().getCompiledRoute(), wait);
+                bucket.pushBack(request, wait);
+                return;
+            }
+
+            if (!acquireSlot(bucket, request)) {
+                requester.getRateLimiter().release(request);
+                if (permit != null)
+                    permit.release();
+                return;
+            }
+
+            final Request<?> current = request;
+            try {
+                requester.dispatch(request, code -> {
+                    requester.getRateLimiter().release(current);
+                    // Only the last attempt is timed, retry backoff does not make a call slow.
+                    if (permit != null)
+                        permit.record(code, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - current.getAttemptStart()));
+                    bucket.complete(code);
+                    releaseSlot();
+                    drain(bucket);
+                });
+            } catch (RejectedExecutionException e) {
+                requester.getRateLimiter().release(request);
+                if (permit != null)
+                    permit.release();
+                releaseSlot();
+                if (requester.getApi().getThreadingConfig().getRequesterPool().isShutdown()) {
+                    bucket.complete(0);
+                    request.onFailure(e);
+                    continue;
+                }
+                bucket.pushBack(request, REJECTED_DELAY);
+                return;
+            }
+        }
+    }
+
+    private boolean acquireSlot(@NotNull Bucket bucket, @NotNull Request<?> request) {
+        synchronized (waiting) {
+            if (dispatching < capacity) {
+                dispatching += 1;
+                return true;
+            }
+            // The requester pool is saturated, the bucket is drained again once a dispatched request completes.
+            bucket.unpoll(request);
+            if (!waiting.contains(bucket))
+                waiting.addLast(bucket);
+            return false;
+        }
+    }
+
+    private void releaseSlot() {
+        final Bucket next;
+
+        synchronized (waiting) {
+            dispatching -= 1;
+            next = waiting.pollFirst();
+        }
+        if (next != null)
+            drain(next);
+    }
+
+    /* Inner Classes */
+
+    private final class Bucket {
+
+        private final Deque<Request<?>> queue = new ArrayDeque<>();
+
+        private int inFlight = 0;
+        private int failures = 0;
+        private long backoffUntil = 0L;
+        private boolean drainScheduled = false;
+
+        /* Getters & Setters */
+
+        synchronized int size() {
+            return queue.size();
+        }
+
+        /* Methods */
+
+        synchronized void add(@NotNull Request<?> request) {
+            queue.addLast(request);
+        }
+
+        @Nullable
+        synchronized Request<?> poll() {
+            if (queue.isEmpty() || inFlight >= concurrency)
+                return null;
+
+            final long now = System.currentTimeMillis();
+            if (backoffUntil > now) {
+                scheduleDrain(backoffUntil - now);
+                return null;
+            }
+            inFlight += 1;
+            return queue.pollFirst();
+        }
+
+        synchronized void unpoll(@NotNull Request<?> request) {
+            inFlight -= 1;
+            queue.addFirst(request);
+        }
+
+        synchronized void pushBack(@NotNull Request<?> request, long delay) {
+            inFlight -= 1;
+            queue.addFirst(request);
+            backoffUntil = Math.max(backoffUntil, System.currentTimeMillis() + delay);
+            scheduleDrain(delay);
+        }
+
+        synchronized void complete(int code) {
+            inFlight -= 1;
+            if (code == Response.ERROR_CODE || code == 429 || code >= 500) {
+                failures += 1;
+                backoffUntil = System.currentTimeMillis() + Math.min(BACKOFF_BASE << Math.min(failures - 1, 16), BACKOFF_MAX);
+            } else if (code > 0)
+                failures = 0;
+        }
+
+        /* Internal */
+
+        private void scheduleDrain(long delay) {
+            if (drainScheduled)
+                return;
+            drainScheduled = true;
+            try {
+                requester.getApi().getThreadingConfig().getSchedulerPool().schedule(() -> {
+                    synchronized (this) {
+                        drainScheduled = false;
+                    }
+                    drain(this);
+                }, delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                drainScheduled = false;
+                while (!queue.isEmpty())
+                    queue.pollFirst().onFailure(e);
+            }
+        }
+    }
+}
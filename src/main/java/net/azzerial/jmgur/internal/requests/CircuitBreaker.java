@@ -0,0 +1,205 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests;
+
+import net.azzerial.jmgur.api.exceptions.CircuitOpenException;
+import net.azzerial.jmgur.api.requests.CircuitState;
+import net.azzerial.jmgur.api.requests.Response;
+import net.azzerial.jmgur.api.utils.CircuitBreakerStats;
+import net.azzerial.jmgur.api.utils.config.CircuitBreakerConfig;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public final class CircuitBreaker {
+
+    private final CircuitBreakerRegistry registry;
+    private final CircuitBreakerConfig config;
+    private final String name;
+    private final boolean[] failures;
+    private final boolean[] slowCalls;
+
+    private CircuitState state = CircuitState.CLOSED;
+    private long generation = 0L;
+    private Permit permit = new Permit(0L, false);
+    private int position = 0;
+    private int callCount = 0;
+    private int failureCount = 0;
+    private int slowCallCount = 0;
+    private long openedAt = 0L;
+    private int probesInFlight = 0;
+    private int probeSuccesses = 0;
+    private long rejectedCount = 0L;
+
+    /* Constructors */
+
+    CircuitBreaker(@NotNull CircuitBreakerRegistry registry, @NotNull CircuitBreakerConfig config, @NotNull String name) {
+        this.registry = registry;
+        this.config = config;
+        this.name = name;
+        this.failures = new boolean[config.getWindowSize()];
+        this.slowCalls = new boolean[config.getWindowSize()];
+    }
+
+    /* Getters & Setters */
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    @NotNull
+    public synchronized CircuitState getState() {
+        return state;
+    }
+
+    @NotNull
+    public synchronized CircuitBreakerStats getStats() {
+        return new CircuitBreakerStats(
+            name,
+            state,
+            callCount,
+            callCount == 0 ? 0.0 : (double) failureCount / callCount,
+            callCount == 0 ? 0.0 : (double) slowCallCount / callCount,
+            rejectedCount
+        );
+    }
+
+    /* Methods */
+
+    @Nullable
+    public synchronized Permit tryAcquire() {
+        if (state == CircuitState.CLOSED)
+            return permit;
+        if (state == CircuitState.OPEN && System.currentTimeMillis() >= openedAt + config.getOpenDuration())
+            transition(CircuitState.HALF_OPEN);
+        if (state == CircuitState.HALF_OPEN && probesInFlight + probeSuccesses < config.getHalfOpenProbes()) {
+            probesInFlight += 1;
+            return new Permit(generation, true);
+        }
+        rejectedCount += 1;
+        return null;
+    }
+
+    @NotNull
+    public synchronized CircuitOpenException newException() {
+        return new CircuitOpenException(name, openedAt + config.getOpenDuration() - System.currentTimeMillis());
+    }
+
+    /* Internal */
+
+    private synchronized void release(@NotNull Permit permit) {
+        if (permit.probe && permit.generation == generation && probesInFlight > 0)
+            probesInFlight -= 1;
+    }
+
+    private synchronized void record(@NotNull Permit permit, int code, long duration) {
+        if (code == 0) {
+            release(permit);
+            return;
+        }
+        // Every transition starts a new generation, outcomes of calls admitted before it are stale.
+        if (permit.generation != generation)
+            return;
+
+        final boolean failure = code == Response.ERROR_CODE || code >= 500;
+        final boolean slow = duration >= config.getSlowCallDuration();
+
+        if (!permit.probe) {
+            add(failure, slow);
+            if (callCount >= config.getMinimumCalls()
+                && (failureCount >= config.getFailureRateThreshold() * callCount
+                || slowCallCount >= config.getSlowCallRateThreshold() * callCount))
+                transition(CircuitState.OPEN);
+            return;
+        }
+
+        if (probesInFlight > 0)
+            probesInFlight -= 1;
+        if (failure || slow)
+            transition(CircuitState.OPEN);
+        else if (++probeSuccesses >= config.getHalfOpenProbes())
+            transition(CircuitState.CLOSED);
+    }
+
+    private void add(boolean failure, boolean slow) {
+        if (callCount == failures.length) {
+            if (failures[position])
+                failureCount -= 1;
+            if (slowCalls[position])
+                slowCallCount -= 1;
+        } else
+            callCount += 1;
+
+        failures[position] = failure;
+        slowCalls[position] = slow;
+        if (failure)
+            failureCount += 1;
+        if (slow)
+            slowCallCount += 1;
+        position = (position + 1) % failures.length;
+    }
+
+    private void transition(@NotNull CircuitState newState) {
+        final CircuitState oldState = state;
+
+        state = newState;
+        generation += 1;
+        permit = new Permit(generation, false);
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (newState == CircuitState.OPEN)
+            openedAt = System.currentTimeMillis();
+        if (newState == CircuitState.CLOSED) {
+            position = 0;
+            callCount = 0;
+            failureCount = 0;
+            slowCallCount = 0;
+        }
+        registry.onStateChange(this, oldState, newState);
+    }
+
+    /* Inner Classes */
+
+    public final class Permit {
+
+        private final long generation;
+        private final boolean probe;
+
+        /* Constructors */
+
+        private Permit(long generation, boolean probe) {
+            this.generation = generation;
+            this.probe = probe;
+        }
+
+        /* Getters & Setters */
+
+        public boolean isProbe() {
+            return probe;
+        }
+
+        /* Methods */
+
+        public void release() {
+            CircuitBreaker.this.release(this);
+        }
+
+        public void record(int code, long duration) {
+            CircuitBreaker.this.record(this, code, duration);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests;
+
+import net.azzerial.jmgur.api.requests.CircuitBreakerListener;
+import net.azzerial.jmgur.api.requests.CircuitState;
+import net.azzerial.jmgur.api.utils.CircuitBreakerStats;
+import net.azzerial.jmgur.api.utils.config.CircuitBreakerConfig;
+import net.azzerial.jmgur.api.utils.config.flags.BucketStrategy;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+public final class CircuitBreakerRegistry {
+
+    private final Requester requester;
+    private final CircuitBreakerConfig config;
+    private final Map<Object, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    /* Constructors */
+
+    public CircuitBreakerRegistry(@NotNull Requester requester, @NotNull CircuitBreakerConfig config) {
+        Check.notNull(requester, "requester");
+        Check.notNull(config, "config");
+        this.requester = requester;
+        this.config = config;
+    }
+
+    /* Getters & Setters */
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    @NotNull
+    public Map<String, CircuitBreakerStats> getStats() {
+        final Map<String, CircuitBreakerStats> stats = new TreeMap<>();
+        for (final CircuitBreaker breaker : breakers.values())
+            stats.put(breaker.getName(), breaker.getStats());
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /* Methods */
+
+    @Nullable
+    public CircuitBreaker get(@NotNull Route route) {
+        Check.notNull(route, "route");
+        if (!config.isEnabled())
+            return null;
+        return breakers.computeIfAbsent(getKey(route), key -> new CircuitBreaker(this, config, getName(key)));
+    }
+
+    /* Internal */
+
+    @NotNull
+    private Object getKey(@NotNull Route route) {
+        switch (config.getStrategy()) {
+            case GLOBAL:
+                return BucketStrategy.GLOBAL;
+            case ROUTE:
+                return route;
+            default:
+                return route.getGroup();
+        }
+    }
+
+    @NotNull
+    private static String getName(@NotNull Object key) {
+        if (key instanceof Route) {
+            final Route route = (Route) key;
+            return route.getMethod() + " " + route.getRoute();
+        }
+        return ((Enum<?>) key).name();
+    }
+
+    void onStateChange(@NotNull CircuitBreaker breaker, @NotNull CircuitState oldState, @NotNull CircuitState newState) {
+        Requester.LOG.debug("Circuit breaker {} went from {} to {}", breaker.getName(), oldState, newState);
+        for (final CircuitBreakerListener listener : config.getListeners()) {
+            try {
+                requester.getApi().getThreadingConfig().getCallbackPool().execute(() -> {
+                    try {
+                        listener.onStateChange(breaker.getName(), oldState, newState);
+                    } catch (Throwable t) {
+                        Requester.LOG.error("A circuit breaker listener threw an exception", t);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                Requester.LOG.debug("Dropped a circuit breaker event, the callback pool is shut down");
+            }
+        }
+    }
+}
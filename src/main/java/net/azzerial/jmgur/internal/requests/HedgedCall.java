@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests;
+
+import net.azzerial.jmgur.api.requests.Request;
+import okhttp3.Call;
+import okhttp3.Callback;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+
+final class HedgedCall {
+
+    private final Requester requester;
+    private final Request<?> apiRequest;
+    private final int attempt;
+    private final IntConsumer onDone;
+    private final List<Call> calls = new ArrayList<>(2);
+
+    private int outstanding = 0;
+    private boolean settled = false;
+    private Future<?> scheduledHedge;
+
+    /* Constructors */
+
+    HedgedCall(@NotNull Requester requester, @NotNull Request<?> apiRequest, int attempt, @NotNull IntConsumer onDone) {
+        this.requester = requester;
+        this.apiRequest = apiRequest;
+        this.attempt = attempt;
+        this.onDone = onDone;
+    }
+
+    /* Methods */
+
+    synchronized void setScheduledHedge(@NotNull Future<?> scheduledHedge) {
+        if (settled)
+            scheduledHedge.cancel(false);
+        else
+            this.scheduledHedge = scheduledHedge;
+    }
+
+    synchronized boolean isSettled() {
+        return settled;
+    }
+
+    void cancel() {
+        final List<Call> active;
+        synchronized (this) {
+            active = new ArrayList<>(calls);
+        }
+        for (final Call call : active)
+            call.cancel();
+    }
+
+    void launch(boolean reserved) {
+        final Call call;
+        synchronized (this) {
+            if (settled) {
+                if (reserved)
+                    requester.getRateLimiter().release(apiRequest);
+                return;
+            }
+            call = requester.getHttpClient().newCall(requester.buildRequest(apiRequest));
+            calls.add(call);
+            outstanding += 1;
+        }
+
+        final long start = System.nanoTime();
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                if (reserved)
+                    requester.getRateLimiter().release(apiRequest);
+                synchronized (HedgedCall.this) {
+                    outstanding -= 1;
+                    if (settled || outstanding > 0)
+                        return;
+                    settle(call);
+                }
+                requester.onCallFailure(apiRequest, attempt, e, onDone);
+            }
+
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull okhttp3.Response response) {
+                if (reserved)
+                    requester.getRateLimiter().release(apiRequest);
+                synchronized (HedgedCall.this) {
+                    outstanding -= 1;
+                    if (settled) {
+                        response.close();
+                        return;
+                    }
+                    settle(call);
+                }
+                requester.recordLatency(apiRequest, start);
+                requester.onCallResponse(apiRequest, attempt, response, onDone);
+            }
+        });
+    }
+
+    /* Internal */
+
+    private void settle(@NotNull Call winner) {
+        settled = true;
+        if (scheduledHedge != null)
+            scheduledHedge.cancel(false);
+        for (final Call call : calls) {
+            if (call != winner)
+                call.cancel();
+        }
+    }
+}
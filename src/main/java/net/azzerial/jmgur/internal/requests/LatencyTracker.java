@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests;
+
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class LatencyTracker {
+
+    public static final int WINDOW_SIZE = 128;
+    public static final int MINIMUM_SAMPLES = 20;
+
+    private final Map<Route, Window> windows = new ConcurrentHashMap<>();
+
+    /* Methods */
+
+    public void record(@NotNull Route route, long latency) {
+        Check.notNull(route, "route");
+        windows.computeIfAbsent(route, k -> new Window()).add(latency);
+    }
+
+    public long getPercentile(@NotNull Route route, double percentile) {
+        Check.notNull(route, "route");
+        Check.check(percentile > 0.0 && percentile <= 1.0, "percentile must be in ]0, 1]");
+        final Window window = windows.get(route);
+        return window == null ? -1L : window.getPercentile(percentile);
+    }
+
+    /* Inner Classes */
+
+    private static final class Window {
+
+        private final long[] samples = new long[WINDOW_SIZE];
+
+        private int position = 0;
+        private int count = 0;
+
+        /* Methods */
+
+        synchronized void add(long latency) {
+            samples[position] = latency;
+            position = (position + 1) % samples.length;
+            if (count < samples.length)
+                count += 1;
+        }
+
+        synchronized long getPercentile(double percentile) {
+            if (count < MINIMUM_SAMPLES)
+                return -1L;
+            final long[] sorted = Arrays.copyOf(samples, count);
+
+            Arrays.sort(sorted);
+            return sorted[Math.min(count - 1, (int) Math.ceil(percentile * count) - 1)];
+        }
+    }
+}
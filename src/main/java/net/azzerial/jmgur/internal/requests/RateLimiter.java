@@ -0,0 +1,222 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests;
+
+import net.azzerial.jmgur.api.requests.RateLimit;
+import net.azzerial.jmgur.api.requests.Request;
+import net.azzerial.jmgur.internal.utils.Check;
+import okio.ByteString;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class RateLimiter {
+
+    public static final String CLIENT_LIMIT_HEADER = "X-RateLimit-ClientLimit";
+    public static final String CLIENT_REMAINING_HEADER = "X-RateLimit-ClientRemaining";
+    public static final String CLIENT_RESET_HEADER = "X-RateLimit-ClientReset";
+    public static final String USER_LIMIT_HEADER = "X-RateLimit-UserLimit";
+    public static final String USER_REMAINING_HEADER = "X-RateLimit-UserRemaining";
+    public static final String USER_RESET_HEADER = "X-RateLimit-UserReset";
+    public static final String POST_LIMIT_HEADER = "X-Post-Rate-Limit-Limit";
+    public static final String POST_REMAINING_HEADER = "X-Post-Rate-Limit-Remaining";
+    public static final String POST_RESET_HEADER = "X-Post-Rate-Limit-Reset";
+    public static final long UNKNOWN_RESET_DELAY = 60_000L;
+
+    private final Requester requester;
+    private final Map<String, Bucket> clientBuckets = new ConcurrentHashMap<>();
+    private final Map<String, Bucket> userBuckets = new ConcurrentHashMap<>();
+    private final Map<String, Bucket> postBuckets = new ConcurrentHashMap<>();
+
+    /* Constructors */
+
+    public RateLimiter(@NotNull Requester requester) {
+        Check.notNull(requester, "requester");
+        this.requester = requester;
+    }
+
+    /* Getters & Setters */
+
+    @NotNull
+    public RateLimit getRateLimit() {
+        final String clientKey = requester.getAuthConfig().getClientId();
+        final String userKey = getUserKey(AuthorizationHeader.BEARER.format(requester));
+        final Bucket client = clientBuckets.get(clientKey);
+        final Bucket user = userBuckets.get(userKey);
+        final Bucket post = postBuckets.get(userKey);
+
+        return new RateLimit(
+            client == null ? RateLimit.UNKNOWN : client.getLimit(),
+            client == null ? RateLimit.UNKNOWN : client.getRemaining(),
+            client == null ? null : client.getResetTime(),
+            user == null ? RateLimit.UNKNOWN : user.getLimit(),
+            user == null ? RateLimit.UNKNOWN : user.getRemaining(),
+            user == null ? null : user.getResetTime(),
+            post == null ? RateLimit.UNKNOWN : post.getLimit(),
+            post == null ? RateLimit.UNKNOWN : post.getRemaining(),
+            post == null ? null : post.getResetTime()
+        );
+    }
+
+    /* Methods */
+
+    public long acquire(@NotNull Request<?> request) {
+        Check.notNull(request, "request");
+        final Bucket[] buckets = getBuckets(request.getRoute());
+        final long now = System.currentTimeMillis();
+
+        synchronized (this) {
+            long delay = 0;
+
+            for (final Bucket bucket : buckets)
+                delay = Math.max(delay, bucket.getDelay(now));
+            if (delay > 0)
+                return delay;
+            for (final Bucket bucket : buckets)
+                bucket.reserve();
+            return 0;
+        }
+    }
+
+    public void update(@NotNull Request<?> request, @NotNull okhttp3.Response response) {
+        Check.notNull(request, "request");
+        Check.notNull(response, "response");
+        final Bucket[] buckets = getBuckets(request.getRoute());
+        final long now = System.currentTimeMillis();
+
+        final int clientRemaining = getIntHeader(response, CLIENT_REMAINING_HEADER);
+        if (clientRemaining != RateLimit.UNKNOWN) {
+            final long reset = getLongHeader(response, CLIENT_RESET_HEADER);
+            buckets[0].update(getIntHeader(response, CLIENT_LIMIT_HEADER), clientRemaining, reset < 0 ? now + UNKNOWN_RESET_DELAY : reset * 1000L);
+        }
+
+        final int userRemaining = getIntHeader(response, USER_REMAINING_HEADER);
+        if (userRemaining != RateLimit.UNKNOWN) {
+            final long reset = getLongHeader(response, USER_RESET_HEADER);
+            buckets[1].update(getIntHeader(response, USER_LIMIT_HEADER), userRemaining, reset < 0 ? now + UNKNOWN_RESET_DELAY : reset * 1000L);
+        }
+
+        final int postRemaining = getIntHeader(response, POST_REMAINING_HEADER);
+        if (postRemaining != RateLimit.UNKNOWN && buckets.length > 2) {
+            final long reset = getLongHeader(response, POST_RESET_HEADER);
+            buckets[2].update(getIntHeader(response, POST_LIMIT_HEADER), postRemaining, now + (reset < 0 ? UNKNOWN_RESET_DELAY : reset * 1000L));
+        }
+    }
+
+    public void release(@NotNull Request<?> request) {
+        Check.notNull(request, "request");
+        for (final Bucket bucket : getBuckets(request.getRoute()))
+            bucket.release();
+    }
+
+    /* Internal */
+
+    @NotNull
+    private Bucket[] getBuckets(@NotNull Route.CompiledRoute route) {
+        final String clientKey = requester.getAuthConfig().getClientId();
+        final String userKey = getUserKey(route.getAuthHeader().format(requester));
+        final Bucket client = clientBuckets.computeIfAbsent(clientKey, k -> new Bucket());
+        final Bucket user = userBuckets.computeIfAbsent(userKey, k -> new Bucket());
+
+        if (route.getMethod() != Method.POST)
+            return new Bucket[] {client, user};
+        return new Bucket[] {client, user, postBuckets.computeIfAbsent(userKey, k -> new Bucket())};
+    }
+
+    @NotNull
+    private static String getUserKey(@NotNull String authorization) {
+        // Buckets outlive the tokens they were created for, only a digest of the credentials is kept around.
+        return ByteString.encodeUtf8(authorization).sha256().base64();
+    }
+
+    private static int getIntHeader(@NotNull okhttp3.Response response, @NotNull String name) {
+        return (int) Math.min(Integer.MAX_VALUE, getLongHeader(response, name));
+    }
+
+    private static long getLongHeader(@NotNull okhttp3.Response response, @NotNull String name) {
+        final String value = response.header(name);
+
+        if (value == null)
+            return RateLimit.UNKNOWN;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return RateLimit.UNKNOWN;
+        }
+    }
+
+    /* Inner Classes */
+
+    private static final class Bucket {
+
+        private int limit = RateLimit.UNKNOWN;
+        private int remaining = RateLimit.UNKNOWN;
+        private long reset = 0L;
+        private int inFlight = 0;
+
+        /* Getters & Setters */
+
+        synchronized int getLimit() {
+            return limit;
+        }
+
+        synchronized int getRemaining() {
+            return remaining;
+        }
+
+        @Nullable
+        synchronized OffsetDateTime getResetTime() {
+            return reset <= 0 ? null : OffsetDateTime.ofInstant(Instant.ofEpochMilli(reset), ZoneOffset.UTC);
+        }
+
+        synchronized long getDelay(long now) {
+            if (remaining == RateLimit.UNKNOWN)
+                return 0;
+            if (reset > 0 && reset <= now) {
+                remaining = limit == RateLimit.UNKNOWN ? RateLimit.UNKNOWN : limit;
+                reset = 0;
+                return 0;
+            }
+            if (remaining - inFlight > 0)
+                return 0;
+            return reset > 0 ? reset - now : UNKNOWN_RESET_DELAY;
+        }
+
+        /* Methods */
+
+        synchronized void reserve() {
+            inFlight += 1;
+        }
+
+        synchronized void release() {
+            if (inFlight > 0)
+                inFlight -= 1;
+        }
+
+        synchronized void update(int limit, int remaining, long reset) {
+            if (limit != RateLimit.UNKNOWN)
+                this.limit = limit;
+            this.remaining = remaining;
+            this.reset = reset;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests;
+
+import net.azzerial.jmgur.api.requests.Request;
+import net.azzerial.jmgur.internal.entities.binding.Projection;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class RequestCoalescer {
+
+    private final Requester requester;
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+    private final AtomicLong flightCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /* Constructors */
+
+    public RequestCoalescer(@NotNull Requester requester) {
+        Check.notNull(requester, "requester");
+        this.requester = requester;
+    }
+
+    /* Getters & Setters */
+
+    public long getFlightCount() {
+        return flightCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public int getInFlightCount() {
+        return flights.size();
+    }
+
+    /* Methods */
+
+    public boolean join(@NotNull Request<?> request) {
+        Check.notNull(request, "request");
+        final Route.CompiledRoute route = request.getRoute();
+
+        // Streamed elements are handed to a single consumer, the result left to share is empty.
+        if (route.getMethod() != Method.GET || request.getBody() != null || request.isStreaming())
+            return false;
+
+        final Projection projection = request.getRestAction().getProjection();
+        // Projected results are partial entities, they are only shared with requests of the same projection.
+        final String key = route.getAuthHeader().format(requester) + ' ' + route.getCompiledRoute() + (projection == null ? "" : ' ' + projection.getKey());
+        final Flight flight = new Flight();
+
+        while (true) {
+            final Flight existing = flights.putIfAbsent(key, flight);
+
+            if (existing == null) {
+                flightCount.incrementAndGet();
+                request.onComplete((result, error) -> complete(key, flight, result, error));
+                return false;
+            }
+            if (existing.add(request)) {
+                coalescedCount.incrementAndGet();
+                return true;
+            }
+            flights.remove(key, existing);
+        }
+    }
+
+    /* Internal */
+
+    @SuppressWarnings("unchecked")
+    private void complete(@NotNull String key, @NotNull Flight flight, @Nullable Object result, @Nullable Throwable error) {
+        flights.remove(key, flight);
+        final List<Request<?>> followers = flight.close();
+
+        for (final Request<?> follower : followers) {
+            if (error instanceof CancellationException || error instanceof TimeoutException)
+                requester.request(follower);
+            else if (follower.isSkipped())
+                continue;
+            else if (error != null)
+                follower.onFailure(error);
+            else
+                ((Request<Object>) follower).onSuccess(copyOf(result));
+        }
+    }
+
+    @Nullable
+    private static Object copyOf(@Nullable Object result) {
+        // Each caller gets its own list, changes made by one of them must not show up for the others.
+        return result instanceof List ? new ArrayList<>((List<?>) result) : result;
+    }
+
+    /* Inner Classes */
+
+    private static final class Flight {
+
+        private final List<Request<?>> followers = new ArrayList<>();
+
+        private boolean closed = false;
+
+        /* Methods */
+
+        synchronized boolean add(@NotNull Request<?> request) {
+            if (closed)
+                return false;
+            followers.add(request);
+            return true;
+        }
+
+        @NotNull
+        synchronized List<Request<?>> close() {
+            closed = true;
+            return followers;
+        }
+    }
+}
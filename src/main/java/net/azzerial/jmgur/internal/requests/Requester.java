@@ -26,19 +26,30 @@ import net.azzerial.jmgur.api.Jmgur;
 import net.azzerial.jmgur.api.JmgurInfo;
 import net.azzerial.jmgur.api.requests.Request;
 import net.azzerial.jmgur.api.requests.Response;
+import net.azzerial.jmgur.api.requests.RetryPolicy;
 import net.azzerial.jmgur.api.utils.config.AuthenticationConfig;
+import net.azzerial.jmgur.api.utils.config.RequesterConfig;
+import net.azzerial.jmgur.api.utils.config.flags.ConfigFlag;
+import net.azzerial.jmgur.internal.requests.restaction.RestActionImpl;
 import net.azzerial.jmgur.internal.utils.Check;
+import net.azzerial.jmgur.internal.utils.concurrent.TimingWheel;
 import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.RequestBody;
 import okhttp3.internal.http.HttpMethod;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.net.SocketTimeoutException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
 
 public final class Requester {
 
@@ -47,10 +58,21 @@ public final class Requester {
     public static final String USER_AGENT = "Jmgur (" + JmgurInfo.GITHUB + ", " + JmgurInfo.VERSION + ")";
     public static final MediaType MEDIA_TYPE_JSON  = MediaType.parse("application/json; charset=utf-8");
     public static final RequestBody EMPTY_BODY = RequestBody.create(new byte[0], MEDIA_TYPE_JSON);
+    public static final long HEDGE_FALLBACK_DELAY = 500L;
 
     private final Jmgur api;
     private final AuthenticationConfig authConfig;
     private final OkHttpClient httpClient;
+    private final RateLimiter rateLimiter;
+    private final BucketDispatcher dispatcher;
+    private final RequestCoalescer coalescer;
+    private final ResponseCache responseCache;
+    private final RetryPolicy retryPolicy;
+    private final RetryBudget retryBudget;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final RetryBudget hedgeBudget;
+    private final LatencyTracker latencies;
+    private final TimingWheel deadlines;
 
     /* Constructors */
 
@@ -59,6 +81,17 @@ public final class Requester {
         this.api = api;
         this.authConfig = api.getAuthenticationConfig();
         this.httpClient = api.getSessionConfig().getHttpClient();
+        this.rateLimiter = new RateLimiter(this);
+        this.dispatcher = new BucketDispatcher(this, api.getRequesterConfig());
+        this.coalescer = new RequestCoalescer(this);
+        this.responseCache = openResponseCache(api.getRequesterConfig());
+        this.retryPolicy = api.getRequesterConfig().getRetryPolicy();
+        this.retryBudget = new RetryBudget(api.getRequesterConfig().getRetryBudget(), api.getRequesterConfig().getRetryBudgetMinimum());
+        this.circuitBreakers = new CircuitBreakerRegistry(this, api.getRequesterConfig().getCircuitBreakerConfig());
+        // A single token at most, hedges never run ahead of the configured share of requests.
+        this.hedgeBudget = new RetryBudget(api.getRequesterConfig().getHedgeBudget(), 0.0, 1.0);
+        this.latencies = new LatencyTracker();
+        this.deadlines = new TimingWheel(api.getThreadingConfig().getSchedulerPool());
     }
 
     /* Getters & Setters */
@@ -78,20 +111,138 @@ public final class Requester {
         return httpClient;
     }
 
+    @NotNull
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    @NotNull
+    public BucketDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    @NotNull
+    public RequestCoalescer getCoalescer() {
+        return coalescer;
+    }
+
+    @Nullable
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    @NotNull
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    @NotNull
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    @NotNull
+    public CircuitBreakerRegistry getCircuitBreakers() {
+        return circuitBreakers;
+    }
+
+    @NotNull
+    public RetryBudget getHedgeBudget() {
+        return hedgeBudget;
+    }
+
+    @NotNull
+    public TimingWheel getDeadlines() {
+        return deadlines;
+    }
+
+    @NotNull
+    public LatencyTracker getLatencies() {
+        return latencies;
+    }
+
+    public boolean isAsync() {
+        return api.getSessionConfig().hasFlag(ConfigFlag.ASYNC_REQUESTS);
+    }
+
+    public boolean isCoalescing() {
+        return api.getSessionConfig().hasFlag(ConfigFlag.COALESCE_REQUESTS);
+    }
+
     /* Methods */
 
     public <T> void request(@NotNull Request<T> request) {
         Check.notNull(request, "request");
-        execute(request);
+        if (request.isSkipped())
+            return;
+        if (request.getDeadline() > 0)
+            request.setDeadlineTimeout(deadlines.schedule(request::expire, request.getDeadline() - System.currentTimeMillis(), TimeUnit.MILLISECONDS));
+        if (respondFromCache(request))
+            return;
+        if (isCoalescing() && coalescer.join(request))
+            return;
+        dispatcher.submit(request);
+    }
+
+    public void shutdown() {
+        if (responseCache != null)
+            responseCache.close();
     }
 
     /* Internal */
 
-    private void execute(@NotNull Request<?> apiRequest) {
-        execute(apiRequest, false);
+    @Nullable
+    private static ResponseCache openResponseCache(@NotNull RequesterConfig config) {
+        if (config.getResponseCacheDirectory() == null)
+            return null;
+        try {
+            return new ResponseCache(config.getResponseCacheDirectory(), config.getResponseCacheSize(), config.getResponseCacheTtl());
+        } catch (IOException e) {
+            LOG.error("Could not open the response cache, continuing without it", e);
+            return null;
+        }
+    }
+
+    private boolean respondFromCache(@NotNull Request<?> apiRequest) {
+        if (responseCache == null)
+            return false;
+        final okhttp3.Response response = responseCache.get(apiRequest, buildRequest(apiRequest));
+        if (response == null)
+            return false;
+
+        try {
+            apiRequest.handleResponse(new Response(api, response));
+        } catch (Exception e) {
+            LOG.error("There was an exception while handling a cached response", e);
+            apiRequest.handleResponse(new Response(api, response, e));
+        } finally {
+            response.close();
+        }
+        return true;
     }
 
-    private void execute(@NotNull Request<?> apiRequest, boolean retried) {
+    @NotNull
+    private okhttp3.Response cache(@NotNull Request<?> apiRequest, @NotNull okhttp3.Response response) throws IOException {
+        return responseCache == null ? response : responseCache.store(apiRequest, response);
+    }
+
+    void dispatch(@NotNull Request<?> request, @NotNull IntConsumer onDone) {
+        retryBudget.deposit();
+        attempt(request, 1, onDone);
+    }
+
+    private void attempt(@NotNull Request<?> request, int attempt, @NotNull IntConsumer onDone) {
+        request.setAttemptStart(System.nanoTime());
+        if (isHedged(request))
+            hedge(request, attempt, onDone);
+        else if (isAsync())
+            enqueue(request, attempt, onDone);
+        else
+            api.getThreadingConfig().getRequesterPool().execute(() -> execute(request, attempt, onDone));
+    }
+
+    @NotNull
+    okhttp3.Request buildRequest(@NotNull Request<?> apiRequest) {
         final okhttp3.Request.Builder builder = new okhttp3.Request.Builder();
         final Route.CompiledRoute route = apiRequest.getRoute();
 
@@ -108,48 +259,220 @@ public final class Requester {
             .header("accept-encoding", "gzip")
             .header("authorization", route.getAuthHeader().format(this));
 
-        final okhttp3.Request request = builder.build();
-        final okhttp3.Response[] responses = new okhttp3.Response[4];
-        okhttp3.Response lastResponse = null;
+        if (responseCache != null)
+            responseCache.addValidators(apiRequest, builder);
+        return builder.build();
+    }
+
+    /* --- Blocking --- */
+
+    private void execute(@NotNull Request<?> apiRequest, int attempt, @NotNull IntConsumer onDone) {
+        if (apiRequest.isSkipped()) {
+            onDone.accept(0);
+            return;
+        }
+
+        okhttp3.Response response = null;
+        int code = Response.ERROR_CODE;
+        boolean retrying = false;
         try {
-            int attempt = 0;
+            final long start = System.nanoTime();
+            final Call call = httpClient.newCall(buildRequest(apiRequest));
+            apiRequest.setCanceller(call::cancel);
+            response = call.execute();
+            recordLatency(apiRequest, start);
+            rateLimiter.update(apiRequest, response);
 
-            do {
-                if (apiRequest.isSkipped())
-                    return;
+            retrying = retry(apiRequest, attempt, response.code(), null, onDone);
+            if (retrying)
+                return;
+            final okhttp3.Response handled = cache(apiRequest, response);
+            apiRequest.handleResponse(new Response(api, handled));
+            code = handled.code();
+        } catch (IOException e) {
+            if (apiRequest.isDone() || apiRequest.isSkipped()) {
+                code = 0;
+                return;
+            }
+            retrying = retry(apiRequest, attempt, Response.ERROR_CODE, e, onDone);
+            if (retrying)
+                return;
+            handleFailure(apiRequest, response, e);
+        } catch (Exception e) {
+            LOG.error("There was an exception while executing a REST request", e);
+            apiRequest.handleResponse(new Response(api, response, e));
+        } finally {
+            if (response != null)
+                response.close();
+            if (!retrying)
+                onDone.accept(code);
+        }
+    }
 
-                final Call call = httpClient.newCall(request);
-                lastResponse = call.execute();
-                responses[attempt] = lastResponse;
+    /* --- Non-Blocking --- */
 
-                if (lastResponse.code() < 500)
-                    break;
-                attempt += 1;
+    private void enqueue(@NotNull Request<?> apiRequest, int attempt, @NotNull IntConsumer onDone) {
+        if (apiRequest.isSkipped()) {
+            onDone.accept(0);
+            return;
+        }
 
-                try {
-                    Thread.sleep(50 * attempt);
-                } catch (InterruptedException ignored) {}
-            } while (attempt < 3 && lastResponse.code() >= 500);
+        final long start = System.nanoTime();
+        final Call call = httpClient.newCall(buildRequest(apiRequest));
+        apiRequest.setCanceller(call::cancel);
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                onCallFailure(apiRequest, attempt, e, onDone);
+            }
 
-            apiRequest.handleResponse(new Response(api, lastResponse));
-        } catch (SocketTimeoutException e) {
-            if (!retried) {
-                execute(apiRequest, true);
-                return;
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull okhttp3.Response response) {
+                recordLatency(apiRequest, start);
+                onCallResponse(apiRequest, attempt, response, onDone);
             }
-            LOG.error("Requester timed out while executing a request", e);
-            apiRequest.handleResponse(new Response(api, lastResponse, e));
-        } catch (InterruptedIOException e) {
-            LOG.warn("Got interrupted while executing request", e);
+        });
+    }
+
+    void onCallFailure(@NotNull Request<?> apiRequest, int attempt, @NotNull IOException e, @NotNull IntConsumer onDone) {
+        if (apiRequest.isDone() || apiRequest.isSkipped()) {
+            onDone.accept(0);
+            return;
+        }
+        if (retry(apiRequest, attempt, Response.ERROR_CODE, e, onDone))
+            return;
+        try {
+            handleFailure(apiRequest, null, e);
+        } finally {
+            onDone.accept(Response.ERROR_CODE);
+        }
+    }
+
+    void onCallResponse(@NotNull Request<?> apiRequest, int attempt, @NotNull okhttp3.Response response, @NotNull IntConsumer onDone) {
+        rateLimiter.update(apiRequest, response);
+        if (retry(apiRequest, attempt, response.code(), null, onDone)) {
+            response.close();
+            return;
+        }
+        try {
+            apiRequest.handleResponse(new Response(api, cache(apiRequest, response)));
         } catch (Exception e) {
             LOG.error("There was an exception while executing a REST request", e);
-            apiRequest.handleResponse(new Response(api, lastResponse, e));
+            apiRequest.handleResponse(new Response(api, response, e));
         } finally {
-            for (final okhttp3.Response r : responses) {
-                if (r == null)
-                    break;
-                r.close();
+            response.close();
+            onDone.accept(response.code());
+        }
+    }
+
+    /* --- Hedging --- */
+
+    private boolean isHedged(@NotNull Request<?> apiRequest) {
+        return apiRequest.getRestAction().getHedgeDelay() != RestActionImpl.HEDGE_DISABLED
+            && apiRequest.getRoute().getMethod() == Method.GET
+            && apiRequest.getBody() == null;
+    }
+
+    private void hedge(@NotNull Request<?> apiRequest, int attempt, @NotNull IntConsumer onDone) {
+        if (apiRequest.isSkipped()) {
+            onDone.accept(0);
+            return;
+        }
+
+        final HedgedCall call = new HedgedCall(this, apiRequest, attempt, onDone);
+        apiRequest.setCanceller(call::cancel);
+        hedgeBudget.deposit();
+        call.launch(false);
+
+        final long delay = getHedgeDelay(apiRequest);
+        try {
+            call.setScheduledHedge(api.getThreadingConfig().getSchedulerPool().schedule(() -> {
+                if (call.isSettled() || apiRequest.isCancelled())
+                    return;
+                if (rateLimiter.acquire(apiRequest) > 0) {
+                    LOG.debug("Not hedging request to {}, it would exceed the rate limit", apiRequest.getRoute().getCompiledRoute());
+                    return;
+                }
+                if (!hedgeBudget.tryWithdraw()) {
+                    rateLimiter.release(apiRequest);
+                    LOG.debug("Not hedging request to {}, the hedging budget is exhausted", apiRequest.getRoute().getCompiledRoute());
+                    return;
+                }
+                LOG.debug("Hedging request to {} after {}ms", apiRequest.getRoute().getCompiledRoute(), delay);
+                call.launch(true);
+            }, delay, TimeUnit.MILLISECONDS));
+        } catch (RejectedExecutionException e) {
+            LOG.debug("The scheduler rejected a hedged request, continuing without hedging");
+        }
+    }
+
+    private long getHedgeDelay(@NotNull Request<?> apiRequest) {
+        final long delay = apiRequest.getRestAction().getHedgeDelay();
+        if (delay != RestActionImpl.HEDGE_ADAPTIVE)
+            return delay;
+
+        final long p95 = latencies.getPercentile(apiRequest.getRoute().getBaseRoute(), 0.95);
+        return p95 < 0 ? HEDGE_FALLBACK_DELAY : Math.max(p95, 1L);
+    }
+
+    void recordLatency(@NotNull Request<?> apiRequest, long start) {
+        if (apiRequest.getRoute().getMethod() == Method.GET)
+            latencies.record(apiRequest.getRoute().getBaseRoute(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /* --- Retries --- */
+
+    private boolean retry(@NotNull Request<?> apiRequest, int attempt, int code, @Nullable IOException failure, @NotNull IntConsumer onDone) {
+        if (apiRequest.isSkipped())
+            return false;
+        if (failure instanceof SocketTimeoutException && !api.getSessionConfig().hasFlag(ConfigFlag.RETRY_TIMEOUT))
+            return false;
+        if (failure instanceof InterruptedIOException && !(failure instanceof SocketTimeoutException))
+            return false;
+
+        final long delay = retryPolicy.getRetryDelay(apiRequest, attempt, code, failure);
+        if (delay < 0)
+            return false;
+        if (!retryBudget.tryWithdraw()) {
+            LOG.debug("Not retrying request to {}, the retry budget is exhausted", apiRequest.getRoute().getCompiledRoute());
+            return false;
+        }
+
+        LOG.debug("Retrying request to {} in {}ms (attempt {})", apiRequest.getRoute().getCompiledRoute(), delay, attempt + 1);
+        schedule(() -> {
+            try {
+                attempt(apiRequest, attempt + 1, onDone);
+            } catch (RejectedExecutionException e) {
+                apiRequest.onFailure(e);
+                onDone.accept(Response.ERROR_CODE);
             }
+        }, delay);
+        return true;
+    }
+
+    private void handleFailure(@NotNull Request<?> apiRequest, @Nullable okhttp3.Response response, @NotNull IOException e) {
+        if (e instanceof SocketTimeoutException) {
+            LOG.error("Requester timed out while executing a request", e);
+            apiRequest.handleResponse(new Response(api, response, e));
+        } else if (e instanceof InterruptedIOException) {
+            LOG.warn("Got interrupted while executing request", e);
+            // OkHttp reports an elapsed call timeout as an interruption, either way the request must be settled.
+            if ("timeout".equals(e.getMessage()))
+                apiRequest.onTimeout();
+            else
+                apiRequest.onFailure(e);
+        } else {
+            LOG.error("There was an exception while executing a REST request", e);
+            apiRequest.handleResponse(new Response(api, response, e));
+        }
+    }
+
+    void schedule(@NotNull Runnable task, long delay) {
+        try {
+            api.getThreadingConfig().getSchedulerPool().schedule(task, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            LOG.warn("The scheduler rejected a delayed request, executing it right away", e);
+            task.run();
         }
     }
 }
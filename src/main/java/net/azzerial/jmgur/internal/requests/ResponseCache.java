@@ -0,0 +1,682 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests;
+
+import net.azzerial.jmgur.api.requests.Request;
+import net.azzerial.jmgur.internal.utils.Check;
+import net.azzerial.jmgur.internal.utils.IOUtil;
+import okhttp3.CacheControl;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.ResponseBody;
+import okio.ByteString;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+public final class ResponseCache implements Closeable {
+
+    public static final Logger LOG = LoggerFactory.getLogger(ResponseCache.class);
+    public static final String CACHE_HEADER = "X-Jmgur-Cache";
+
+    private static final String INDEX_FILE = "index.bin";
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+
+    private static final int MAGIC = 0x4A4D4743;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int SLOT_SIZE = 32;
+    private static final int INITIAL_CAPACITY = 1 << 12;
+    private static final long MINIMUM_SEGMENT_SIZE = 64L * 1024;
+    private static final long MAXIMUM_SEGMENT_SIZE = 256L * 1024 * 1024;
+
+    private static final long EMPTY = 0L;
+    private static final long TOMBSTONE = -1L;
+
+    private final File directory;
+    private final long maximumSize;
+    private final long ttl;
+    private final long segmentSize;
+    private final TreeMap<Integer, Segment> segments = new TreeMap<>();
+
+    private FileChannel indexChannel;
+    private MappedByteBuffer index;
+    private int capacity;
+    private int used;
+    private int live;
+    private Segment head;
+    private long totalSize;
+    private boolean closed;
+
+    /* Constructors */
+
+    public ResponseCache(@NotNull File directory, long maximumSize, long ttl) throws IOException {
+        Check.notNull(directory, "directory");
+        Check.positive(maximumSize, "maximumSize");
+        Check.notNegative(ttl, "ttl");
+        if (!directory.isDirectory() && !directory.mkdirs())
+            throw new IOException("Could not create the response cache directory: " + directory);
+        this.directory = directory;
+        this.maximumSize = maximumSize;
+        this.ttl = ttl;
+        this.segmentSize = Math.min(MAXIMUM_SEGMENT_SIZE, Math.max(MINIMUM_SEGMENT_SIZE, maximumSize / 8));
+
+        openSegments();
+        openIndex();
+        this.head = segments.isEmpty() ? newSegment(0) : segments.lastEntry().getValue();
+        compact();
+    }
+
+    /* Getters & Setters */
+
+    @NotNull
+    public File getDirectory() {
+        return directory;
+    }
+
+    public synchronized long getSize() {
+        return totalSize;
+    }
+
+    public synchronized int getEntryCount() {
+        return live;
+    }
+
+    /* Methods */
+
+    public boolean isCacheable(@NotNull Request<?> request) {
+        return request.getRoute().getMethod() == Method.GET && request.getBody() == null;
+    }
+
+    @Nullable
+    public synchronized okhttp3.Response get(@NotNull Request<?> apiRequest, @NotNull okhttp3.Request request) {
+        if (closed || !isCacheable(apiRequest))
+            return null;
+        final String key = getKey(apiRequest, apiRequest.getRoute().getAuthHeader());
+        final int slot = find(hash(key));
+
+        if (slot == -1 || System.currentTimeMillis() >= getExpiresAt(slot))
+            return null;
+        final Record record = read(slot, key);
+        return record == null ? null : record.toResponse(request, "HIT");
+    }
+
+    public synchronized void addValidators(@NotNull Request<?> apiRequest, @NotNull okhttp3.Request.Builder builder) {
+        if (closed || !isCacheable(apiRequest))
+            return;
+        final String key = getKey(apiRequest, apiRequest.getRoute().getAuthHeader());
+        final int slot = find(hash(key));
+
+        if (slot == -1)
+            return;
+        final Record record = read(slot, key);
+        if (record != null && record.etag != null)
+            builder.header("If-None-Match", record.etag);
+    }
+
+    @NotNull
+    @SuppressWarnings("ConstantConditions")
+    public okhttp3.Response store(@NotNull Request<?> apiRequest, @NotNull okhttp3.Response response) throws IOException {
+        if (!isCacheable(apiRequest)) {
+            if (response.isSuccessful())
+                invalidate(apiRequest);
+            return response;
+        }
+        if (response.code() == 304)
+            return revalidate(apiRequest, response);
+        if (response.code() != 200)
+            return response;
+
+        final CacheControl cacheControl = response.cacheControl();
+        final String etag = response.header("ETag");
+        final long expiresAt = getExpiresAt(cacheControl);
+
+        if (cacheControl.noStore() || (etag == null && expiresAt <= System.currentTimeMillis()))
+            return response;
+
+        final byte[] body;
+        try (final InputStream data = IOUtil.getBody(response)) {
+            if (data == null)
+                return response;
+            body = readFully(data);
+        }
+
+        final MediaType contentType = response.body().contentType();
+        final String key = getKey(apiRequest, apiRequest.getRoute().getAuthHeader());
+        synchronized (this) {
+            if (!closed) {
+                try {
+                    put(new Record(key, etag, contentType == null ? null : contentType.toString(), body), expiresAt);
+                } catch (IOException e) {
+                    LOG.warn("Could not write a response to the cache", e);
+                }
+            }
+        }
+
+        return response.newBuilder()
+            .removeHeader("Content-Encoding")
+            .removeHeader("Content-Length")
+            .header(CACHE_HEADER, "MISS")
+            .body(ResponseBody.create(body, contentType))
+            .build();
+    }
+
+    public synchronized void invalidate(@NotNull Request<?> apiRequest) {
+        if (closed)
+            return;
+        for (final AuthorizationHeader header : AuthorizationHeader.values()) {
+            final int slot = find(hash(getKey(apiRequest, header)));
+            if (slot != -1)
+                remove(slot);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed)
+            return;
+        closed = true;
+        index.force();
+        closeQuietly(indexChannel);
+        for (final Segment segment : segments.values())
+            closeQuietly(segment.channel);
+        segments.clear();
+    }
+
+    /* Internal */
+
+    @NotNull
+    private static String getKey(@NotNull Request<?> apiRequest, @NotNull AuthorizationHeader header) {
+        // Entries are keyed by a digest of the credentials, so another token never reads a previous user's responses.
+        final String credentials = ByteString.encodeUtf8(header.format(apiRequest.getApi().getRequester())).sha256().base64();
+        return credentials + ' ' + apiRequest.getRoute().getCompiledRoute();
+    }
+
+    private static long hash(@NotNull String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (final byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xFF);
+            hash *= 0x100000001b3L;
+        }
+        return (hash == EMPTY || hash == TOMBSTONE) ? 1L : hash;
+    }
+
+    private long getExpiresAt(@NotNull CacheControl cacheControl) {
+        final long now = System.currentTimeMillis();
+
+        if (cacheControl.noCache())
+            return now;
+        if (cacheControl.maxAgeSeconds() != -1)
+            return now + cacheControl.maxAgeSeconds() * 1000L;
+        return now + ttl;
+    }
+
+    @NotNull
+    private static byte[] readFully(@NotNull InputStream data) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int read;
+
+        while ((read = data.read(buffer)) != -1)
+            out.write(buffer, 0, read);
+        return out.toByteArray();
+    }
+
+    private static void closeQuietly(@NotNull Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            LOG.debug("Could not close a response cache file", e);
+        }
+    }
+
+    @NotNull
+    private okhttp3.Response revalidate(@NotNull Request<?> apiRequest, @NotNull okhttp3.Response response) {
+        final String key = getKey(apiRequest, apiRequest.getRoute().getAuthHeader());
+        final Record record;
+
+        synchronized (this) {
+            if (closed)
+                return response;
+            final int slot = find(hash(key));
+            if (slot == -1 || (record = read(slot, key)) == null)
+                return response;
+            setExpiresAt(slot, getExpiresAt(response.cacheControl()));
+        }
+        response.close();
+        return record.toResponse(response.request(), "REVALIDATED");
+    }
+
+    /* --- Segments --- */
+
+    private void openSegments() throws IOException {
+        final File[] files = directory.listFiles();
+
+        if (files == null)
+            throw new IOException("Could not list the response cache directory: " + directory);
+        for (final File file : files) {
+            final String name = file.getName();
+            if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX))
+                continue;
+
+            final int id;
+            try {
+                id = Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            final Segment segment = new Segment(id, file);
+            segments.put(id, segment);
+            totalSize += segment.size;
+        }
+    }
+
+    @NotNull
+    private Segment newSegment(int id) throws IOException {
+        final Segment segment = new Segment(id, new File(directory, SEGMENT_PREFIX + id + SEGMENT_SUFFIX));
+        segments.put(id, segment);
+        totalSize += segment.size;
+        return segment;
+    }
+
+    private void dropSegment(@NotNull Segment segment) {
+        for (int i = 0; i < capacity; i++) {
+            final long hash = index.getLong(slotOffset(i));
+            if (hash != EMPTY && hash != TOMBSTONE && index.getInt(slotOffset(i) + 16) == segment.id)
+                remove(i);
+        }
+        segments.remove(segment.id);
+        totalSize -= segment.size;
+        closeQuietly(segment.channel);
+        if (!segment.file.delete())
+            LOG.warn("Could not delete the response cache segment {}", segment.file);
+    }
+
+    private void append(@NotNull byte[] data, int slot, long hash, long expiresAt) throws IOException {
+        if (head.size > 0 && head.size + data.length > segmentSize)
+            head = newSegment(head.id + 1);
+
+        final Segment segment = head;
+        final int offset = (int) segment.size;
+        final ByteBuffer buffer = ByteBuffer.wrap(data);
+
+        while (buffer.hasRemaining())
+            segment.channel.write(buffer, offset + buffer.position());
+        segment.size += data.length;
+        totalSize += data.length;
+
+        if (slot == -1) {
+            slot = findInsertionSlot(hash);
+            if (index.getLong(slotOffset(slot)) == EMPTY)
+                used += 1;
+            live += 1;
+        } else
+            release(slot);
+
+        final int position = slotOffset(slot);
+        index.putLong(position, hash);
+        index.putLong(position + 8, expiresAt);
+        index.putInt(position + 16, segment.id);
+        index.putInt(position + 20, offset);
+        index.putInt(position + 24, data.length);
+        segment.liveBytes += data.length;
+        segment.maxExpiresAt = Math.max(segment.maxExpiresAt, expiresAt);
+    }
+
+    private void compact() throws IOException {
+        final long now = System.currentTimeMillis();
+
+        for (final Segment segment : new ArrayList<>(segments.values())) {
+            if (segment == head)
+                continue;
+            if (segment.liveBytes == 0 || segment.maxExpiresAt + ttl < now)
+                dropSegment(segment);
+            else if (segment.liveBytes * 2 < segment.size)
+                rewriteSegment(segment, now);
+        }
+        while (totalSize > maximumSize && segments.size() > 1)
+            dropSegment(segments.firstEntry().getValue());
+    }
+
+    private void rewriteSegment(@NotNull Segment segment, long now) throws IOException {
+        for (int i = 0; i < capacity; i++) {
+            final int position = slotOffset(i);
+            final long hash = index.getLong(position);
+
+            if (hash == EMPTY || hash == TOMBSTONE || index.getInt(position + 16) != segment.id)
+                continue;
+            if (index.getLong(position + 8) + ttl < now) {
+                remove(i);
+                continue;
+            }
+
+            final byte[] data = readRaw(segment, index.getInt(position + 20), index.getInt(position + 24));
+            if (data == null)
+                remove(i);
+            else
+                append(data, i, hash, index.getLong(position + 8));
+        }
+        dropSegment(segment);
+    }
+
+    @Nullable
+    private byte[] readRaw(@NotNull Segment segment, int offset, int length) {
+        if (offset < 0 || length < 0 || (long) offset + length > segment.size)
+            return null;
+
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        try {
+            while (buffer.hasRemaining()) {
+                if (segment.channel.read(buffer, offset + buffer.position()) == -1)
+                    throw new EOFException();
+            }
+        } catch (IOException e) {
+            LOG.warn("Could not read from the response cache segment {}", segment.file, e);
+            return null;
+        }
+        return buffer.array();
+    }
+
+    /* --- Index --- */
+
+    private void openIndex() throws IOException {
+        indexChannel = new RandomAccessFile(new File(directory, INDEX_FILE), "rw").getChannel();
+
+        final long size = indexChannel.size();
+        if (size >= HEADER_SIZE) {
+            index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            final int storedCapacity = index.getInt(8);
+            if (index.getInt(0) == MAGIC
+                && index.getInt(4) == VERSION
+                && storedCapacity > 0
+                && Integer.bitCount(storedCapacity) == 1
+                && size == HEADER_SIZE + (long) storedCapacity * SLOT_SIZE) {
+                capacity = storedCapacity;
+                loadIndex();
+                return;
+            }
+            LOG.warn("The response cache index is corrupted or outdated, starting from an empty cache");
+        }
+
+        for (final Segment segment : new ArrayList<>(segments.values())) {
+            segments.remove(segment.id);
+            closeQuietly(segment.channel);
+            if (!segment.file.delete())
+                LOG.warn("Could not delete the response cache segment {}", segment.file);
+        }
+        totalSize = 0;
+        indexChannel.truncate(0);
+        mapIndex(INITIAL_CAPACITY);
+    }
+
+    private void loadIndex() {
+        for (int i = 0; i < capacity; i++) {
+            final int position = slotOffset(i);
+            final long hash = index.getLong(position);
+
+            if (hash == EMPTY)
+                continue;
+            used += 1;
+            if (hash == TOMBSTONE)
+                continue;
+
+            final Segment segment = segments.get(index.getInt(position + 16));
+            final int offset = index.getInt(position + 20);
+            final int length = index.getInt(position + 24);
+            if (segment == null || offset < 0 || length < 0 || (long) offset + length > segment.size) {
+                index.putLong(position, TOMBSTONE);
+                continue;
+            }
+            live += 1;
+            segment.liveBytes += length;
+            segment.maxExpiresAt = Math.max(segment.maxExpiresAt, index.getLong(position + 8));
+        }
+    }
+
+    private void mapIndex(int newCapacity) throws IOException {
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) newCapacity * SLOT_SIZE);
+        capacity = newCapacity;
+        index.putInt(0, MAGIC);
+        index.putInt(4, VERSION);
+        index.putInt(8, capacity);
+    }
+
+    private void rehash(int newCapacity) throws IOException {
+        final List<long[]> entries = new ArrayList<>(live);
+
+        for (int i = 0; i < capacity; i++) {
+            final int position = slotOffset(i);
+            final long hash = index.getLong(position);
+            if (hash == EMPTY || hash == TOMBSTONE)
+                continue;
+            entries.add(new long[] {
+                hash,
+                index.getLong(position + 8),
+                index.getLong(position + 16),
+                index.getLong(position + 24)
+            });
+        }
+        if (newCapacity != capacity)
+            mapIndex(newCapacity);
+        for (int i = 0; i < capacity; i++) {
+            final int position = slotOffset(i);
+            for (int j = 0; j < SLOT_SIZE; j += 8)
+                index.putLong(position + j, 0L);
+        }
+        for (final long[] entry : entries) {
+            final int position = slotOffset(findInsertionSlot(entry[0]));
+            index.putLong(position, entry[0]);
+            index.putLong(position + 8, entry[1]);
+            index.putLong(position + 16, entry[2]);
+            index.putLong(position + 24, entry[3]);
+        }
+        used = entries.size();
+        live = entries.size();
+    }
+
+    private static int slotOffset(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    private int find(long hash) {
+        int slot = (int) (hash ^ (hash >>> 32)) & (capacity - 1);
+
+        for (int probes = 0; probes < capacity; probes++) {
+            final long stored = index.getLong(slotOffset(slot));
+            if (stored == EMPTY)
+                return -1;
+            if (stored == hash)
+                return slot;
+            slot = (slot + 1) & (capacity - 1);
+        }
+        return -1;
+    }
+
+    private int findInsertionSlot(long hash) {
+        int slot = (int) (hash ^ (hash >>> 32)) & (capacity - 1);
+
+        while (true) {
+            final long stored = index.getLong(slotOffset(slot));
+            if (stored == EMPTY || stored == TOMBSTONE)
+                return slot;
+            slot = (slot + 1) & (capacity - 1);
+        }
+    }
+
+    private long getExpiresAt(int slot) {
+        return index.getLong(slotOffset(slot) + 8);
+    }
+
+    private void setExpiresAt(int slot, long expiresAt) {
+        final int position = slotOffset(slot);
+        final Segment segment = segments.get(index.getInt(position + 16));
+
+        index.putLong(position + 8, expiresAt);
+        if (segment != null)
+            segment.maxExpiresAt = Math.max(segment.maxExpiresAt, expiresAt);
+    }
+
+    private void release(int slot) {
+        final int position = slotOffset(slot);
+        final Segment segment = segments.get(index.getInt(position + 16));
+
+        if (segment != null)
+            segment.liveBytes -= index.getInt(position + 24);
+    }
+
+    private void remove(int slot) {
+        release(slot);
+        index.putLong(slotOffset(slot), TOMBSTONE);
+        live -= 1;
+    }
+
+    private void put(@NotNull Record record, long expiresAt) throws IOException {
+        final long hash = hash(record.key);
+
+        if (find(hash) == -1 && (used + 1) * 4L > capacity * 3L)
+            rehash((live + 1) * 2L > capacity ? capacity * 2 : capacity);
+
+        final int headId = head.id;
+        append(record.encode(), find(hash), hash, expiresAt);
+        if (head.id != headId)
+            compact();
+    }
+
+    @Nullable
+    private Record read(int slot, @NotNull String key) {
+        final int position = slotOffset(slot);
+        final Segment segment = segments.get(index.getInt(position + 16));
+        final byte[] data = segment == null ? null : readRaw(segment, index.getInt(position + 20), index.getInt(position + 24));
+
+        if (data == null) {
+            remove(slot);
+            return null;
+        }
+
+        final Record record;
+        try {
+            record = Record.decode(data);
+        } catch (IOException e) {
+            LOG.warn("Found a corrupted entry in the response cache segment {}", segment.file, e);
+            remove(slot);
+            return null;
+        }
+        return record.key.equals(key) ? record : null;
+    }
+
+    /* Inner Classes */
+
+    private static final class Segment {
+
+        private final int id;
+        private final File file;
+        private final FileChannel channel;
+        private long size;
+        private long liveBytes;
+        private long maxExpiresAt;
+
+        /* Constructors */
+
+        private Segment(int id, @NotNull File file) throws IOException {
+            this.id = id;
+            this.file = file;
+            this.channel = new RandomAccessFile(file, "rw").getChannel();
+            this.size = channel.size();
+            this.liveBytes = 0;
+            this.maxExpiresAt = 0;
+        }
+    }
+
+    private static final class Record {
+
+        private final String key;
+        private final String etag;
+        private final String contentType;
+        private final byte[] body;
+
+        /* Constructors */
+
+        private Record(@NotNull String key, @Nullable String etag, @Nullable String contentType, @NotNull byte[] body) {
+            this.key = key;
+            this.etag = etag;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        /* Methods */
+
+        @NotNull
+        private byte[] encode() throws IOException {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length + 256);
+            final DataOutputStream out = new DataOutputStream(bytes);
+
+            out.writeUTF(key);
+            out.writeUTF(etag == null ? "" : etag);
+            out.writeUTF(contentType == null ? "" : contentType);
+            out.writeInt(body.length);
+            out.write(body);
+            return bytes.toByteArray();
+        }
+
+        @NotNull
+        private static Record decode(@NotNull byte[] data) throws IOException {
+            final DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+            final String key = in.readUTF();
+            final String etag = in.readUTF();
+            final String contentType = in.readUTF();
+            final byte[] body = new byte[in.readInt()];
+
+            in.readFully(body);
+            return new Record(key, etag.isEmpty() ? null : etag, contentType.isEmpty() ? null : contentType, body);
+        }
+
+        @NotNull
+        private okhttp3.Response toResponse(@NotNull okhttp3.Request request, @NotNull String source) {
+            final okhttp3.Response.Builder builder = new okhttp3.Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .header(CACHE_HEADER, source)
+                .body(ResponseBody.create(body, contentType == null ? null : MediaType.parse(contentType)));
+
+            if (etag != null)
+                builder.header("ETag", etag);
+            return builder.build();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests;
+
+import net.azzerial.jmgur.internal.utils.Check;
+
+public final class RetryBudget {
+
+    public static final double MAXIMUM_BALANCE = 50.0;
+
+    private final double ratio;
+    private final double minimumPerSecond;
+    private final double maximumBalance;
+
+    private double balance;
+    private long lastRefill;
+    private long retryCount = 0L;
+    private long rejectedCount = 0L;
+
+    /* Constructors */
+
+    public RetryBudget(double ratio) {
+        this(ratio, 0.0);
+    }
+
+    public RetryBudget(double ratio, double minimumPerSecond) {
+        this(ratio, minimumPerSecond, MAXIMUM_BALANCE);
+    }
+
+    public RetryBudget(double ratio, double minimumPerSecond, double maximumBalance) {
+        Check.check(ratio >= 0.0, "ratio must be positive or zero");
+        Check.check(minimumPerSecond >= 0.0, "minimumPerSecond must be positive or zero");
+        Check.check(maximumBalance >= 1.0, "maximumBalance must be at least 1");
+        this.ratio = ratio;
+        this.minimumPerSecond = minimumPerSecond;
+        this.maximumBalance = maximumBalance;
+        this.balance = Math.min(maximumBalance, minimumPerSecond);
+        this.lastRefill = System.nanoTime();
+    }
+
+    /* Getters & Setters */
+
+    public double getRatio() {
+        return ratio;
+    }
+
+    public double getMinimumPerSecond() {
+        return minimumPerSecond;
+    }
+
+    public double getMaximumBalance() {
+        return maximumBalance;
+    }
+
+    public synchronized double getBalance() {
+        refill();
+        return balance;
+    }
+
+    public synchronized long getRetryCount() {
+        return retryCount;
+    }
+
+    public synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /* Methods */
+
+    public synchronized void deposit() {
+        refill();
+        balance = Math.min(maximumBalance, balance + ratio);
+    }
+
+    public synchronized boolean tryWithdraw() {
+        refill();
+        if (balance < 1.0) {
+            rejectedCount += 1;
+            return false;
+        }
+        balance -= 1.0;
+        retryCount += 1;
+        return true;
+    }
+
+    /* Internal */
+
+    private void refill() {
+        if (minimumPerSecond == 0.0)
+            return;
+        final long now = System.nanoTime();
+        balance = Math.min(maximumBalance, balance + (now - lastRefill) / 1e9 * minimumPerSecond);
+        lastRefill = now;
+    }
+}
@@ -30,6 +30,7 @@ import org.jetbrains.annotations.NotNull;
 
 import static net.azzerial.jmgur.internal.requests.AuthorizationHeader.BEARER;
 import static net.azzerial.jmgur.internal.requests.AuthorizationHeader.CLIENT_ID;
+import static net.azzerial.jmgur.internal.requests.EndpointGroup.*;
 import static net.azzerial.jmgur.internal.requests.Method.*;
 
 public final class Route {
@@ -41,55 +42,55 @@ public final class Route {
 
         /* --- Profiles --- */
 
-        public static final Route GET_USER_PROFILE = new Route(GET, BEARER, "3/account/{username}");
-        public static final Route GET_USER_GALLERY_PROFILE = new Route(GET, BEARER, "3/account/{username}/gallery_profile");
+        public static final Route GET_USER_PROFILE = new Route(ACCOUNT, GET, BEARER, "3/account/{username}");
+        public static final Route GET_USER_GALLERY_PROFILE = new Route(ACCOUNT, GET, BEARER, "3/account/{username}/gallery_profile");
 
         /* --- Blocks --- */
 
-        public static final Route GET_SELF_BLOCK_STATUS = new Route(GET, BEARER, "account/v1/{username}/block");
-        public static final Route GET_SELF_BLOCKS = new Route(GET, BEARER, "3/account/me/block");
-        public static final Route POST_SELF_BLOCK_CREATE = new Route(POST, BEARER, "account/v1/{username}/block");
-        public static final Route DELETE_SELF_BLOCK_CREATE = new Route(DELETE, BEARER, "account/v1/{username}/block");
+        public static final Route GET_SELF_BLOCK_STATUS = new Route(ACCOUNT, GET, BEARER, "account/v1/{username}/block");
+        public static final Route GET_SELF_BLOCKS = new Route(ACCOUNT, GET, BEARER, "3/account/me/block");
+        public static final Route POST_SELF_BLOCK_CREATE = new Route(ACCOUNT, POST, BEARER, "account/v1/{username}/block");
+        public static final Route DELETE_SELF_BLOCK_CREATE = new Route(ACCOUNT, DELETE, BEARER, "account/v1/{username}/block");
 
         /* --- Resources --- */
 
-        public static final Route GET_USER_GALLERY_FAVORITES = new Route(GET, BEARER, "3/account/{username}/gallery_favorites/(page)/(favorites_sort)");
-        public static final Route GET_USER_FAVORITES = new Route(GET, BEARER, "3/account/{username}/favorites/(page)/(favorites_sort)");
-        public static final Route GET_USER_SUBMISSIONS = new Route(GET, BEARER, "3/account/{username}/submissions/(page)");
+        public static final Route GET_USER_GALLERY_FAVORITES = new Route(ACCOUNT, GET, BEARER, "3/account/{username}/gallery_favorites/(page)/(favorites_sort)");
+        public static final Route GET_USER_FAVORITES = new Route(ACCOUNT, GET, BEARER, "3/account/{username}/favorites/(page)/(favorites_sort)");
+        public static final Route GET_USER_SUBMISSIONS = new Route(ACCOUNT, GET, BEARER, "3/account/{username}/submissions/(page)");
 
         /* --- Avatars --- */
 
-        public static final Route GET_USER_AVAILABLE_AVATARS = new Route(GET, BEARER, "3/account/{username}/available_avatars");
-        public static final Route GET_USER_AVATAR = new Route(GET, BEARER, "3/account/{username}/avatar");
+        public static final Route GET_USER_AVAILABLE_AVATARS = new Route(ACCOUNT, GET, BEARER, "3/account/{username}/available_avatars");
+        public static final Route GET_USER_AVATAR = new Route(ACCOUNT, GET, BEARER, "3/account/{username}/avatar");
 
         /* --- Settings --- */
 
-        public static final Route GET_SELF_SETTINGS = new Route(GET, BEARER, "3/account/me/settings");
-        public static final Route POST_SELF_SETTINGS = new Route(POST, BEARER, "3/account/me/settings");
+        public static final Route GET_SELF_SETTINGS = new Route(ACCOUNT, GET, BEARER, "3/account/me/settings");
+        public static final Route POST_SELF_SETTINGS = new Route(ACCOUNT, POST, BEARER, "3/account/me/settings");
 
         /* --- Albums --- */
 
-        public static final Route GET_USER_ALBUMS = new Route(GET, BEARER, "3/account/{username}/albums/(page)");
-        public static final Route GET_USER_ALBUM = new Route(GET, BEARER, "3/account/{username}/album/{album_hash}");
-        public static final Route GET_USER_ALBUM_IDS = new Route(GET, BEARER, "3/account/{username}/albums/ids/(page)");
-        public static final Route GET_USER_ALBUM_COUNT = new Route(GET, BEARER, "3/account/{username}/albums/count");
-        public static final Route DELETE_USER_ALBUM = new Route(DELETE, BEARER, "3/account/{username}/album/{delete_hash}");
+        public static final Route GET_USER_ALBUMS = new Route(ACCOUNT, GET, BEARER, "3/account/{username}/albums/(page)");
+        public static final Route GET_USER_ALBUM = new Route(ACCOUNT, GET, BEARER, "3/account/{username}/album/{album_hash}");
+        public static final Route GET_USER_ALBUM_IDS = new Route(ACCOUNT, GET, BEARER, "3/account/{username}/albums/ids/(page)");
+        public static final Route GET_USER_ALBUM_COUNT = new Route(ACCOUNT, GET, BEARER, "3/account/{username}/albums/count");
+        public static final Route DELETE_USER_ALBUM = new Route(ACCOUNT, DELETE, BEARER, "3/account/{username}/album/{delete_hash}");
 
         /* --- Comments --- */
 
-        public static final Route GET_USER_COMMENTS = new Route(GET, BEARER, "3/account/{username}/comments/(comment_sort)/(page)");
-        public static final Route GET_USER_COMMENT = new Route(GET, BEARER, "3/account/{username}/comment/{comment_id}");
-        public static final Route GET_USER_COMMENT_IDS = new Route(GET, BEARER, "3/account/{username}/comments/ids/(comment_sort)/(page)");
-        public static final Route GET_USER_COMMENT_COUNT = new Route(GET, BEARER, "3/account/{username}/comments/count");
-        public static final Route DELETE_SELF_COMMENT = new Route(DELETE, BEARER, "3/account/{username}/comment/{comment_id}");
+        public static final Route GET_USER_COMMENTS = new Route(ACCOUNT, GET, BEARER, "3/account/{username}/comments/(comment_sort)/(page)");
+        public static final Route GET_USER_COMMENT = new Route(ACCOUNT, GET, BEARER, "3/account/{username}/comment/{comment_id}");
+        public static final Route GET_USER_COMMENT_IDS = new Route(ACCOUNT, GET, BEARER, "3/account/{username}/comments/ids/(comment_sort)/(page)");
+        public static final Route GET_USER_COMMENT_COUNT = new Route(ACCOUNT, GET, BEARER, "3/account/{username}/comments/count");
+        public static final Route DELETE_SELF_COMMENT = new Route(ACCOUNT, DELETE, BEARER, "3/account/{username}/comment/{comment_id}");
 
         /* --- Images --- */
 
-        public static final Route GET_SELF_IMAGES = new Route(GET, BEARER, "3/account/{username}/images/(page)");
-        public static final Route GET_USER_IMAGE = new Route(GET, BEARER, "3/account/{username}/image/{image_hash}");
-        public static final Route GET_USER_IMAGE_IDS = new Route(GET, BEARER, "3/account/{username}/images/ids/(page)");
-        public static final Route GET_USER_IMAGE_COUNT = new Route(GET, BEARER, "3/account/{username}/images/count");
-        public static final Route DELETE_USER_IMAGE = new Route(DELETE, BEARER, "3/account/{username}/image/{delete_hash}");
+        public static final Route GET_SELF_IMAGES = new Route(ACCOUNT, GET, BEARER, "3/account/{username}/images/(page)");
+        public static final Route GET_USER_IMAGE = new Route(ACCOUNT, GET, BEARER, "3/account/{username}/image/{image_hash}");
+        public static final Route GET_USER_IMAGE_IDS = new Route(ACCOUNT, GET, BEARER, "3/account/{username}/images/ids/(page)");
+        public static final Route GET_USER_IMAGE_COUNT = new Route(ACCOUNT, GET, BEARER, "3/account/{username}/images/count");
+        public static final Route DELETE_USER_IMAGE = new Route(ACCOUNT, DELETE, BEARER, "3/account/{username}/image/{delete_hash}");
     }
 
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -97,16 +98,16 @@ public final class Route {
 
         /* --- Core --- */
 
-        public static final Route GET_ALBUM = new Route(GET, CLIENT_ID, "3/album/{album_hash}");
-        public static final Route GET_ALBUM_IMAGES = new Route(GET, CLIENT_ID, "3/album/{album_hash}/images");
-        public static final Route GET_ALBUM_IMAGE = new Route(GET, CLIENT_ID, "3/album/{album_hash}/image/{image_hash}");
-        public static final Route POST_ALBUM_CREATION = new Route(POST, BEARER, "3/album");
-        public static final Route POST_ALBUM_UPDATE = new Route(POST, BEARER, "3/album/{album_hash}");
-        public static final Route DELETE_ALBUM = new Route(DELETE, BEARER, "3/album/{album_hash}");
-        public static final Route POST_ALBUM_FAVORITE = new Route(POST, BEARER, "3/album/{album_hash}/favorite");
-        public static final Route POST_ALBUM_IMAGES_SET = new Route(POST, BEARER, "3/album/{album_hash}");
-        public static final Route POST_ALBUM_IMAGES_ADD = new Route(POST, BEARER, "3/album/{album_hash}/add");
-        public static final Route POST_ALBUM_IMAGES_REMOVE = new Route(POST, BEARER, "3/album/{album_hash}/remove_images");
+        public static final Route GET_ALBUM = new Route(ALBUM, GET, CLIENT_ID, "3/album/{album_hash}");
+        public static final Route GET_ALBUM_IMAGES = new Route(ALBUM, GET, CLIENT_ID, "3/album/{album_hash}/images");
+        public static final Route GET_ALBUM_IMAGE = new Route(ALBUM, GET, CLIENT_ID, "3/album/{album_hash}/image/{image_hash}");
+        public static final Route POST_ALBUM_CREATION = new Route(ALBUM, POST, BEARER, "3/album");
+        public static final Route POST_ALBUM_UPDATE = new Route(ALBUM, POST, BEARER, "3/album/{album_hash}");
+        public static final Route DELETE_ALBUM = new Route(ALBUM, DELETE, BEARER, "3/album/{album_hash}");
+        public static final Route POST_ALBUM_FAVORITE = new Route(ALBUM, POST, BEARER, "3/album/{album_hash}/favorite");
+        public static final Route POST_ALBUM_IMAGES_SET = new Route(ALBUM, POST, BEARER, "3/album/{album_hash}");
+        public static final Route POST_ALBUM_IMAGES_ADD = new Route(ALBUM, POST, BEARER, "3/album/{album_hash}/add");
+        public static final Route POST_ALBUM_IMAGES_REMOVE = new Route(ALBUM, POST, BEARER, "3/album/{album_hash}/remove_images");
     }
 
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -114,13 +115,13 @@ public final class Route {
 
         /* --- Core --- */
 
-        public static final Route GET_COMMENT = new Route(GET, CLIENT_ID, "3/comment/{comment_id}");
-        public static final Route POST_COMMENT_CREATION = new Route(POST, BEARER, "3/comment");
-        public static final Route DELETE_COMMENT = new Route(DELETE, BEARER, "3/comment/{comment_id}");
-        public static final Route GET_COMMENT_REPLIES = new Route(GET, CLIENT_ID, "3/comment/{comment_id}/replies");
-        public static final Route POST_COMMENT_REPLY = new Route(POST, BEARER, "3/comment/{comment_id}");
-        public static final Route POST_COMMENT_VOTE = new Route(POST, BEARER, "3/comment/{comment_id}/vote/{vote}");
-        public static final Route POST_COMMENT_REPORT = new Route(POST, BEARER, "3/comment/{comment_id}/report");
+        public static final Route GET_COMMENT = new Route(COMMENT, GET, CLIENT_ID, "3/comment/{comment_id}");
+        public static final Route POST_COMMENT_CREATION = new Route(COMMENT, POST, BEARER, "3/comment");
+        public static final Route DELETE_COMMENT = new Route(COMMENT, DELETE, BEARER, "3/comment/{comment_id}");
+        public static final Route GET_COMMENT_REPLIES = new Route(COMMENT, GET, CLIENT_ID, "3/comment/{comment_id}/replies");
+        public static final Route POST_COMMENT_REPLY = new Route(COMMENT, POST, BEARER, "3/comment/{comment_id}");
+        public static final Route POST_COMMENT_VOTE = new Route(COMMENT, POST, BEARER, "3/comment/{comment_id}/vote/{vote}");
+        public static final Route POST_COMMENT_REPORT = new Route(COMMENT, POST, BEARER, "3/comment/{comment_id}/report");
     }
 
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -128,28 +129,28 @@ public final class Route {
 
         /* --- Resources --- */
 
-        public static final Route GET_GALLERY = new Route(GET, CLIENT_ID, "3/gallery/(section)/(sort)/(time_window)/(page)");
-        public static final Route GET_GALLERY_SEARCH = new Route(GET, CLIENT_ID, "3/gallery/search/(sort)/(time_window)/(page)");
-        public static final Route GET_GALLERY_ALBUM = new Route(GET, CLIENT_ID, "3/gallery/album/{gallery_album_hash}");
-        public static final Route GET_GALLERY_IMAGE = new Route(GET, CLIENT_ID, "3/gallery/image/{gallery_image_hash}");
+        public static final Route GET_GALLERY = new Route(GALLERY, GET, CLIENT_ID, "3/gallery/(section)/(sort)/(time_window)/(page)");
+        public static final Route GET_GALLERY_SEARCH = new Route(GALLERY, GET, CLIENT_ID, "3/gallery/search/(sort)/(time_window)/(page)");
+        public static final Route GET_GALLERY_ALBUM = new Route(GALLERY, GET, CLIENT_ID, "3/gallery/album/{gallery_album_hash}");
+        public static final Route GET_GALLERY_IMAGE = new Route(GALLERY, GET, CLIENT_ID, "3/gallery/image/{gallery_image_hash}");
 
         /* --- Sharing --- */
 
-        public static final Route POST_SHARE_IMAGE = new Route(POST, BEARER, "3/gallery/image/{image_hash}");
-        public static final Route POST_SHARE_ALBUM = new Route(POST, BEARER, "3/gallery/album/{album_hash}");
-        public static final Route DELETE_FROM_GALLERY = new Route(DELETE, BEARER, "3/gallery/{gallery_hash}");
+        public static final Route POST_SHARE_IMAGE = new Route(GALLERY, POST, BEARER, "3/gallery/image/{image_hash}");
+        public static final Route POST_SHARE_ALBUM = new Route(GALLERY, POST, BEARER, "3/gallery/album/{album_hash}");
+        public static final Route DELETE_FROM_GALLERY = new Route(GALLERY, DELETE, BEARER, "3/gallery/{gallery_hash}");
 
         /* --- Actions --- */
 
-        public static final Route POST_IMAGE_REPORTING = new Route(POST, BEARER, "3/gallery/image/{gallery_hash}/report");
-        public static final Route GET_ELEMENT_VOTES = new Route(GET, CLIENT_ID, "3/gallery/{gallery_hash}/votes");
-        public static final Route POST_ELEMENT_VOTE = new Route(POST, BEARER, "3/gallery/{gallery_hash}/vote/{vote}");
+        public static final Route POST_IMAGE_REPORTING = new Route(GALLERY, POST, BEARER, "3/gallery/image/{gallery_hash}/report");
+        public static final Route GET_ELEMENT_VOTES = new Route(GALLERY, GET, CLIENT_ID, "3/gallery/{gallery_hash}/votes");
+        public static final Route POST_ELEMENT_VOTE = new Route(GALLERY, POST, BEARER, "3/gallery/{gallery_hash}/vote/{vote}");
 
         /* Comments */
 
-        public static final Route GET_ELEMENT_COMMENTS = new Route(GET, CLIENT_ID, "3/gallery/{gallery_hash}/comments/(comment_sort)");
-        public static final Route GET_ELEMENT_COMMENT = new Route(GET, CLIENT_ID, "3/gallery/{gallery_hash}/comment/{comment_id}");
-        public static final Route POST_ELEMENT_COMMENT = new Route(POST, BEARER, "3/gallery/{gallery_hash}/comment");
+        public static final Route GET_ELEMENT_COMMENTS = new Route(GALLERY, GET, CLIENT_ID, "3/gallery/{gallery_hash}/comments/(comment_sort)");
+        public static final Route GET_ELEMENT_COMMENT = new Route(GALLERY, GET, CLIENT_ID, "3/gallery/{gallery_hash}/comment/{comment_id}");
+        public static final Route POST_ELEMENT_COMMENT = new Route(GALLERY, POST, BEARER, "3/gallery/{gallery_hash}/comment");
     }
 
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -157,13 +158,14 @@ public final class Route {
 
         /* --- Core --- */
 
-        public static final Route GET_IMAGE = new Route(GET, CLIENT_ID, "3/image/{image_hash}");
-        public static final Route POST_IMAGE = new Route(POST, BEARER, "3/upload");
-        public static final Route DELETE_IMAGE = new Route(DELETE, BEARER, "3/image/{image_hash}");
-        public static final Route POST_IMAGE_INFORMATION = new Route(POST, BEARER, "3/image/{image_hash}");
-        public static final Route POST_IMAGE_FAVORITE = new Route(POST, BEARER, "3/image/{image_hash}/favorite");
+        public static final Route GET_IMAGE = new Route(IMAGE, GET, CLIENT_ID, "3/image/{image_hash}");
+        public static final Route POST_IMAGE = new Route(IMAGE, POST, BEARER, "3/upload");
+        public static final Route DELETE_IMAGE = new Route(IMAGE, DELETE, BEARER, "3/image/{image_hash}");
+        public static final Route POST_IMAGE_INFORMATION = new Route(IMAGE, POST, BEARER, "3/image/{image_hash}");
+        public static final Route POST_IMAGE_FAVORITE = new Route(IMAGE, POST, BEARER, "3/image/{image_hash}/favorite");
     }
 
+    private final EndpointGroup group;
     private final Method method;
     private final AuthorizationHeader authHeader;
     private final String route;
@@ -194,16 +196,18 @@ public final class Route {
 
     @NotNull
     public static Route custom(@NotNull Method method, @NotNull AuthorizationHeader authHeader, @NotNull String route) {
-        return new Route(method, authHeader, route);
+        return new Route(CUSTOM, method, authHeader, route);
     }
 
     /* Constructors */
 
-    private Route(@NotNull Method method, @NotNull AuthorizationHeader authHeader, @NotNull String route) {
+    private Route(@NotNull EndpointGroup group, @NotNull Method method, @NotNull AuthorizationHeader authHeader, @NotNull String route) {
+        Check.notNull(group, "group");
         Check.notNull(method, "method");
         Check.notNull(authHeader, "authHeader");
         Check.notEmpty(route, "route");
         Check.noWhitespace(route, "route");
+        this.group = group;
         this.method = method;
         this.authHeader = authHeader;
         this.route = route;
@@ -224,6 +228,11 @@ public final class Route {
 
     /* Getters & Setters */
 
+    @NotNull
+    public EndpointGroup getGroup() {
+        return group;
+    }
+
     @NotNull
     public Method getMethod() {
         return method;
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests.restaction;
+
+import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.entities.subentities.EntityField;
+import net.azzerial.jmgur.api.requests.restaction.RestAction;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public final class CompletedRestAction<T> implements RestAction<T> {
+
+    private final Jmgur api;
+    private final T value;
+
+    /* Constructors */
+
+    public CompletedRestAction(@NotNull Jmgur api, @Nullable T value) {
+        Check.notNull(api, "api");
+        this.api = api;
+        this.value = value;
+    }
+
+    /* Getters & Setters */
+
+    @NotNull
+    @Override
+    public Jmgur getApi() {
+        return api;
+    }
+
+    /* Methods */
+
+    @Override
+    public void queue(@Nullable Consumer<? super T> success, @Nullable Consumer<? super Throwable> failure) {
+        final Consumer<? super T> callback = success == null ? RestActionImpl.getDefaultSuccess() : success;
+
+        api.getThreadingConfig().getCallbackPool().execute(() -> {
+            try {
+                callback.accept(value);
+            } catch (Throwable t) {
+                RestActionImpl.LOG.error("Encountered error while processing success consumer", t);
+                if (t instanceof Error)
+                    throw (Error) t;
+            }
+        });
+    }
+
+    @Nullable
+    @Override
+    public T complete() {
+        return value;
+    }
+
+    @NotNull
+    @Override
+    public CompletableFuture<T> submit() {
+        return CompletableFuture.completedFuture(value);
+    }
+
+    @NotNull
+    @Override
+    public RestAction<T> deadline(long timestamp) {
+        Check.notNegative(timestamp, "timestamp");
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public RestAction<T> hedge() {
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public RestAction<T> hedge(long delay, @NotNull TimeUnit unit) {
+        Check.positive(delay, "delay");
+        Check.notNull(unit, "unit");
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public RestAction<T> project(@NotNull EntityField... fields) {
+        Check.notEmpty(fields, "fields");
+        return this;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.azzerial.jmgur.internal.requests.restaction;
+
+import net.azzerial.jmgur.api.requests.restaction.PagedRestAction;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+public final class PagedIterator<E> implements Iterator<E> {
+
+    private final PagedRestAction<? extends Collection<? extends E>> action;
+    private final SeenIds<E> seen;
+
+    private Iterator<? extends E> current = Collections.emptyIterator();
+    private int page;
+    private boolean ended;
+
+    /* Constructors */
+
+    public PagedIterator(@NotNull PagedRestAction<? extends Collection<? extends E>> action) {
+        this(action, null);
+    }
+
+    public PagedIterator(@NotNull PagedRestAction<? extends Collection<? extends E>> action, @Nullable Function<? super E, ?> distinctBy) {
+        Check.notNull(action, "action");
+        this.action = action;
+        this.seen = distinctBy == null ? null : new SeenIds<>(distinctBy);
+        this.page = action.page();
+    }
+
+    /* Methods */
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (ended)
+                return false;
+            final Collection<? extends E> elements = action.get(page++).complete();
+
+            if (elements == null || elements.isEmpty())
+                ended = true;
+            else
+                current = distinct(elements).iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        return current.next();
+    }
+
+    /* Internal */
+
+    @NotNull
+    private Collection<? extends E> distinct(@NotNull Collection<? extends E> elements) {
+        if (seen == null)
+            return elements;
+        final List<E> unseen = new ArrayList<>(elements.size());
+
+        for (final E element : elements) {
+            if (element != null && seen.add(element))
+                unseen.add(element);
+        }
+        return unseen;
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.azzerial.jmgur.internal.requests.restaction;
+
+import net.azzerial.jmgur.api.requests.restaction.PagedRestAction;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public final class PagedPublisher<E> implements Publisher<E> {
+
+    public static final int DEFAULT_MAX_PAGES_IN_FLIGHT = 2;
+
+    private final PagedRestAction<? extends Collection<? extends E>> action;
+    private final int maxPagesInFlight;
+    private final Function<? super E, ?> distinctBy;
+
+    /* Constructors */
+
+    public PagedPublisher(@NotNull PagedRestAction<? extends Collection<? extends E>> action, int maxPagesInFlight) {
+        this(action, maxPagesInFlight, null);
+    }
+
+    public PagedPublisher(@NotNull PagedRestAction<? extends Collection<? extends E>> action, int maxPagesInFlight, @Nullable Function<? super E, ?> distinctBy) {
+        Check.notNull(action, "action");
+        Check.positive(maxPagesInFlight, "maxPagesInFlight");
+        this.action = action;
+        this.maxPagesInFlight = maxPagesInFlight;
+        this.distinctBy = distinctBy;
+    }
+
+    /* Methods */
+
+    @Override
+    public void subscribe(Subscriber<? super E> subscriber) {
+        if (subscriber == null)
+            throw new NullPointerException("The subscriber may not be null.");
+        final PageSubscription subscription = new PageSubscription(subscriber, action.page());
+
+        subscriber.onSubscribe(subscription);
+    }
+
+    /* Inner Classes */
+
+    private final class PageSubscription implements Subscription {
+
+        private final Subscriber<? super E> subscriber;
+        private final AtomicInteger wip = new AtomicInteger();
+        private final Deque<E> buffer = new ArrayDeque<>();
+        private final Deque<CompletableFuture<? extends Collection<? extends E>>> pages = new ArrayDeque<>();
+        private final SeenIds<E> seen = distinctBy == null ? null : new SeenIds<>(distinctBy);
+
+        private volatile long demand;
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        private int nextPage;
+        private int pageSize;
+        private boolean ended;
+        private boolean terminated;
+
+        /* Constructors */
+
+        PageSubscription(@NotNull Subscriber<? super E> subscriber, int page) {
+            this.subscriber = subscriber;
+            this.nextPage = page;
+        }
+
+        /* Methods */
+
+        @Override
+        public void request(long n) {
+            if (n <= 0)
+                invalidRequest = new IllegalArgumentException("The requested amount must be positive, provided: " + n + ".");
+            else
+                addDemand(n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        /* Internal */
+
+        private synchronized void addDemand(long n) {
+            final long current = demand;
+            demand = current + n < 0 ? Long.MAX_VALUE : current + n;
+        }
+
+        private synchronized void consumeDemand() {
+            if (demand != Long.MAX_VALUE)
+                demand -= 1;
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+
+            do {
+                if (!terminated)
+                    drainLoop();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainLoop() {
+            while (true) {
+                if (cancelled) {
+                    terminate();
+                    return;
+                }
+                if (invalidRequest != null) {
+                    terminate();
+                    subscriber.onError(invalidRequest);
+                    return;
+                }
+                while (demand > 0 && !buffer.isEmpty() && !cancelled) {
+                    consumeDemand();
+                    subscriber.onNext(buffer.poll());
+                }
+                if (cancelled)
+                    continue;
+                if (!buffer.isEmpty())
+                    return;
+
+                final CompletableFuture<? extends Collection<? extends E>> head = pages.peek();
+
+                if (head != null && head.isDone()) {
+                    pages.poll();
+                    if (!consume(head))
+                        return;
+                    continue;
+                }
+                if (head == null && ended) {
+                    terminate();
+                    subscriber.onComplete();
+                    return;
+                }
+                fetch();
+                return;
+            }
+        }
+
+        private boolean consume(@NotNull CompletableFuture<? extends Collection<? extends E>> page) {
+            final Collection<? extends E> elements;
+
+            try {
+                elements = page.join();
+            } catch (CompletionException e) {
+                terminate();
+                subscriber.onError(e.getCause() == null ? e : e.getCause());
+                return false;
+            }
+            if (elements == null || elements.isEmpty()) {
+                ended = true;
+                cancelPages();
+                return true;
+            }
+            pageSize = Math.max(pageSize, elements.size());
+            for (final E element : elements) {
+                if (element != null && (seen == null || seen.add(element)))
+                    buffer.add(element);
+            }
+            return true;
+        }
+
+        private void fetch() {
+            if (ended)
+                return;
+            // Until a page size is known, a single page is fetched at a time.
+            final long covered = (long) pages.size() * Math.max(pageSize, 1);
+            long pending = pageSize == 0 ? Math.min(demand, 1) : demand - covered;
+
+            while (pending > 0 && pages.size() < maxPagesInFlight) {
+                if (pageSize == 0 && !pages.isEmpty())
+                    break;
+                final CompletableFuture<? extends Collection<? extends E>> page = action.get(nextPage++).submit();
+
+                pages.add(page);
+                page.whenComplete((elements, failure) -> drain());
+                pending -= Math.max(pageSize, 1);
+            }
+        }
+
+        private void terminate() {
+            terminated = true;
+            buffer.clear();
+            cancelPages();
+        }
+
+        private void cancelPages() {
+            CompletableFuture<?> page;
+
+            while ((page = pages.poll()) != null)
+                page.cancel(true);
+        }
+    }
+}
@@ -17,29 +17,54 @@
 package net.azzerial.jmgur.internal.requests.restaction;
 
 import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.entities.subentities.EntityField;
 import net.azzerial.jmgur.api.requests.Request;
 import net.azzerial.jmgur.api.requests.Response;
+import net.azzerial.jmgur.api.requests.restaction.PageRangeRestAction;
 import net.azzerial.jmgur.api.requests.restaction.PagedRestAction;
 import net.azzerial.jmgur.api.requests.restaction.RestAction;
 import net.azzerial.jmgur.internal.requests.Route;
+import net.azzerial.jmgur.internal.requests.restaction.operator.PageRangeRestActionImpl;
+import net.azzerial.jmgur.internal.requests.restaction.operator.PrefetchedRestAction;
 import net.azzerial.jmgur.internal.utils.Check;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
 
 public final class PagedRestActionImpl<T> implements PagedRestAction<T> {
 
+    public static final int DEFAULT_RETENTION = 16;
+
+    // Weight given to the newest sample of the consume and fetch averages.
+    private static final double SMOOTHING = 0.25;
+
     private final Jmgur api;
-    private final Map<Integer, RestAction<T>> map;
+    private final RetentionMap<T> map;
     private final Route route;
     private final String[] pathParams;
     private final String[] queryParams;
     private final BiFunction<Request<T>, Response, T> handler;
+    private final Map<Integer, CompletableFuture<T>> prefetched;
 
     private int page;
+    private int prefetch;
+    private volatile PageCache<T> pageCache;
+    private volatile EntityField[] projection;
+    private int lastPage = Integer.MAX_VALUE;
+    private long lastConsume;
+    private double consumeInterval;
+    private double fetchLatency;
 
     /* Constructors */
 
@@ -61,11 +86,12 @@ public final class PagedRestActionImpl<T> implements PagedRestAction<T> {
         Check.notNull(handler, "handler");
         Check.notNegative(page, "page");
         this.api = api;
-        this.map = new ConcurrentHashMap<>();
+        this.map = new RetentionMap<>(DEFAULT_RETENTION);
         this.route = route;
         this.pathParams = pathParams;
         this.queryParams = queryParams;
         this.handler = handler;
+        this.prefetched = new HashMap<>();
         this.page = page;
     }
 
@@ -77,28 +103,92 @@ public final class PagedRestActionImpl<T> implements PagedRestAction<T> {
         return api;
     }
 
+    @Override
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    @NotNull
+    @Override
+    public PagedRestAction<T> setPrefetch(int depth) {
+        Check.notNegative(depth, "depth");
+        synchronized (prefetched) {
+            this.prefetch = depth;
+            if (depth == 0)
+                cancelPrefetch(p -> true);
+        }
+        return this;
+    }
+
+    @Override
+    public int getRetention() {
+        return map.getRetention();
+    }
+
+    @NotNull
+    @Override
+    public PagedRestAction<T> setRetention(int pages) {
+        Check.positive(pages, "pages");
+        map.setRetention(pages);
+        final PageCache<T> cache = this.pageCache;
+
+        if (cache != null)
+            cache.setCapacity(pages);
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public PagedRestAction<T> setPageCache(long ttl, @NotNull TimeUnit unit) {
+        Check.notNegative(ttl, "ttl");
+        Check.notNull(unit, "unit");
+        final PageCache<T> cache = this.pageCache;
+
+        if (ttl == 0)
+            this.pageCache = null;
+        else if (cache == null)
+            this.pageCache = new PageCache<>(map.getRetention(), unit.toMillis(ttl));
+        else
+            cache.setTtl(unit.toMillis(ttl));
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public PagedRestAction<T> project(@NotNull EntityField... fields) {
+        Check.notEmpty(fields, "fields");
+        Check.noneNull(Arrays.asList(fields), "fields");
+        this.projection = fields.clone();
+        // Actions built so far carry the previous projection, cached pages are kept and checked on lookup.
+        map.clear();
+        clearPrefetch();
+        return this;
+    }
+
     /* Methods */
 
     @NotNull
     @Override
     public RestAction<T> get() {
-        buildPage(page);
-        return map.get(page);
+        return getPage(page);
     }
 
     @NotNull
     @Override
     public RestAction<T> get(int page) {
         Check.notNegative(page, "page");
-        buildPage(page);
-        return map.get(page);
+        return getPage(page);
     }
 
     @NotNull
     @Override
     public RestAction<T> next() {
-        buildPage(page);
-        return map.get(page++);
+        final int page = this.page++;
+        final RestAction<T> action = getPage(page);
+
+        if (prefetch > 0)
+            prefetch(page + 1);
+        return action;
     }
 
     @Override
@@ -106,10 +196,19 @@ public final class PagedRestActionImpl<T> implements PagedRestAction<T> {
         return page;
     }
 
+    @NotNull
+    @Override
+    public PageRangeRestAction<T> getRange(int from, int to) {
+        Check.notNegative(from, "from");
+        Check.check(to > from, "to must be greater than from");
+        return new PageRangeRestActionImpl<>(this, from, to);
+    }
+
     @NotNull
     @Override
     public PagedRestAction<T> reset() {
         this.page = 0;
+        clearPrefetch();
         return this;
     }
 
@@ -118,6 +217,8 @@ public final class PagedRestActionImpl<T> implements PagedRestAction<T> {
     public PagedRestAction<T> skip(int pages) {
         Check.notNegative(pages, "pages");
         this.page += pages;
+        if (pages != 0)
+            clearPrefetch();
         return this;
     }
 
@@ -125,22 +226,130 @@ public final class PagedRestActionImpl<T> implements PagedRestAction<T> {
     @Override
     public PagedRestAction<T> skipTo(int page) {
         Check.notNegative(page, "page");
+        if (this.page != page)
+            clearPrefetch();
         this.page = page;
         return this;
     }
 
     /* Internal */
 
-    private void buildPage(int page) {
-        if (!map.containsKey(page))
-            map.put(page, buildRestAction(page));
+    @NotNull
+    private RestAction<T> getPage(int page) {
+        final T cached = getCached(page);
+
+        if (cached != null)
+            return new CompletedRestAction<>(api, cached);
+
+        final RestAction<T> action = map.computeIfAbsent(page, this::buildRestAction);
+        final CompletableFuture<T> future;
+
+        synchronized (prefetched) {
+            future = prefetched.remove(page);
+        }
+        return future == null ? action : new PrefetchedRestAction<>(action, future);
+    }
+
+    private void prefetch(int from) {
+        synchronized (prefetched) {
+            final long now = System.currentTimeMillis();
+
+            if (lastConsume != 0)
+                consumeInterval = average(consumeInterval, now - lastConsume);
+            lastConsume = now;
+            cancelPrefetch(p -> p < from);
+
+            final int until = (int) Math.min((long) from + getPrefetchWindow(), Integer.MAX_VALUE);
+
+            for (int page = from; page < until && page < lastPage; page += 1) {
+                if (!prefetched.containsKey(page) && getCached(page) == null)
+                    prefetched.put(page, submitPrefetch(page));
+            }
+        }
+    }
+
+    @NotNull
+    private CompletableFuture<T> submitPrefetch(int page) {
+        final long start = System.currentTimeMillis();
+        final CompletableFuture<T> future = map.computeIfAbsent(page, this::buildRestAction).submit();
+
+        future.whenComplete((value, t) -> {
+            if (t != null)
+                return;
+            synchronized (prefetched) {
+                fetchLatency = average(fetchLatency, System.currentTimeMillis() - start);
+                // An empty page marks the end of the listing, nothing past it is worth fetching.
+                if (value instanceof Collection && ((Collection<?>) value).isEmpty() && page < lastPage) {
+                    lastPage = page;
+                    cancelPrefetch(p -> p > page);
+                }
+            }
+        });
+        return future;
+    }
+
+    private int getPrefetchWindow() {
+        if (fetchLatency == 0 || consumeInterval == 0)
+            return 1;
+        // Keep enough pages in flight to cover a fetch at the observed consume rate.
+        final double window = Math.ceil(fetchLatency / Math.max(consumeInterval, 1));
+        return (int) Math.max(1, Math.min(prefetch, window));
+    }
+
+    private void clearPrefetch() {
+        synchronized (prefetched) {
+            cancelPrefetch(p -> true);
+            this.lastPage = Integer.MAX_VALUE;
+            this.lastConsume = 0;
+        }
+    }
+
+    private void cancelPrefetch(@NotNull IntPredicate filter) {
+        final Iterator<Map.Entry<Integer, CompletableFuture<T>>> it = prefetched.entrySet().iterator();
+
+        while (it.hasNext()) {
+            final Map.Entry<Integer, CompletableFuture<T>> entry = it.next();
+
+            if (filter.test(entry.getKey())) {
+                entry.getValue().cancel(true);
+                it.remove();
+            }
+        }
+    }
+
+    @Nullable
+    private T getCached(int page) {
+        final PageCache<T> cache = this.pageCache;
+        return cache == null ? null : cache.get(page, projection);
+    }
+
+    private void cache(int page, @Nullable T value, @Nullable EntityField[] projection) {
+        final PageCache<T> cache = this.pageCache;
+
+        if (cache != null && value != null)
+            cache.put(page, value, projection);
+    }
+
+    private static double average(double average, long sample) {
+        return average == 0 ? sample : average + SMOOTHING * (sample - average);
     }
 
     @NotNull
     private RestAction<T> buildRestAction(int page) {
-        return queryParams != null ?
+        final EntityField[] projection = this.projection;
+        final BiFunction<Request<T>, Response, T> handler = (request, response) -> {
+            final T value = this.handler.apply(request, response);
+
+            if (!request.isStreaming())
+                cache(page, value, projection);
+            return value;
+        };
+
+        final RestAction<T> action = queryParams != null ?
             new RestActionImpl<>(api, route.compile(buildPathParams(page)).addQueryParams(queryParams), handler) :
             new RestActionImpl<>(api, route.compile(buildPathParams(page)), handler);
+
+        return projection == null ? action : action.project(projection);
     }
 
     @NotNull
@@ -155,4 +364,145 @@ public final class PagedRestActionImpl<T> implements PagedRestAction<T> {
         }
         return params;
     }
+
+    /* Inner Classes */
+
+    private static final class RetentionMap<T> extends LinkedHashMap<Integer, RestAction<T>> {
+
+        private int retention;
+
+        /* Constructors */
+
+        RetentionMap(int retention) {
+            super(16, 0.75f, true);
+            this.retention = retention;
+        }
+
+        /* Getters & Setters */
+
+        synchronized int getRetention() {
+            return retention;
+        }
+
+        synchronized void setRetention(int retention) {
+            this.retention = retention;
+            if (size() > retention) {
+                final Iterator<Integer> it = keySet().iterator();
+
+                for (int excess = size() - retention; excess > 0; excess -= 1) {
+                    it.next();
+                    it.remove();
+                }
+            }
+        }
+
+        /* Methods */
+
+        @Override
+        public synchronized RestAction<T> computeIfAbsent(Integer key, Function<? super Integer, ? extends RestAction<T>> function) {
+            return super.computeIfAbsent(key, function);
+        }
+
+        @Override
+        public synchronized void clear() {
+            super.clear();
+        }
+
+        /* Internal */
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, RestAction<T>> eldest) {
+            return size() > retention;
+        }
+    }
+
+    private static final class PageCache<T> extends LinkedHashMap<Integer, PageCache.Page<T>> {
+
+        private int capacity;
+        private long ttl;
+
+        /* Constructors */
+
+        PageCache(int capacity, long ttl) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.ttl = ttl;
+        }
+
+        /* Getters & Setters */
+
+        synchronized void setCapacity(int capacity) {
+            this.capacity = capacity;
+            if (size() > capacity) {
+                final Iterator<Integer> it = keySet().iterator();
+
+                for (int excess = size() - capacity; excess > 0; excess -= 1) {
+                    it.next();
+                    it.remove();
+                }
+            }
+        }
+
+        synchronized void setTtl(long ttl) {
+            this.ttl = ttl;
+        }
+
+        /* Methods */
+
+        @Nullable
+        synchronized T get(int page, @Nullable EntityField[] projection) {
+            final Page<T> cached = super.get(page);
+
+            if (cached == null)
+                return null;
+            if (cached.expiresAt <= System.currentTimeMillis()) {
+                super.remove(page);
+                return null;
+            }
+            return cached.covers(projection) ? cached.value : null;
+        }
+
+        synchronized void put(int page, @NotNull T value, @Nullable EntityField[] projection) {
+            final Page<T> cached = super.get(page);
+
+            // Never replace a live page with a narrower projection of it.
+            if (cached != null && cached.expiresAt > System.currentTimeMillis() && !covers(projection, cached.projection))
+                return;
+            super.put(page, new Page<>(value, projection, System.currentTimeMillis() + ttl));
+        }
+
+        /* Internal */
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Page<T>> eldest) {
+            return size() > capacity;
+        }
+
+        private static boolean covers(@Nullable EntityField[] fields, @Nullable EntityField[] projection) {
+            return fields == null || (projection != null && Arrays.asList(fields).containsAll(Arrays.asList(projection)));
+        }
+
+        /* Inner Classes */
+
+        private static final class Page<T> {
+
+            private final T value;
+            private final EntityField[] projection;
+            private final long expiresAt;
+
+            /* Constructors */
+
+            Page(@NotNull T value, @Nullable EntityField[] projection, long expiresAt) {
+                this.value = value;
+                this.projection = projection;
+                this.expiresAt = expiresAt;
+            }
+
+            /* Methods */
+
+            boolean covers(@Nullable EntityField[] projection) {
+                return PageCache.covers(this.projection, projection);
+            }
+        }
+    }
 }
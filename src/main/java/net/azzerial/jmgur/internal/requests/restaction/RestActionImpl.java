@@ -23,10 +23,13 @@
 package net.azzerial.jmgur.internal.requests.restaction;
 
 import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.entities.subentities.EntityField;
 import net.azzerial.jmgur.api.requests.Request;
 import net.azzerial.jmgur.api.requests.Response;
 import net.azzerial.jmgur.api.requests.RestFuture;
 import net.azzerial.jmgur.api.requests.restaction.RestAction;
+import net.azzerial.jmgur.internal.entities.binding.Projection;
+import net.azzerial.jmgur.internal.requests.Method;
 import net.azzerial.jmgur.internal.requests.Route;
 import net.azzerial.jmgur.internal.utils.Check;
 import okhttp3.RequestBody;
@@ -38,10 +41,14 @@ import org.slf4j.LoggerFactory;
 import java.util.concurrent.*;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 public class RestActionImpl<T> implements RestAction<T> {
 
     public static final Logger LOG = LoggerFactory.getLogger(RestAction.class);
+    public static final long HEDGE_DISABLED = 0L;
+    public static final long HEDGE_ADAPTIVE = -1L;
 
     private static Consumer<Object> defaultSuccess = o -> {};
     private static Consumer<? super Throwable> defaultFailure = t -> {
@@ -60,6 +67,9 @@ public class RestActionImpl<T> implements RestAction<T> {
     private final BiFunction<Request<T>, Response, T> handler;
 
     private long deadline = 0;
+    private long hedgeDelay = HEDGE_DISABLED;
+    private Projection projection = null;
+    private Supplier<? extends T> cacheLookup = null;
 
     /* Constructors */
 
@@ -115,22 +125,38 @@ public class RestActionImpl<T> implements RestAction<T> {
         return api;
     }
 
+    public long getHedgeDelay() {
+        return hedgeDelay;
+    }
+
+    @Nullable
+    public Projection getProjection() {
+        return projection;
+    }
+
+    @NotNull
+    public RestActionImpl<T> setCacheLookup(@Nullable Supplier<? extends T> cacheLookup) {
+        this.cacheLookup = cacheLookup;
+        return this;
+    }
+
     /* Methods */
 
     @Override
     public void queue(@Nullable Consumer<? super T> success, @Nullable Consumer<? super Throwable> failure) {
         if (api.getThreadingConfig().getRequesterPool().isShutdown())
             throw new RejectedExecutionException("The Requester has been stopped! No new requests can be requested!");
-        api.getThreadingConfig().getRequesterPool().execute(() ->
-            api.getRequester().request(new Request<>(
-                this,
-                success == null ? defaultSuccess : success,
-                failure == null ? defaultFailure : failure,
-                data,
-                getDeadline(),
-                route)
-            )
+        final Request<T> request = new Request<>(
+            this,
+            success == null ? defaultSuccess : success,
+            failure == null ? defaultFailure : failure,
+            data,
+            getDeadline(),
+            route
         );
+
+        if (!completeFromCache(request))
+            api.getRequester().request(request);
     }
 
     @Nullable
@@ -157,6 +183,12 @@ public class RestActionImpl<T> implements RestAction<T> {
         return new RestFuture<>(this, data, getDeadline(), route);
     }
 
+    @NotNull
+    public CompletableFuture<T> submit(@NotNull Predicate<Object> elementSink) {
+        Check.notNull(elementSink, "elementSink");
+        return new RestFuture<>(this, data, getDeadline(), route, elementSink);
+    }
+
     @NotNull
     @Override
     public RestAction<T> deadline(long timestamp) {
@@ -165,6 +197,31 @@ public class RestActionImpl<T> implements RestAction<T> {
         return this;
     }
 
+    @NotNull
+    @Override
+    public RestAction<T> hedge() {
+        checkHedgeable();
+        this.hedgeDelay = HEDGE_ADAPTIVE;
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public RestAction<T> hedge(long delay, @NotNull TimeUnit unit) {
+        Check.positive(delay, "delay");
+        Check.notNull(unit, "unit");
+        checkHedgeable();
+        this.hedgeDelay = Math.max(unit.toMillis(delay), 1L);
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public RestAction<T> project(@NotNull EntityField... fields) {
+        this.projection = Projection.of(fields);
+        return this;
+    }
+
     public void handleResponse(@NotNull Request<T> request, @NotNull Response response) {
         Check.notNull(request, "request");
         Check.notNull(response, "response");
@@ -174,8 +231,23 @@ public class RestActionImpl<T> implements RestAction<T> {
             request.onFailure(response);
     }
 
+    public boolean completeFromCache(@NotNull Request<T> request) {
+        Check.notNull(request, "request");
+        // Looked up when the action executes, so a reused action sees entries cached after it was built.
+        final T cached = cacheLookup == null ? null : cacheLookup.get();
+
+        if (cached == null)
+            return false;
+        request.onSuccess(cached);
+        return true;
+    }
+
     /* Internal */
 
+    private void checkHedgeable() {
+        Check.check(route.getMethod() == Method.GET && data == null, "Only GET requests without a body can be hedged");
+    }
+
     private long getDeadline() {
         return deadline > 0 ?
             deadline :
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.azzerial.jmgur.internal.requests.restaction;
+
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+final class SeenIds<E> {
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    private static final double LOAD_FACTOR = 0.6;
+    // Imgur hashes are short base62 strings, up to 9 characters fit below the tag and length bits.
+    private static final int MAX_PACKED_LENGTH = 9;
+    private static final long STRING_TAG = Long.MIN_VALUE;
+
+    private final Function<? super E, ?> key;
+    private final Set<Object> fallback = new HashSet<>();
+
+    private long[] table = new long[INITIAL_CAPACITY];
+    private boolean containsZero;
+    private int size;
+
+    /* Constructors */
+
+    SeenIds(@NotNull Function<? super E, ?> key) {
+        Check.notNull(key, "key");
+        this.key = key;
+    }
+
+    /* Methods */
+
+    boolean add(@NotNull E element) {
+        final Object id = key.apply(element);
+
+        if (id == null)
+            return true;
+        final long packed = pack(id);
+
+        if (packed == -1L)
+            return fallback.add(id);
+        return add(packed);
+    }
+
+    /* Internal */
+
+    private boolean add(long value) {
+        if (value == 0) {
+            if (containsZero)
+                return false;
+            containsZero = true;
+            return true;
+        }
+
+        final int mask = table.length - 1;
+        int index = mix(value) & mask;
+
+        while (table[index] != 0) {
+            if (table[index] == value)
+                return false;
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        if (++size > table.length * LOAD_FACTOR)
+            resize();
+        return true;
+    }
+
+    private void resize() {
+        final long[] old = table;
+        final int mask = old.length * 2 - 1;
+
+        this.table = new long[old.length * 2];
+        for (final long value : old) {
+            if (value == 0)
+                continue;
+            int index = mix(value) & mask;
+
+            while (table[index] != 0)
+                index = (index + 1) & mask;
+            table[index] = value;
+        }
+    }
+
+    private static long pack(@NotNull Object id) {
+        if (id instanceof Long || id instanceof Integer || id instanceof Short || id instanceof Byte) {
+            final long value = ((Number) id).longValue();
+            return value < 0 ? -1L : value;
+        }
+        if (id instanceof String)
+            return pack((String) id);
+        return -1L;
+    }
+
+    private static long pack(@NotNull String id) {
+        final int length = id.length();
+
+        if (length == 0 || length > MAX_PACKED_LENGTH)
+            return -1L;
+        long value = 0;
+        for (int i = 0; i < length; i += 1) {
+            final int digit = base62(id.charAt(i));
+
+            if (digit == -1)
+                return -1L;
+            value = value * 62 + digit;
+        }
+        return STRING_TAG | ((long) length << 54) | value;
+    }
+
+    private static int base62(char c) {
+        if (c >= '0' && c <= '9')
+            return c - '0';
+        if (c >= 'a' && c <= 'z')
+            return c - 'a' + 10;
+        if (c >= 'A' && c <= 'Z')
+            return c - 'A' + 36;
+        return -1;
+    }
+
+    private static int mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        return (int) value;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests.restaction.operator;
+
+import net.azzerial.jmgur.api.requests.restaction.RestAction;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class AllOfRestAction<T> extends RestActionOperator<T, List<T>> {
+
+    /* Constructors */
+
+    public AllOfRestAction(@NotNull Collection<? extends RestAction<? extends T>> actions) {
+        super(new ArrayList<>(actions));
+    }
+
+    /* Internal */
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void start(@NotNull OperatorFuture<List<T>> future) {
+        final Object[] results = new Object[actions.size()];
+        final AtomicInteger remaining = new AtomicInteger(results.length);
+        int index = 0;
+
+        for (final RestAction<? extends T> action : actions) {
+            final int position = index++;
+            future.track(action.submit()).whenComplete((value, t) -> {
+                if (t != null) {
+                    if (future.completeExceptionally(OperatorFuture.unwrap(t)))
+                        future.cancelActive(null);
+                    return;
+                }
+                results[position] = value;
+                if (remaining.decrementAndGet() == 0)
+                    future.complete(Collections.unmodifiableList((List<T>) Arrays.asList(results)));
+            });
+            if (future.isDone())
+                break;
+        }
+    }
+}
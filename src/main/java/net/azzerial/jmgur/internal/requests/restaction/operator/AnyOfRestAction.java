@@ -0,0 +1,54 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests.restaction.operator;
+
+import net.azzerial.jmgur.api.requests.restaction.RestAction;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class AnyOfRestAction<T> extends RestActionOperator<T, T> {
+
+    /* Constructors */
+
+    public AnyOfRestAction(@NotNull Collection<? extends RestAction<? extends T>> actions) {
+        super(new ArrayList<>(actions));
+    }
+
+    /* Internal */
+
+    @Override
+    protected void start(@NotNull OperatorFuture<T> future) {
+        final AtomicInteger remaining = new AtomicInteger(actions.size());
+
+        for (final RestAction<? extends T> action : actions) {
+            final CompletableFuture<? extends T> submitted = future.track(action.submit());
+            submitted.whenComplete((value, t) -> {
+                if (t == null) {
+                    if (future.complete(value))
+                        future.cancelActive(submitted);
+                } else if (remaining.decrementAndGet() == 0)
+                    future.completeExceptionally(OperatorFuture.unwrap(t));
+            });
+            if (future.isDone())
+                break;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests.restaction.operator;
+
+import net.azzerial.jmgur.api.requests.BulkProgressListener;
+import net.azzerial.jmgur.api.requests.BulkResult;
+import net.azzerial.jmgur.api.requests.restaction.BulkRestAction;
+import net.azzerial.jmgur.api.requests.restaction.RestAction;
+import net.azzerial.jmgur.internal.requests.restaction.RestActionImpl;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class BulkRestActionImpl<T> extends RestActionOperator<T, BulkResult<T>> implements BulkRestAction<T> {
+
+    private int maxInFlight;
+    private BulkProgressListener listener;
+
+    /* Constructors */
+
+    public BulkRestActionImpl(@NotNull Collection<? extends RestAction<? extends T>> actions, int maxInFlight) {
+        super(new ArrayList<>(actions));
+        Check.positive(maxInFlight, "maxInFlight");
+        this.maxInFlight = maxInFlight;
+    }
+
+    /* Getters & Setters */
+
+    @Override
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    @NotNull
+    @Override
+    public BulkRestAction<T> setMaxInFlight(int maxInFlight) {
+        Check.positive(maxInFlight, "maxInFlight");
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public BulkRestAction<T> onProgress(@Nullable BulkProgressListener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /* Internal */
+
+    @Override
+    protected void start(@NotNull OperatorFuture<BulkResult<T>> future) {
+        new Execution(future).pump();
+    }
+
+    /* Inner Classes */
+
+    private final class Execution {
+
+        private final OperatorFuture<BulkResult<T>> future;
+        private final Iterator<? extends RestAction<? extends T>> iterator = actions.iterator();
+        private final int total = actions.size();
+        private final int window = maxInFlight;
+        private final BulkProgressListener progress = listener;
+        private final Object[] results = new Object[total];
+        private final Map<Integer, Throwable> failures = new TreeMap<>();
+        private final AtomicInteger pumping = new AtomicInteger();
+
+        private int next = 0;
+        private int inFlight = 0;
+        private int completed = 0;
+
+        /* Constructors */
+
+        private Execution(@NotNull OperatorFuture<BulkResult<T>> future) {
+            this.future = future;
+        }
+
+        /* Methods */
+
+        void pump() {
+            if (pumping.getAndIncrement() != 0)
+                return;
+            do {
+                RestAction<? extends T> action;
+
+                while ((action = poll()) != null)
+                    launch(action, next - 1);
+                finish();
+            } while (pumping.decrementAndGet() != 0);
+        }
+
+        /* Internal */
+
+        @Nullable
+        private synchronized RestAction<? extends T> poll() {
+            if (future.isDone() || inFlight >= window || !iterator.hasNext())
+                return null;
+            inFlight += 1;
+            next += 1;
+            return iterator.next();
+        }
+
+        private void launch(@NotNull RestAction<? extends T> action, int index) {
+            final CompletableFuture<? extends T> submitted;
+            try {
+                submitted = future.track(action.submit());
+            } catch (Throwable t) {
+                onComplete(null, index, null, t);
+                return;
+            }
+            submitted.whenComplete((value, t) -> onComplete(submitted, index, value, t));
+        }
+
+        private void onComplete(@Nullable CompletableFuture<?> submitted, int index, @Nullable T value, @Nullable Throwable failure) {
+            if (submitted != null)
+                future.untrack(submitted);
+
+            final int succeeded;
+            final int failed;
+            final int done;
+            synchronized (this) {
+                inFlight -= 1;
+                completed += 1;
+                if (failure == null)
+                    results[index] = value;
+                else
+                    failures.put(index, OperatorFuture.unwrap(failure));
+                done = completed;
+                failed = failures.size();
+                succeeded = done - failed;
+
+                if (progress != null && !future.isDone()) {
+                    try {
+                        progress.onProgress(done, succeeded, failed, total);
+                    } catch (Throwable t) {
+                        RestActionImpl.LOG.error("Encountered error while processing bulk progress listener", t);
+                        if (t instanceof Error)
+                            throw (Error) t;
+                    }
+                }
+            }
+            pump();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void finish() {
+            final BulkResult<T> result;
+            synchronized (this) {
+                if (future.isDone() || completed < total)
+                    return;
+                result = new BulkResult<>((List<T>) Arrays.asList(results), new TreeMap<>(failures));
+            }
+            future.complete(result);
+        }
+    }
+}
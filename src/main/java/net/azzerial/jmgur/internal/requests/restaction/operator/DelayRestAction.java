@@ -0,0 +1,57 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests.restaction.operator;
+
+import net.azzerial.jmgur.api.requests.restaction.RestAction;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public final class DelayRestAction<T> extends RestActionOperator<T, T> {
+
+    private final long delay;
+
+    /* Constructors */
+
+    public DelayRestAction(@NotNull RestAction<T> action, long delay, @NotNull TimeUnit unit) {
+        super(action);
+        Check.notNegative(delay, "delay");
+        Check.notNull(unit, "unit");
+        this.delay = unit.toMillis(delay);
+    }
+
+    /* Internal */
+
+    @Override
+    protected void start(@NotNull OperatorFuture<T> future) {
+        future.track(getAction().submit()).whenComplete((value, t) -> {
+            if (future.isDone())
+                return;
+            try {
+                future.track(api.getThreadingConfig().getSchedulerPool().schedule(
+                    () -> future.settle(value, t),
+                    delay,
+                    TimeUnit.MILLISECONDS
+                ));
+            } catch (RejectedExecutionException e) {
+                future.completeExceptionally(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests.restaction.operator;
+
+import net.azzerial.jmgur.api.requests.restaction.RestAction;
+import net.azzerial.jmgur.internal.requests.restaction.RestActionImpl;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+public final class ElementStreamRestAction<E> extends RestActionOperator<Collection<? extends E>, Integer> {
+
+    private final Predicate<? super E> consumer;
+
+    /* Constructors */
+
+    public ElementStreamRestAction(@NotNull RestAction<? extends Collection<? extends E>> action, @NotNull Predicate<? super E> consumer) {
+        super(action);
+        Check.notNull(consumer, "consumer");
+        this.consumer = consumer;
+    }
+
+    /* Internal */
+
+    @Override
+    protected void start(@NotNull OperatorFuture<Integer> future) {
+        final RestAction<? extends Collection<? extends E>> action = getAction();
+        final Sink sink = new Sink();
+        final CompletableFuture<? extends Collection<? extends E>> source = action instanceof RestActionImpl ?
+            ((RestActionImpl<? extends Collection<? extends E>>) action).submit(sink) :
+            action.submit();
+
+        future.track(source).whenComplete((value, t) -> {
+            if (t != null) {
+                future.settle(null, t);
+                return;
+            }
+            try {
+                // Cached, prefetched or coalesced results arrive whole, they are replayed in order.
+                if (value != null) {
+                    for (final E element : value) {
+                        if (!sink.test(element))
+                            break;
+                    }
+                }
+                future.complete(sink.count);
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+    }
+
+    /* Inner Classes */
+
+    private final class Sink implements Predicate<Object> {
+
+        private int count = 0;
+        private boolean stopped = false;
+
+        /* Methods */
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean test(Object element) {
+            if (stopped)
+                return false;
+            count += 1;
+            stopped = !consumer.test((E) element);
+            return !stopped;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests.restaction.operator;
+
+import net.azzerial.jmgur.api.requests.restaction.RestAction;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Function;
+
+public final class ErrorResumeRestAction<T> extends RestActionOperator<T, T> {
+
+    private final Function<? super Throwable, ? extends RestAction<? extends T>> fallback;
+
+    /* Constructors */
+
+    public ErrorResumeRestAction(@NotNull RestAction<T> action, @NotNull Function<? super Throwable, ? extends RestAction<? extends T>> fallback) {
+        super(action);
+        Check.notNull(fallback, "fallback");
+        this.fallback = fallback;
+    }
+
+    /* Internal */
+
+    @Override
+    protected void start(@NotNull OperatorFuture<T> future) {
+        future.track(getAction().submit()).whenComplete((value, t) -> {
+            if (t == null) {
+                future.complete(value);
+                return;
+            }
+            if (future.isDone())
+                return;
+            try {
+                final RestAction<? extends T> next = fallback.apply(OperatorFuture.unwrap(t));
+                Check.notNull(next, "fallback action");
+                future.track(next.submit()).whenComplete(future::settle);
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+    }
+}
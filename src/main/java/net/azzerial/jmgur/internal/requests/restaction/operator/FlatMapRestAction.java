@@ -0,0 +1,57 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests.restaction.operator;
+
+import net.azzerial.jmgur.api.requests.restaction.RestAction;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Function;
+
+public final class FlatMapRestAction<I, O> extends RestActionOperator<I, O> {
+
+    private final Function<? super I, ? extends RestAction<? extends O>> function;
+
+    /* Constructors */
+
+    public FlatMapRestAction(@NotNull RestAction<I> action, @NotNull Function<? super I, ? extends RestAction<? extends O>> function) {
+        super(action);
+        Check.notNull(function, "function");
+        this.function = function;
+    }
+
+    /* Internal */
+
+    @Override
+    protected void start(@NotNull OperatorFuture<O> future) {
+        future.track(getAction().submit()).whenComplete((value, t) -> {
+            if (t != null) {
+                future.settle(null, t);
+                return;
+            }
+            if (future.isDone())
+                return;
+            try {
+                final RestAction<? extends O> next = function.apply(value);
+                Check.notNull(next, "next action");
+                future.track(next.submit()).whenComplete(future::settle);
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+    }
+}
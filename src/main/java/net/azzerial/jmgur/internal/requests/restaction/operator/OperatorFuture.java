@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests.restaction.operator;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+final class OperatorFuture<T> extends CompletableFuture<T> {
+
+    private final List<Future<?>> active = new ArrayList<>();
+
+    /* Methods */
+
+    @NotNull
+    <F extends Future<?>> F track(@NotNull F future) {
+        synchronized (active) {
+            active.add(future);
+        }
+        if (isCancelled())
+            future.cancel(true);
+        return future;
+    }
+
+    void untrack(@NotNull Future<?> future) {
+        synchronized (active) {
+            active.remove(future);
+        }
+    }
+
+    void settle(@Nullable T value, @Nullable Throwable failure) {
+        if (failure == null)
+            complete(value);
+        else
+            completeExceptionally(unwrap(failure));
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        final boolean cancelled = super.cancel(mayInterruptIfRunning);
+        cancelActive(null);
+        return cancelled;
+    }
+
+    void cancelActive(@Nullable Future<?> except) {
+        final List<Future<?>> futures;
+        synchronized (active) {
+            futures = new ArrayList<>(active);
+        }
+        for (final Future<?> future : futures) {
+            if (future != except)
+                future.cancel(true);
+        }
+    }
+
+    @NotNull
+    static Throwable unwrap(@NotNull Throwable failure) {
+        while ((failure instanceof CompletionException || failure instanceof ExecutionException) && failure.getCause() != null)
+            failure = failure.getCause();
+        return failure;
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.azzerial.jmgur.internal.requests.restaction.operator;
+
+import net.azzerial.jmgur.api.entities.subentities.EntityField;
+import net.azzerial.jmgur.api.requests.restaction.PageRangeRestAction;
+import net.azzerial.jmgur.api.requests.restaction.PagedRestAction;
+import net.azzerial.jmgur.api.requests.restaction.RestAction;
+import net.azzerial.jmgur.internal.requests.restaction.CompletedRestAction;
+import net.azzerial.jmgur.internal.requests.restaction.RestActionImpl;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ObjIntConsumer;
+
+public final class PageRangeRestActionImpl<T> extends RestActionOperator<T, List<T>> implements PageRangeRestAction<T> {
+
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    private final PagedRestAction<T> paged;
+    private final int from;
+    private final int to;
+
+    private int parallelism = DEFAULT_PARALLELISM;
+    private boolean ordered = true;
+    private ObjIntConsumer<? super T> listener;
+    private long deadline;
+
+    /* Constructors */
+
+    public PageRangeRestActionImpl(@NotNull PagedRestAction<T> paged, int from, int to) {
+        super(new CompletedRestAction<>(paged.getApi(), null));
+        Check.notNegative(from, "from");
+        Check.check(to > from, "to must be greater than from");
+        this.paged = paged;
+        this.from = from;
+        this.to = to;
+    }
+
+    /* Getters & Setters */
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @NotNull
+    @Override
+    public PageRangeRestAction<T> setParallelism(int parallelism) {
+        Check.positive(parallelism, "parallelism");
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    @Override
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    @NotNull
+    @Override
+    public PageRangeRestAction<T> setOrdered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public PageRangeRestAction<T> onPage(@Nullable ObjIntConsumer<? super T> listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    /* Methods */
+
+    @NotNull
+    @Override
+    public RestAction<List<T>> deadline(long timestamp) {
+        Check.notNegative(timestamp, "timestamp");
+        this.deadline = timestamp;
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public RestAction<List<T>> project(@NotNull EntityField... fields) {
+        Check.notEmpty(fields, "fields");
+        paged.project(fields);
+        return this;
+    }
+
+    /* Internal */
+
+    @Override
+    protected void start(@NotNull OperatorFuture<List<T>> future) {
+        new Execution(future).pump();
+    }
+
+    /* Inner Classes */
+
+    private final class Execution {
+
+        private final OperatorFuture<List<T>> future;
+        private final int window = parallelism;
+        private final boolean inOrder = ordered;
+        private final ObjIntConsumer<? super T> pageListener = listener;
+        private final long timestamp = deadline;
+        private final Map<Integer, CompletableFuture<? extends T>> active = new HashMap<>();
+        private final Map<Integer, T> pending = new HashMap<>();
+        private final Map<Integer, T> results = new LinkedHashMap<>();
+        private final AtomicInteger pumping = new AtomicInteger();
+
+        private int next = from;
+        private int end = to;
+        private int delivered = from;
+
+        /* Constructors */
+
+        private Execution(@NotNull OperatorFuture<List<T>> future) {
+            this.future = future;
+        }
+
+        /* Methods */
+
+        void pump() {
+            if (pumping.getAndIncrement() != 0)
+                return;
+            do {
+                int page;
+
+                while ((page = poll()) != -1)
+                    launch(page);
+                finish();
+            } while (pumping.decrementAndGet() != 0);
+        }
+
+        /* Internal */
+
+        private synchronized int poll() {
+            if (future.isDone() || active.size() >= window || next >= end)
+                return -1;
+            active.put(next, null);
+            return next++;
+        }
+
+        private void launch(int page) {
+            final CompletableFuture<? extends T> submitted;
+            try {
+                final RestAction<T> action = paged.get(page);
+
+                if (timestamp != 0)
+                    action.deadline(timestamp);
+                submitted = future.track(action.submit());
+            } catch (Throwable t) {
+                onComplete(null, page, null, t);
+                return;
+            }
+            synchronized (this) {
+                if (active.containsKey(page))
+                    active.put(page, submitted);
+            }
+            submitted.whenComplete((value, t) -> onComplete(submitted, page, value, t));
+        }
+
+        private void onComplete(@Nullable CompletableFuture<?> submitted, int page, @Nullable T value, @Nullable Throwable failure) {
+            if (submitted != null)
+                future.untrack(submitted);
+
+            final List<CompletableFuture<? extends T>> cancelled = new ArrayList<>();
+            final boolean failed;
+            synchronized (this) {
+                active.remove(page);
+                // Pages past the end of the listing are cancelled, their outcome is irrelevant.
+                failed = failure != null && page < end;
+                if (!failed && page < end && !future.isDone())
+                    record(page, value, cancelled);
+            }
+            if (failed) {
+                future.cancelActive(null);
+                future.settle(null, failure);
+                return;
+            }
+            for (final CompletableFuture<? extends T> active : cancelled) {
+                future.untrack(active);
+                active.cancel(true);
+            }
+            pump();
+        }
+
+        private void record(int page, @Nullable T value, @NotNull List<CompletableFuture<? extends T>> cancelled) {
+            if (isEmpty(value)) {
+                // An empty page marks the end of the listing, later pages are not needed.
+                end = page;
+                active.entrySet().removeIf(entry -> {
+                    if (entry.getKey() <= page)
+                        return false;
+                    if (entry.getValue() != null)
+                        cancelled.add(entry.getValue());
+                    return true;
+                });
+                pending.keySet().removeIf(key -> key > page);
+                results.keySet().removeIf(key -> key > page);
+            } else if (inOrder) {
+                pending.put(page, value);
+                while (pending.containsKey(delivered)) {
+                    final T result = pending.remove(delivered);
+
+                    results.put(delivered, result);
+                    notify(result, delivered++);
+                }
+            } else {
+                results.put(page, value);
+                notify(value, page);
+            }
+        }
+
+        private void notify(@Nullable T value, int page) {
+            if (pageListener == null)
+                return;
+            try {
+                pageListener.accept(value, page);
+            } catch (Throwable t) {
+                RestActionImpl.LOG.error("Encountered error while processing page listener", t);
+                if (t instanceof Error)
+                    throw (Error) t;
+            }
+        }
+
+        private void finish() {
+            final List<T> result;
+            synchronized (this) {
+                if (future.isDone() || next < end || !active.isEmpty())
+                    return;
+                result = new ArrayList<>(results.values());
+            }
+            future.complete(result);
+        }
+
+        private boolean isEmpty(@Nullable T value) {
+            return value == null || (value instanceof Collection && ((Collection<?>) value).isEmpty());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.azzerial.jmgur.internal.requests.restaction.operator;
+
+import net.azzerial.jmgur.api.requests.restaction.RestAction;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class PrefetchedRestAction<T> extends RestActionOperator<T, T> {
+
+    private final AtomicReference<CompletableFuture<T>> prefetched;
+
+    /* Constructors */
+
+    public PrefetchedRestAction(@NotNull RestAction<T> action, @NotNull CompletableFuture<T> prefetched) {
+        super(action);
+        Check.notNull(prefetched, "prefetched");
+        this.prefetched = new AtomicReference<>(prefetched);
+    }
+
+    /* Internal */
+
+    @Override
+    protected void start(@NotNull OperatorFuture<T> future) {
+        final CompletableFuture<T> prefetched = this.prefetched.getAndSet(null);
+        final CompletableFuture<? extends T> source = prefetched != null ? prefetched : getAction().submit();
+
+        future.track(source).whenComplete(future::settle);
+    }
+}
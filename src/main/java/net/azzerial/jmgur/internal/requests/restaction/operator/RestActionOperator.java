@@ -0,0 +1,162 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests.restaction.operator;
+
+import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.entities.subentities.EntityField;
+import net.azzerial.jmgur.api.requests.restaction.RestAction;
+import net.azzerial.jmgur.internal.requests.restaction.RestActionImpl;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public abstract class RestActionOperator<I, O> implements RestAction<O> {
+
+    protected final Jmgur api;
+    protected final Collection<? extends RestAction<? extends I>> actions;
+
+    /* Constructors */
+
+    protected RestActionOperator(@NotNull RestAction<? extends I> action) {
+        this(Collections.singletonList(action));
+    }
+
+    protected RestActionOperator(@NotNull Collection<? extends RestAction<? extends I>> actions) {
+        Check.notEmpty(actions, "actions");
+        Check.noneNull(actions, "actions");
+        this.api = actions.iterator().next().getApi();
+        this.actions = actions;
+    }
+
+    /* Getters & Setters */
+
+    @NotNull
+    @Override
+    public Jmgur getApi() {
+        return api;
+    }
+
+    /* Methods */
+
+    @Override
+    public void queue(@Nullable Consumer<? super O> success, @Nullable Consumer<? super Throwable> failure) {
+        final Consumer<? super O> onSuccess = success == null ? RestActionImpl.getDefaultSuccess() : success;
+        final Consumer<? super Throwable> onFailure = failure == null ? RestActionImpl.getDefaultFailure() : failure;
+
+        submit().whenComplete((value, t) -> {
+            try {
+                api.getThreadingConfig().getCallbackPool().execute(() -> {
+                    try {
+                        if (t == null)
+                            onSuccess.accept(value);
+                        else
+                            onFailure.accept(OperatorFuture.unwrap(t));
+                    } catch (Throwable e) {
+                        RestActionImpl.LOG.error("Encountered error while processing {} consumer", t == null ? "success" : "failure", e);
+                        if (e instanceof Error)
+                            throw (Error) e;
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                RestActionImpl.LOG.error("The callback pool rejected the result of a composed RestAction", e);
+            }
+        });
+    }
+
+    @Nullable
+    @Override
+    public O complete() {
+        try {
+            return submit().join();
+        } catch (CompletionException e) {
+            final Throwable cause = OperatorFuture.unwrap(e);
+
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            else if (cause instanceof Error)
+                throw (Error) cause;
+            throw e;
+        }
+    }
+
+    @NotNull
+    @Override
+    public CompletableFuture<O> submit() {
+        final OperatorFuture<O> future = new OperatorFuture<>();
+
+        try {
+            start(future);
+        } catch (Throwable t) {
+            future.cancelActive(null);
+            future.completeExceptionally(t);
+        }
+        return future;
+    }
+
+    @NotNull
+    @Override
+    public RestAction<O> deadline(long timestamp) {
+        Check.notNegative(timestamp, "timestamp");
+        for (final RestAction<? extends I> action : actions)
+            action.deadline(timestamp);
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public RestAction<O> hedge() {
+        for (final RestAction<? extends I> action : actions)
+            action.hedge();
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public RestAction<O> hedge(long delay, @NotNull TimeUnit unit) {
+        Check.positive(delay, "delay");
+        Check.notNull(unit, "unit");
+        for (final RestAction<? extends I> action : actions)
+            action.hedge(delay, unit);
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public RestAction<O> project(@NotNull EntityField... fields) {
+        Check.notEmpty(fields, "fields");
+        for (final RestAction<? extends I> action : actions)
+            action.project(fields);
+        return this;
+    }
+
+    /* Internal */
+
+    protected abstract void start(@NotNull OperatorFuture<O> future);
+
+    @NotNull
+    protected RestAction<? extends I> getAction() {
+        return actions.iterator().next();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests.restaction.operator;
+
+import net.azzerial.jmgur.api.requests.restaction.RestAction;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+
+public final class ZipRestAction<A, B, O> extends RestActionOperator<Object, O> {
+
+    private final RestAction<A> first;
+    private final RestAction<B> second;
+    private final BiFunction<? super A, ? super B, ? extends O> function;
+
+    /* Constructors */
+
+    public ZipRestAction(@NotNull RestAction<A> first, @NotNull RestAction<B> second, @NotNull BiFunction<? super A, ? super B, ? extends O> function) {
+        super(Arrays.asList(first, second));
+        Check.notNull(function, "function");
+        this.first = first;
+        this.second = second;
+        this.function = function;
+    }
+
+    /* Internal */
+
+    @Override
+    protected void start(@NotNull OperatorFuture<O> future) {
+        final CompletableFuture<A> a = future.track(first.submit());
+        final CompletableFuture<B> b = future.track(second.submit());
+
+        a.whenComplete((value, t) -> failFast(future, t));
+        b.whenComplete((value, t) -> failFast(future, t));
+        a.thenAcceptBoth(b, (valueA, valueB) -> {
+            try {
+                future.complete(function.apply(valueA, valueB));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+    }
+
+    private static void failFast(@NotNull OperatorFuture<?> future, Throwable t) {
+        if (t == null || !future.completeExceptionally(OperatorFuture.unwrap(t)))
+            return;
+        future.cancelActive(null);
+    }
+}
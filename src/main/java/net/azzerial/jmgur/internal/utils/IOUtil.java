@@ -34,6 +34,7 @@ import java.io.BufferedInputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -81,6 +82,21 @@ public final class IOUtil {
         return data;
     }
 
+    @NotNull
+    public static byte[] readFully(@NotNull InputStream in) throws IOException {
+        Check.notNull(in, "in");
+        byte[] buffer = new byte[8192];
+        int length = 0;
+        int read;
+
+        while ((read = in.read(buffer, length, buffer.length - length)) != -1) {
+            length += read;
+            if (length == buffer.length)
+                buffer = Arrays.copyOf(buffer, buffer.length << 1);
+        }
+        return Arrays.copyOf(buffer, length);
+    }
+
     /* --- Http Url --- */
 
     @NotNull
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.utils.cache;
+
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+
+public final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+        0xC3A5C85C97CB3127L,
+        0xB492B66FBE98F273L,
+        0x9AE16A3B2F90404FL,
+        0xCBF29CE484222325L
+    };
+    private static final int MAXIMUM_FREQUENCY = 15;
+
+    private final byte[][] table;
+    private final int mask;
+    private final int sampleSize;
+
+    private int size = 0;
+
+    /* Constructors */
+
+    public FrequencySketch(int maximumSize) {
+        Check.positive(maximumSize, "maximumSize");
+        final int width = Integer.highestOneBit(Math.max(16, Math.min(maximumSize, 1 << 30) - 1) << 1);
+
+        this.table = new byte[SEEDS.length][width];
+        this.mask = width - 1;
+        this.sampleSize = 10 * Math.max(16, maximumSize);
+    }
+
+    /* Methods */
+
+    public int frequency(@NotNull Object key) {
+        final int hash = spread(key.hashCode());
+        int frequency = MAXIMUM_FREQUENCY;
+
+        for (int i = 0; i < SEEDS.length; i += 1)
+            frequency = Math.min(frequency, table[i][indexOf(hash, i)]);
+        return frequency;
+    }
+
+    public void increment(@NotNull Object key) {
+        final int hash = spread(key.hashCode());
+        boolean added = false;
+
+        for (int i = 0; i < SEEDS.length; i += 1) {
+            final int index = indexOf(hash, i);
+
+            if (table[i][index] < MAXIMUM_FREQUENCY) {
+                table[i][index] += 1;
+                added = true;
+            }
+        }
+        if (added && ++size >= sampleSize)
+            reset();
+    }
+
+    /* Internal */
+
+    private int indexOf(int hash, int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += h >>> 32;
+        return (int) h & mask;
+    }
+
+    private void reset() {
+        for (final byte[] row : table) {
+            for (int i = 0; i < row.length; i += 1)
+                row[i] >>>= 1;
+        }
+        size /= 2;
+    }
+
+    private static int spread(int hash) {
+        hash = ((hash >>> 16) ^ hash) * 0x45D9F3B;
+        hash = ((hash >>> 16) ^ hash) * 0x45D9F3B;
+        return (hash >>> 16) ^ hash;
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.utils.cache;
+
+import net.azzerial.jmgur.api.utils.CacheStats;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+public final class TinyLfuCache<K, V> {
+
+    public static final int READ_BUFFER_MAXIMUM = 128;
+    public static final int READ_BUFFER_DRAIN_THRESHOLD = 32;
+
+    private final int maximumSize;
+    private final int windowMaximum;
+    private final int mainMaximum;
+    private final int protectedMaximum;
+    private final long ttl;
+    private final FrequencySketch sketch;
+    private final Map<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final LinkedHashMap<K, Node<K, V>> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Node<K, V>> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Node<K, V>> protectedRegion = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock policyLock = new ReentrantLock();
+    private final Queue<Node<K, V>> readBuffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger readBufferSize = new AtomicInteger();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /* Constructors */
+
+    public TinyLfuCache(int maximumSize, long ttl) {
+        Check.positive(maximumSize, "maximumSize");
+        Check.notNegative(ttl, "ttl");
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.mainMaximum = maximumSize - windowMaximum;
+        this.protectedMaximum = (int) (mainMaximum * 0.8);
+        this.ttl = ttl;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /* Getters & Setters */
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getTtl() {
+        return ttl;
+    }
+
+    public int size() {
+        return data.size();
+    }
+
+    @NotNull
+    public CacheStats getStats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), data.size());
+    }
+
+    /* Methods */
+
+    @Nullable
+    public V get(@NotNull K key) {
+        Check.notNull(key, "key");
+        final Node<K, V> node = data.get(key);
+
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+        if (node.isExpired(System.currentTimeMillis())) {
+            missCount.increment();
+            policyLock.lock();
+            try {
+                if (data.get(key) == node) {
+                    remove(node);
+                    evictionCount.increment();
+                }
+            } finally {
+                policyLock.unlock();
+            }
+            return null;
+        }
+
+        hitCount.increment();
+        recordRead(node);
+        return node.value;
+    }
+
+    public void put(@NotNull K key, @NotNull V value) {
+        Check.notNull(key, "key");
+        Check.notNull(value, "value");
+        final long expiresAt = ttl > 0 ? System.currentTimeMillis() + ttl : Long.MAX_VALUE;
+
+        policyLock.lock();
+        try {
+            drainReadBuffer();
+            Node<K, V> node = data.get(key);
+
+            sketch.increment(key);
+            if (node != null) {
+                node.value = value;
+                node.expiresAt = expiresAt;
+                regionOf(node).get(key);
+                return;
+            }
+
+            node = new Node<>(key, value, expiresAt);
+            data.put(key, node);
+            window.put(key, node);
+            if (window.size() > windowMaximum) {
+                final Node<K, V> candidate = eldest(window);
+
+                window.remove(candidate.key);
+                admit(candidate);
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    public boolean update(@NotNull K key, @NotNull Function<? super V, ? extends V> updater) {
+        Check.notNull(key, "key");
+        Check.notNull(updater, "updater");
+        policyLock.lock();
+        try {
+            final Node<K, V> node = data.get(key);
+
+            if (node == null || node.isExpired(System.currentTimeMillis()))
+                return false;
+
+            final V value = updater.apply(node.value);
+
+            if (value == null) {
+                remove(node);
+                return false;
+            }
+            node.value = value;
+            return true;
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    public void invalidate(@NotNull K key) {
+        Check.notNull(key, "key");
+        policyLock.lock();
+        try {
+            final Node<K, V> node = data.get(key);
+
+            if (node != null)
+                remove(node);
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    public void invalidateIf(@NotNull Predicate<? super V> predicate) {
+        Check.notNull(predicate, "predicate");
+        policyLock.lock();
+        try {
+            data.values().stream()
+                .filter(node -> predicate.test(node.value))
+                .collect(Collectors.toList())
+                .forEach(this::remove);
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        policyLock.lock();
+        try {
+            drainReadBuffer();
+            data.clear();
+            window.clear();
+            probation.clear();
+            protectedRegion.clear();
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    /* Internal */
+
+    private void recordRead(@NotNull Node<K, V> node) {
+        // Reads only touch the concurrent map, their effect on the policy is buffered and replayed under the lock.
+        // A full buffer drops the read, which only costs some recency and frequency precision.
+        if (readBufferSize.incrementAndGet() > READ_BUFFER_MAXIMUM)
+            readBufferSize.decrementAndGet();
+        else
+            readBuffer.offer(node);
+        if (readBufferSize.get() >= READ_BUFFER_DRAIN_THRESHOLD && policyLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                policyLock.unlock();
+            }
+        }
+    }
+
+    private void drainReadBuffer() {
+        Node<K, V> node;
+
+        while ((node = readBuffer.poll()) != null) {
+            readBufferSize.decrementAndGet();
+            if (data.get(node.key) == node)
+                onAccess(node);
+        }
+    }
+
+    private void onAccess(@NotNull Node<K, V> node) {
+        final K key = node.key;
+
+        sketch.increment(key);
+        switch (node.region) {
+            case WINDOW:
+                window.get(key);
+                break;
+            case PROBATION:
+                probation.remove(key);
+                node.region = Region.PROTECTED;
+                protectedRegion.put(key, node);
+                if (protectedRegion.size() > protectedMaximum) {
+                    final Node<K, V> demoted = eldest(protectedRegion);
+
+                    protectedRegion.remove(demoted.key);
+                    demoted.region = Region.PROBATION;
+                    probation.put(demoted.key, demoted);
+                }
+                break;
+            case PROTECTED:
+                protectedRegion.get(key);
+                break;
+        }
+    }
+
+    private void admit(@NotNull Node<K, V> candidate) {
+        if (probation.size() + protectedRegion.size() < mainMaximum) {
+            candidate.region = Region.PROBATION;
+            probation.put(candidate.key, candidate);
+            return;
+        }
+        if (mainMaximum == 0) {
+            data.remove(candidate.key);
+            evictionCount.increment();
+            return;
+        }
+
+        final LinkedHashMap<K, Node<K, V>> victims = probation.isEmpty() ? protectedRegion : probation;
+        final Node<K, V> victim = eldest(victims);
+
+        evictionCount.increment();
+        if (victim.isExpired(System.currentTimeMillis()) || sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+            victims.remove(victim.key);
+            data.remove(victim.key);
+            candidate.region = Region.PROBATION;
+            probation.put(candidate.key, candidate);
+        } else
+            data.remove(candidate.key);
+    }
+
+    private void remove(@NotNull Node<K, V> node) {
+        data.remove(node.key);
+        regionOf(node).remove(node.key);
+    }
+
+    @NotNull
+    private LinkedHashMap<K, Node<K, V>> regionOf(@NotNull Node<K, V> node) {
+        switch (node.region) {
+            case PROBATION:
+                return probation;
+            case PROTECTED:
+                return protectedRegion;
+            default:
+                return window;
+        }
+    }
+
+    @NotNull
+    private static <K, V> Node<K, V> eldest(@NotNull LinkedHashMap<K, Node<K, V>> region) {
+        return region.values().iterator().next();
+    }
+
+    /* Inner Classes */
+
+    private enum Region {
+        WINDOW,
+        PROBATION,
+        PROTECTED
+    }
+
+    private static final class Node<K, V> {
+
+        private final K key;
+
+        private volatile V value;
+        private volatile long expiresAt;
+        private Region region = Region.WINDOW;
+
+        /* Constructors */
+
+        Node(@NotNull K key, @NotNull V value, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        /* Methods */
+
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
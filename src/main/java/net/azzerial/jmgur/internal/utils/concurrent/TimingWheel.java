@@ -0,0 +1,211 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.utils.concurrent;
+
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+public final class TimingWheel {
+
+    public static final Logger LOG = LoggerFactory.getLogger(TimingWheel.class);
+    public static final long DEFAULT_TICK = 10L;
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final ScheduledExecutorService scheduler;
+    private final long tick;
+    private final List<ArrayDeque<Timeout>> wheel;
+    private final int mask;
+    private final long origin;
+
+    private long currentTick = 0L;
+    private int pending = 0;
+    private ScheduledFuture<?> ticker;
+
+    /* Constructors */
+
+    public TimingWheel(@NotNull ScheduledExecutorService scheduler) {
+        this(scheduler, DEFAULT_TICK, TimeUnit.MILLISECONDS, DEFAULT_WHEEL_SIZE);
+    }
+
+    public TimingWheel(@NotNull ScheduledExecutorService scheduler, long tick, @NotNull TimeUnit unit, int wheelSize) {
+        Check.notNull(scheduler, "scheduler");
+        Check.positive(tick, "tick");
+        Check.notNull(unit, "unit");
+        Check.check(wheelSize > 0 && Integer.bitCount(wheelSize) == 1, "wheelSize must be a power of two");
+        this.scheduler = scheduler;
+        this.tick = unit.toNanos(tick);
+        this.wheel = new ArrayList<>(wheelSize);
+        this.mask = wheelSize - 1;
+        this.origin = System.nanoTime();
+
+        for (int i = 0; i < wheelSize; i++)
+            wheel.add(new ArrayDeque<>());
+    }
+
+    /* Getters & Setters */
+
+    public synchronized int getPendingCount() {
+        return pending;
+    }
+
+    /* Methods */
+
+    @NotNull
+    public Timeout schedule(@NotNull Runnable task, long delay, @NotNull TimeUnit unit) {
+        Check.notNull(task, "task");
+        Check.notNull(unit, "unit");
+        final long elapsed = System.nanoTime() - origin + Math.max(unit.toNanos(delay), 0L);
+        final Timeout timeout;
+        final List<Timeout> rejected;
+
+        synchronized (this) {
+            timeout = new Timeout(this, task, Math.max(currentTick + 1, (elapsed + tick - 1) / tick));
+            wheel.get((int) (timeout.deadline & mask)).addLast(timeout);
+            pending += 1;
+            rejected = ticker == null ? start() : Collections.emptyList();
+        }
+        run(rejected);
+        return timeout;
+    }
+
+    /* Internal */
+
+    @NotNull
+    private List<Timeout> start() {
+        try {
+            ticker = scheduler.scheduleAtFixedRate(this::advance, tick, tick, TimeUnit.NANOSECONDS);
+            return Collections.emptyList();
+        } catch (RejectedExecutionException e) {
+            // Nothing would ever expire the pending timeouts, they fire now so their requests fail instead of hanging.
+            final List<Timeout> rejected = new ArrayList<>();
+
+            ticker = null;
+            for (final ArrayDeque<Timeout> bucket : wheel) {
+                for (final Timeout timeout : bucket) {
+                    if (!timeout.cancelled)
+                        rejected.add(timeout);
+                }
+                bucket.clear();
+            }
+            pending = 0;
+            LOG.warn("The scheduler rejected the timing wheel, firing {} pending timeouts now", rejected.size());
+            return rejected;
+        }
+    }
+
+    private void advance() {
+        final List<Timeout> expired = new ArrayList<>();
+
+        synchronized (this) {
+            final long target = (System.nanoTime() - origin) / tick;
+            final long steps = Math.min(target - currentTick, wheel.size());
+
+            for (long i = 1; i <= steps; i++) {
+                final Iterator<Timeout> it = wheel.get((int) ((currentTick + i) & mask)).iterator();
+                while (it.hasNext()) {
+                    final Timeout timeout = it.next();
+                    if (timeout.cancelled) {
+                        it.remove();
+                        pending -= 1;
+                    } else if (timeout.deadline <= target) {
+                        it.remove();
+                        pending -= 1;
+                        expired.add(timeout);
+                    }
+                }
+            }
+            currentTick = Math.max(currentTick, target);
+            stopIfIdle();
+        }
+        run(expired);
+    }
+
+    private void run(@NotNull List<Timeout> expired) {
+        for (final Timeout timeout : expired) {
+            if (timeout.cancelled)
+                continue;
+            try {
+                timeout.task.run();
+            } catch (Throwable t) {
+                LOG.error("A timeout task threw an exception", t);
+                if (t instanceof Error)
+                    throw (Error) t;
+            }
+        }
+    }
+
+    private synchronized void remove(@NotNull Timeout timeout) {
+        // Cancelled timeouts leave the wheel right away, the ticker only runs while live timeouts remain.
+        if (wheel.get((int) (timeout.deadline & mask)).remove(timeout)) {
+            pending -= 1;
+            stopIfIdle();
+        }
+    }
+
+    private void stopIfIdle() {
+        if (pending == 0 && ticker != null) {
+            ticker.cancel(false);
+            ticker = null;
+        }
+    }
+
+    /* Inner Classes */
+
+    public static final class Timeout {
+
+        private final TimingWheel timingWheel;
+        private final Runnable task;
+        private final long deadline;
+
+        private volatile boolean cancelled = false;
+
+        /* Constructors */
+
+        private Timeout(@NotNull TimingWheel timingWheel, @NotNull Runnable task, long deadline) {
+            this.timingWheel = timingWheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /* Getters & Setters */
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /* Methods */
+
+        public void cancel() {
+            if (cancelled)
+                return;
+            this.cancelled = true;
+            timingWheel.remove(this);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.utils.concurrent;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.azzerial.jmgur.internal.utils.Check;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreads {
+
+    /* Methods */
+
+    public static boolean isSupported() {
+        return false;
+    }
+
+    @NotNull
+    public static ExecutorService newExecutor(@NotNull Supplier<String> identifier, @NotNull String baseName) {
+        Check.notNull(identifier, "identifier");
+        Check.notBlank(baseName, "baseName");
+        throw new UnsupportedOperationException("Virtual threads require Java 21 or newer");
+    }
+}
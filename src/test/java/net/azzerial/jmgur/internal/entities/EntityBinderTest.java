@@ -0,0 +1,266 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.entities;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.JmgurBuilder;
+import net.azzerial.jmgur.api.OAuth2;
+import net.azzerial.jmgur.api.entities.GalleryElement;
+import net.azzerial.jmgur.api.entities.GalleryImage;
+import net.azzerial.jmgur.api.entities.subentities.EntityField;
+import net.azzerial.jmgur.api.requests.Request;
+import net.azzerial.jmgur.api.requests.Response;
+import net.azzerial.jmgur.api.utils.IOFunction;
+import net.azzerial.jmgur.api.utils.config.flags.ConfigFlag;
+import net.azzerial.jmgur.api.utils.data.DataArray;
+import net.azzerial.jmgur.api.utils.data.DataObject;
+import net.azzerial.jmgur.internal.requests.Route;
+import net.azzerial.jmgur.internal.requests.restaction.RestActionImpl;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class EntityBinderTest {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private static Jmgur api;
+
+    /* Methods */
+
+    @BeforeAll
+    static void setUp() {
+        api = JmgurBuilder.of("client-id")
+            .setOAuth(OAuth2.fromData("access-token", "refresh-token", 315360000L, "ghostinspector", 48437714L))
+            .build();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        api.shutdownNow();
+    }
+
+    @Test
+    void streamingParserIsOptIn() {
+        assertFalse(ConfigFlag.getDefault().contains(ConfigFlag.STREAMING_PARSER));
+    }
+
+    @Test
+    void bindsAccount() throws IOException {
+        assertSameBinding("account", api.getEntityBuilder()::createAccount, api.getEntityBinder()::readAccount);
+    }
+
+    @Test
+    void bindsAccountSettings() throws IOException {
+        assertSameBinding("account_settings", api.getEntityBuilder()::createAccountSettings, api.getEntityBinder()::readAccountSettings);
+    }
+
+    @Test
+    void bindsAlbum() throws IOException {
+        assertSameBinding("album", api.getEntityBuilder()::createAlbum, api.getEntityBinder()::readAlbum);
+    }
+
+    @Test
+    void bindsComment() throws IOException {
+        assertSameBinding("comment", api.getEntityBuilder()::createComment, api.getEntityBinder()::readComment);
+    }
+
+    @Test
+    void bindsGalleryElements() throws IOException {
+        assertSameListBinding("gallery", api.getEntityBuilder()::createGalleryElement, api.getEntityBinder()::readGalleryElement);
+    }
+
+    @Test
+    void bindsGalleryProfile() throws IOException {
+        assertSameBinding("gallery_profile", api.getEntityBuilder()::createGalleryProfile, api.getEntityBinder()::readGalleryProfile);
+    }
+
+    @Test
+    void bindsImage() throws IOException {
+        assertSameBinding("image", api.getEntityBuilder()::createImage, api.getEntityBinder()::readImage);
+    }
+
+    @Test
+    void bindsVotes() throws IOException {
+        assertSameBinding("votes", api.getEntityBuilder()::createVotes, api.getEntityBinder()::readVotes);
+    }
+
+    @Test
+    void streamsElementsWithoutStreamingParser() {
+        final List<Object> elements = new ArrayList<>();
+        final Request<List<GalleryElement>> request = newStreamingRequest(element -> {
+            elements.add(element);
+            return false;
+        });
+        // The body is cut after the first element, buffering it whole would fail to parse.
+        final String body = "{\"data\":[{\"id\":\"fLRvYFm\",\"title\":\"Cat\",\"is_album\":false},{\"id\":\"hQ0t";
+
+        final EntityBinder binder = api.getEntityBinder().forRequest(request);
+        final List<GalleryElement> bound = binder.bindList(newResponse(body), binder::readGalleryElement, api.getEntityBuilder()::createGalleryElement);
+
+        assertTrue(bound.isEmpty());
+        assertEquals(1, elements.size());
+        assertEquals("fLRvYFm", ((GalleryElement) elements.get(0)).getHash());
+    }
+
+    @Test
+    void projectsWithoutStreamingParser() {
+        final Route.CompiledRoute route = Route.GalleryEndpoints.GET_GALLERY.compile("hot", "viral", "day", "0");
+        final RestActionImpl<List<GalleryElement>> action = new RestActionImpl<>(api, route, (req, res) -> null);
+        final Request<List<GalleryElement>> request = new Request<>(action, value -> {}, t -> {}, null, 0L, route);
+        final String body = "{\"data\":[{\"id\":\"fLRvYFm\",\"title\":\"Cat\",\"score\":912,\"views\":31977,\"is_album\":false}],\"success\":true,\"status\":200}";
+
+        action.project(EntityField.ID, EntityField.SCORE);
+
+        final EntityBinder binder = api.getEntityBinder().forRequest(request);
+        final List<GalleryElement> bound = binder.bindList(newResponse(body), binder::readGalleryElement, api.getEntityBuilder()::createGalleryElement);
+        final GalleryImage image = (GalleryImage) bound.get(0);
+
+        assertEquals("fLRvYFm", image.getHash());
+        assertEquals(912, image.getScore());
+        assertNull(image.getTitle());
+        assertEquals(0, image.getViews());
+    }
+
+    /* Internal */
+
+    private static <T> Request<T> newStreamingRequest(Predicate<Object> sink) {
+        final Route.CompiledRoute route = Route.GalleryEndpoints.GET_GALLERY.compile("hot", "viral", "day", "0");
+        final RestActionImpl<T> action = new RestActionImpl<>(api, route, (req, res) -> null);
+        return new Request<>(action, value -> {}, t -> {}, null, 0L, route, sink);
+    }
+
+    private static Response newResponse(String body) {
+        return new Response(api, new okhttp3.Response.Builder()
+            .request(new okhttp3.Request.Builder().url("https://api.imgur.com/3/gallery").build())
+            .protocol(Protocol.HTTP_1_1)
+            .code(200)
+            .message("OK")
+            .body(ResponseBody.create(body, MediaType.get("application/json")))
+            .build());
+    }
+
+    private static <T> void assertSameBinding(String fixture, Function<DataObject, T> builder, IOFunction<JsonParser, T> binder) throws IOException {
+        final T expected = builder.apply(readFixture(fixture).getObject("data"));
+        final T actual;
+
+        try (JsonParser p = openData(fixture)) {
+            actual = binder.apply(p);
+        }
+        assertSameFields(fixture, expected, actual);
+    }
+
+    private static <T> void assertSameListBinding(String fixture, Function<DataObject, T> builder, IOFunction<JsonParser, T> binder) throws IOException {
+        final DataArray arr = readFixture(fixture).getArray("data");
+        final List<T> expected = new ArrayList<>(arr.length());
+        final List<T> actual = new ArrayList<>();
+
+        for (int i = 0; i < arr.length(); i += 1)
+            expected.add(builder.apply(arr.getObject(i)));
+        try (JsonParser p = openData(fixture)) {
+            assertEquals(JsonToken.START_ARRAY, p.currentToken());
+            while (p.nextToken() != JsonToken.END_ARRAY)
+                actual.add(binder.apply(p));
+        }
+        assertSameFields(fixture, expected, actual);
+    }
+
+    private static DataObject readFixture(String fixture) throws IOException {
+        try (InputStream in = openFixture(fixture)) {
+            return DataObject.fromJson(in);
+        }
+    }
+
+    private static JsonParser openData(String fixture) throws IOException {
+        final JsonParser p = FACTORY.createParser(openFixture(fixture));
+
+        assertEquals(JsonToken.START_OBJECT, p.nextToken());
+        String name;
+        while ((name = p.nextFieldName()) != null) {
+            p.nextToken();
+            if (name.equals("data"))
+                return p;
+            p.skipChildren();
+        }
+        p.close();
+        return fail("No data in fixture " + fixture);
+    }
+
+    private static InputStream openFixture(String fixture) {
+        final InputStream in = EntityBinderTest.class.getResourceAsStream("/fixtures/" + fixture + ".json");
+
+        assertNotNull(in, "Missing fixture " + fixture);
+        return in;
+    }
+
+    // Walks every instance field of the entities, so a field added to one binding path but not the other fails here.
+    private static void assertSameFields(String path, Object expected, Object actual) {
+        if (expected == null || actual == null) {
+            assertEquals(expected, actual, path);
+            return;
+        }
+        if (expected instanceof List && actual instanceof List) {
+            final List<?> expectedList = (List<?>) expected;
+            final List<?> actualList = (List<?>) actual;
+
+            assertEquals(expectedList.size(), actualList.size(), path + ".size");
+            for (int i = 0; i < expectedList.size(); i += 1)
+                assertSameFields(path + "[" + i + "]", expectedList.get(i), actualList.get(i));
+            return;
+        }
+        assertEquals(expected.getClass(), actual.getClass(), path);
+        if (!expected.getClass().getName().startsWith("net.azzerial.jmgur.internal.entities.")) {
+            assertTrue(Objects.equals(expected, actual), path + ": expected <" + expected + "> but was <" + actual + ">");
+            return;
+        }
+        for (Class<?> type = expected.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers()))
+                    continue;
+                field.setAccessible(true);
+                try {
+                    assertSameFields(path + "." + field.getName(), field.get(expected), field.get(actual));
+                } catch (IllegalAccessException e) {
+                    fail(path + "." + field.getName(), e);
+                }
+            }
+        }
+    }
+}
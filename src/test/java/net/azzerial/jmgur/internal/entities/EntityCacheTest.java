@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.entities;
+
+import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.JmgurBuilder;
+import net.azzerial.jmgur.api.OAuth2;
+import net.azzerial.jmgur.api.entities.Album;
+import net.azzerial.jmgur.api.entities.Image;
+import net.azzerial.jmgur.api.requests.restaction.RestAction;
+import net.azzerial.jmgur.api.utils.config.flags.CacheType;
+import net.azzerial.jmgur.api.utils.data.DataObject;
+import net.azzerial.jmgur.internal.entities.binding.ByteSourceParser;
+import net.azzerial.jmgur.internal.entities.lazy.LazyImageImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityCacheTest {
+
+    private static final String IMAGE = "{\"id\":\"orunSTu\",\"title\":null,\"datetime\":1495556889,\"type\":\"image/gif\",\"favorite\":false,\"in_gallery\":false,\"link\":\"http://i.imgur.com/orunSTu.gif\"}";
+
+    private static final String ALBUM = "{\"id\":\"lDRB2\",\"title\":\"Imgur Office\",\"datetime\":1357856292,\"favorite\":false,\"deletehash\":\"Ux7zWxn2mYu5ThU\",\"images_count\":0,\"images\":[]}";
+
+    private Jmgur api;
+
+    /* Methods */
+
+    @BeforeEach
+    void setUp() {
+        api = JmgurBuilder.of("client-id")
+            .setOAuth(OAuth2.fromData("access-token", "refresh-token", 315360000L, "ghostinspector", 48437714L))
+            .enableCache(CacheType.IMAGE, 16)
+            .enableCache(CacheType.ALBUM, 16)
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        api.shutdownNow();
+    }
+
+    @Test
+    void looksUpCacheWhenActionExecutes() {
+        final RestAction<Image> action = api.IMAGE.getImage("orunSTu");
+        final Image image = api.getEntityBuilder().createImage(DataObject.fromJson(IMAGE));
+
+        api.getEntityCache().put(CacheType.IMAGE, "orunSTu", image);
+
+        assertSame(image, action.complete());
+        assertSame(image, action.submit().join());
+    }
+
+    @Test
+    void patchesCopyOfCachedEntity() {
+        final Image image = api.getEntityBuilder().createImage(DataObject.fromJson(IMAGE));
+
+        api.getEntityCache().put(CacheType.IMAGE, "orunSTu", image);
+        api.getEntityCache().onImageFavorited("orunSTu", true);
+
+        final Image cached = api.getEntityCache().get(CacheType.IMAGE, "orunSTu");
+
+        assertNotNull(cached);
+        assertNotSame(image, cached);
+        assertTrue(cached.isFavorite());
+        assertFalse(image.isFavorite());
+    }
+
+    @Test
+    void invalidatesAlbumDeletedByDeleteHash() {
+        final Album album = api.getEntityBuilder().createAlbum(DataObject.fromJson(ALBUM));
+
+        api.getEntityCache().put(CacheType.ALBUM, "lDRB2", album);
+        api.getEntityCache().onAlbumFavorited("lDRB2", true);
+
+        final Album favorited = api.getEntityCache().get(CacheType.ALBUM, "lDRB2");
+
+        assertNotNull(favorited);
+        assertTrue(favorited.isFavorite());
+        api.getEntityCache().onAlbumDeleted("Ux7zWxn2mYu5ThU");
+        assertNull(api.getEntityCache().get(CacheType.ALBUM, "lDRB2"));
+    }
+
+    @Test
+    void invalidatesLazyViewInsteadOfPatching() throws IOException {
+        final byte[] source = IMAGE.getBytes(StandardCharsets.UTF_8);
+        final Image image;
+
+        try (ByteSourceParser p = ByteSourceParser.open(api.getSessionConfig().getMapper().getFactory(), source, 0)) {
+            p.nextToken();
+            image = LazyImageImpl.read(api, p);
+        }
+        api.getEntityCache().put(CacheType.IMAGE, "orunSTu", image);
+        api.getEntityCache().onImageFavorited("orunSTu", true);
+
+        assertNull(api.getEntityCache().get(CacheType.IMAGE, "orunSTu"));
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.azzerial.jmgur.internal.requests;
+
+import com.sun.net.httpserver.HttpServer;
+import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.JmgurBuilder;
+import net.azzerial.jmgur.api.OAuth2;
+import net.azzerial.jmgur.api.entities.Image;
+import net.azzerial.jmgur.api.exceptions.CircuitOpenException;
+import net.azzerial.jmgur.api.utils.config.CircuitBreakerConfig;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BucketDispatcherTest {
+
+    private static final byte[] IMAGE = "{\"data\":{\"id\":\"orunSTu\",\"datetime\":1495556889,\"type\":\"image/gif\",\"link\":\"http://i.imgur.com/orunSTu.gif\"},\"success\":true,\"status\":200}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ERROR = "{\"data\":{\"error\":\"Internal error\"},\"success\":false,\"status\":500}".getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final List<Long> arrivals = new ArrayList<>();
+
+    private HttpServer server;
+    private ExecutorService serverPool;
+    private Jmgur api;
+
+    /* Methods */
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverPool = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            final int current = inFlight.incrementAndGet();
+
+            maxInFlight.accumulateAndGet(current, Math::max);
+            hits.incrementAndGet();
+            synchronized (arrivals) {
+                arrivals.add(System.currentTimeMillis());
+            }
+            try {
+                Thread.sleep(30L);
+                final byte[] body = exchange.getRequestURI().getPath().endsWith("/fail") ? ERROR : IMAGE;
+
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(body == ERROR ? 500 : 200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.setExecutor(serverPool);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (api != null)
+            api.shutdownNow();
+        server.stop(0);
+        serverPool.shutdownNow();
+    }
+
+    @Test
+    void limitsConcurrencyPerBucket() {
+        api = newApi(new CircuitBreakerConfig(), 2);
+        final List<CompletableFuture<Image>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 8; i += 1)
+            futures.add(api.IMAGE.getImage("image" + i).submit());
+        futures.forEach(CompletableFuture::join);
+
+        assertEquals(8, hits.get());
+        assertTrue(maxInFlight.get() <= 2, "max in flight " + maxInFlight.get());
+        assertEquals(0, api.getRequester().getDispatcher().getQueueSize(Route.ImageEndpoints.GET_IMAGE));
+    }
+
+    @Test
+    void backsOffAfterServerErrors() {
+        api = newApi(new CircuitBreakerConfig(), 1);
+        final CompletableFuture<Image> failing = api.IMAGE.getImage("fail").submit();
+        final CompletableFuture<Image> next = api.IMAGE.getImage("orunSTu").submit();
+
+        assertThrows(CompletionException.class, failing::join);
+        next.join();
+
+        synchronized (arrivals) {
+            assertEquals(2, arrivals.size());
+            assertTrue(arrivals.get(1) - arrivals.get(0) >= BucketDispatcher.BACKOFF_BASE, "dispatched after " + (arrivals.get(1) - arrivals.get(0)) + "ms");
+        }
+    }
+
+    @Test
+    void failsFastWhenCircuitIsOpen() {
+        final CircuitBreakerConfig config = new CircuitBreakerConfig();
+
+        config.setEnabled(true);
+        config.setWindow(2, 2);
+        config.setOpenDuration(1L, TimeUnit.MINUTES);
+        api = newApi(config, 1);
+        final CompletableFuture<Image> first = api.IMAGE.getImage("fail").submit();
+        final CompletableFuture<Image> second = api.IMAGE.getImage("fail").submit();
+        final CompletableFuture<Image> third = api.IMAGE.getImage("orunSTu").submit();
+
+        assertThrows(CompletionException.class, first::join);
+        assertThrows(CompletionException.class, second::join);
+
+        final CompletionException e = assertThrows(CompletionException.class, third::join);
+
+        assertTrue(e.getCause() instanceof CircuitOpenException, String.valueOf(e.getCause()));
+        assertEquals(2, hits.get());
+    }
+
+    /* Internal */
+
+    private Jmgur newApi(CircuitBreakerConfig circuitBreaker, int concurrency) {
+        final int port = server.getAddress().getPort();
+        // Only the host changes, the request still goes through the whole requester.
+        final OkHttpClient.Builder http = new OkHttpClient.Builder()
+            .addInterceptor(chain -> {
+                final HttpUrl url = chain.request().url().newBuilder()
+                    .scheme("http")
+                    .host("127.0.0.1")
+                    .port(port)
+                    .build();
+
+                return chain.proceed(chain.request().newBuilder().url(url).build());
+            });
+
+        return JmgurBuilder.of("client-id")
+            .setOAuth(OAuth2.fromData("access-token", "refresh-token", 315360000L, "ghostinspector", 48437714L))
+            .setHttpClientBuilder(http)
+            .setBucketConcurrency(concurrency)
+            .setRetryPolicy(null)
+            .setCircuitBreaker(circuitBreaker)
+            .build();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.azzerial.jmgur.internal.requests;
+
+import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.JmgurBuilder;
+import net.azzerial.jmgur.api.OAuth2;
+import net.azzerial.jmgur.api.requests.CircuitState;
+import net.azzerial.jmgur.api.utils.config.CircuitBreakerConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    private Jmgur api;
+    private CircuitBreaker breaker;
+
+    /* Methods */
+
+    @BeforeEach
+    void setUp() {
+        final CircuitBreakerConfig config = new CircuitBreakerConfig();
+
+        config.setEnabled(true);
+        config.setWindow(4, 4);
+        config.setOpenDuration(50L, TimeUnit.MILLISECONDS);
+        config.setHalfOpenProbes(2);
+        api = JmgurBuilder.of("client-id")
+            .setOAuth(OAuth2.fromData("access-token", "refresh-token", 315360000L, "ghostinspector", 48437714L))
+            .setCircuitBreaker(config)
+            .build();
+        breaker = api.getRequester().getCircuitBreakers().get(Route.ImageEndpoints.GET_IMAGE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        api.shutdownNow();
+    }
+
+    @Test
+    void staysClosedUntilMinimumCalls() {
+        record(500);
+        record(500);
+        record(500);
+
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void opensAtFailureRateAndRejects() {
+        record(200);
+        record(500);
+        record(200);
+        record(500);
+
+        assertEquals(CircuitState.OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire());
+        assertEquals(1L, breaker.getStats().getRejectedCount());
+    }
+
+    @Test
+    void closesAfterSuccessfulProbes() throws InterruptedException {
+        open();
+        Thread.sleep(60L);
+
+        final CircuitBreaker.Permit first = breaker.tryAcquire();
+        final CircuitBreaker.Permit second = breaker.tryAcquire();
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertTrue(first.isProbe());
+        assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+        // Only as many probes as configured are let through.
+        assertNull(breaker.tryAcquire());
+        first.record(200, 1L);
+        second.record(200, 1L);
+        assertEquals(CircuitState.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getStats().getCallCount());
+    }
+
+    @Test
+    void reopensOnFailedProbe() throws InterruptedException {
+        open();
+        Thread.sleep(60L);
+
+        final CircuitBreaker.Permit probe = breaker.tryAcquire();
+
+        assertNotNull(probe);
+        probe.record(503, 1L);
+        assertEquals(CircuitState.OPEN, breaker.getState());
+        assertNull(breaker.tryAcquire());
+    }
+
+    @Test
+    void releasedProbesFreeTheirSlot() throws InterruptedException {
+        open();
+        Thread.sleep(60L);
+
+        final CircuitBreaker.Permit first = breaker.tryAcquire();
+
+        assertNotNull(first);
+        assertNotNull(breaker.tryAcquire());
+        first.release();
+        assertNotNull(breaker.tryAcquire());
+    }
+
+    @Test
+    void ignoresOutcomesFromAnEarlierState() throws InterruptedException {
+        final CircuitBreaker.Permit stale = breaker.tryAcquire();
+
+        assertNotNull(stale);
+        open();
+        Thread.sleep(60L);
+        // Counted, this failure would reopen the circuit and push the probes back.
+        stale.record(500, 1L);
+        assertNotNull(breaker.tryAcquire());
+        assertEquals(CircuitState.HALF_OPEN, breaker.getState());
+    }
+
+    @Test
+    void countsSlowCallsAsFailures() {
+        for (int i = 0; i < 4; i += 1)
+            breaker.tryAcquire().record(200, CircuitBreakerConfig.DEFAULT_SLOW_CALL_DURATION);
+
+        assertEquals(CircuitState.OPEN, breaker.getState());
+    }
+
+    /* Internal */
+
+    private void record(int code) {
+        final CircuitBreaker.Permit permit = breaker.tryAcquire();
+
+        assertNotNull(permit);
+        permit.record(code, 1L);
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i += 1)
+            record(500);
+        assertEquals(CircuitState.OPEN, breaker.getState());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.azzerial.jmgur.internal.requests;
+
+import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.JmgurBuilder;
+import net.azzerial.jmgur.api.OAuth2;
+import net.azzerial.jmgur.api.entities.subentities.EntityField;
+import net.azzerial.jmgur.api.requests.Request;
+import net.azzerial.jmgur.internal.requests.restaction.RestActionImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestCoalescerTest {
+
+    private Jmgur api;
+    private RequestCoalescer coalescer;
+
+    /* Methods */
+
+    @BeforeEach
+    void setUp() {
+        api = JmgurBuilder.of("client-id")
+            .setOAuth(OAuth2.fromData("access-token", "refresh-token", 315360000L, "ghostinspector", 48437714L))
+            .build();
+        coalescer = new RequestCoalescer(api.getRequester());
+    }
+
+    @AfterEach
+    void tearDown() {
+        api.shutdownNow();
+    }
+
+    @Test
+    void sharesResultWithFollowers() throws Exception {
+        final CompletableFuture<List<String>> leaderResult = new CompletableFuture<>();
+        final CompletableFuture<List<String>> followerResult = new CompletableFuture<>();
+        final Request<List<String>> leader = newRequest(Route.ImageEndpoints.GET_IMAGE.compile("orunSTu"), leaderResult);
+        final Request<List<String>> follower = newRequest(Route.ImageEndpoints.GET_IMAGE.compile("orunSTu"), followerResult);
+        final List<String> result = new ArrayList<>(Arrays.asList("a", "b"));
+
+        assertFalse(coalescer.join(leader));
+        assertTrue(coalescer.join(follower));
+        assertEquals(1, coalescer.getInFlightCount());
+        leader.onSuccess(result);
+
+        assertSame(result, leaderResult.get(1L, TimeUnit.SECONDS));
+        // Followers get their own copy of list results.
+        assertEquals(result, followerResult.get(1L, TimeUnit.SECONDS));
+        assertNotSame(result, followerResult.get());
+        assertEquals(0, coalescer.getInFlightCount());
+        assertEquals(1L, coalescer.getFlightCount());
+        assertEquals(1L, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    void sharesFailureWithFollowers() {
+        final CompletableFuture<List<String>> followerResult = new CompletableFuture<>();
+        final Request<List<String>> leader = newRequest(Route.ImageEndpoints.GET_IMAGE.compile("orunSTu"), new CompletableFuture<>());
+        final Request<List<String>> follower = newRequest(Route.ImageEndpoints.GET_IMAGE.compile("orunSTu"), followerResult);
+        final IllegalStateException failure = new IllegalStateException("failed");
+
+        coalescer.join(leader);
+        coalescer.join(follower);
+        leader.onFailure(failure);
+
+        final CompletionException e = assertThrows(CompletionException.class, followerResult::join);
+
+        assertSame(failure, e.getCause());
+    }
+
+    @Test
+    void keepsDifferentRoutesApart() {
+        assertFalse(coalescer.join(newRequest(Route.ImageEndpoints.GET_IMAGE.compile("orunSTu"), new CompletableFuture<>())));
+        assertFalse(coalescer.join(newRequest(Route.ImageEndpoints.GET_IMAGE.compile("lDRB2"), new CompletableFuture<>())));
+        assertEquals(2, coalescer.getInFlightCount());
+    }
+
+    @Test
+    void keepsDifferentProjectionsApart() {
+        final Request<List<String>> full = newRequest(Route.ImageEndpoints.GET_IMAGE.compile("orunSTu"), new CompletableFuture<>());
+        final Request<List<String>> projected = newRequest(Route.ImageEndpoints.GET_IMAGE.compile("orunSTu"), new CompletableFuture<>());
+
+        projected.getRestAction().project(EntityField.ID);
+        assertFalse(coalescer.join(full));
+        assertFalse(coalescer.join(projected));
+    }
+
+    @Test
+    void neverCoalescesWrites() {
+        assertFalse(coalescer.join(newRequest(Route.ImageEndpoints.POST_IMAGE_FAVORITE.compile("orunSTu"), new CompletableFuture<>())));
+        assertFalse(coalescer.join(newRequest(Route.ImageEndpoints.POST_IMAGE_FAVORITE.compile("orunSTu"), new CompletableFuture<>())));
+        assertEquals(0, coalescer.getInFlightCount());
+    }
+
+    @Test
+    void startsNewFlightOnceSettled() {
+        final Request<List<String>> first = newRequest(Route.ImageEndpoints.GET_IMAGE.compile("orunSTu"), new CompletableFuture<>());
+
+        coalescer.join(first);
+        first.onSuccess(new ArrayList<>());
+        assertFalse(coalescer.join(newRequest(Route.ImageEndpoints.GET_IMAGE.compile("orunSTu"), new CompletableFuture<>())));
+        assertEquals(2L, coalescer.getFlightCount());
+    }
+
+    /* Internal */
+
+    private Request<List<String>> newRequest(Route.CompiledRoute route, CompletableFuture<List<String>> result) {
+        final RestActionImpl<List<String>> action = new RestActionImpl<>(api, route, (req, res) -> null);
+        return new Request<>(action, result::complete, result::completeExceptionally, null, 0L, route);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests;
+
+import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.JmgurBuilder;
+import net.azzerial.jmgur.api.OAuth2;
+import net.azzerial.jmgur.api.requests.Request;
+import net.azzerial.jmgur.internal.requests.restaction.RestActionImpl;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ResponseCacheTest {
+
+    private static final String SETTINGS = "{\"data\":{\"account_url\":\"alice\",\"email\":\"alice@example.com\"},\"success\":true,\"status\":200}";
+
+    @TempDir
+    File directory;
+
+    private Jmgur alice;
+    private Jmgur bob;
+
+    /* Methods */
+
+    @BeforeEach
+    void setUp() {
+        alice = newApi("alice-token", "alice", 1L);
+        bob = newApi("bob-token", "bob", 2L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        alice.shutdownNow();
+        bob.shutdownNow();
+    }
+
+    @Test
+    void bearerResponsesAreNotSharedBetweenTokens() throws IOException {
+        final Request<Void> aliceRequest = newRequest(alice, Route.AccountEndpoints.GET_SELF_SETTINGS.compile());
+        final Request<Void> bobRequest = newRequest(bob, Route.AccountEndpoints.GET_SELF_SETTINGS.compile());
+
+        try (ResponseCache cache = new ResponseCache(directory, 1 << 20, TimeUnit.MINUTES.toMillis(5))) {
+            store(cache, aliceRequest);
+
+            assertNotNull(cache.get(aliceRequest, alice.getRequester().buildRequest(aliceRequest)));
+            assertNull(cache.get(bobRequest, bob.getRequester().buildRequest(bobRequest)));
+        }
+    }
+
+    @Test
+    void bearerResponsesAreNotSharedAfterReopening() throws IOException {
+        final Request<Void> aliceRequest = newRequest(alice, Route.AccountEndpoints.GET_SELF_SETTINGS.compile());
+        final Request<Void> bobRequest = newRequest(bob, Route.AccountEndpoints.GET_SELF_SETTINGS.compile());
+
+        try (ResponseCache cache = new ResponseCache(directory, 1 << 20, TimeUnit.MINUTES.toMillis(5))) {
+            store(cache, aliceRequest);
+        }
+        try (ResponseCache cache = new ResponseCache(directory, 1 << 20, TimeUnit.MINUTES.toMillis(5))) {
+            assertNull(cache.get(bobRequest, bob.getRequester().buildRequest(bobRequest)));
+            assertEquals(1, cache.getEntryCount());
+        }
+    }
+
+    /* Internal */
+
+    private static Jmgur newApi(String token, String username, long id) {
+        return JmgurBuilder.of("client-id")
+            .setOAuth(OAuth2.fromData(token, "refresh-token", 315360000L, username, id))
+            .build();
+    }
+
+    private static Request<Void> newRequest(Jmgur api, Route.CompiledRoute route) {
+        final RestActionImpl<Void> action = new RestActionImpl<>(api, route, (req, res) -> null);
+        return new Request<>(action, value -> {}, t -> {}, null, 0L, route);
+    }
+
+    private static void store(ResponseCache cache, Request<Void> request) throws IOException {
+        final okhttp3.Response response = new okhttp3.Response.Builder()
+            .request(request.getApi().getRequester().buildRequest(request))
+            .protocol(Protocol.HTTP_1_1)
+            .code(200)
+            .message("OK")
+            .header("Cache-Control", "max-age=300")
+            .header("ETag", "\"settings\"")
+            .body(ResponseBody.create(SETTINGS, MediaType.get("application/json")))
+            .build();
+
+        cache.store(request, response).close();
+    }
+}
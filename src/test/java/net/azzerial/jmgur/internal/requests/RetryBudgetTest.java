@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.azzerial.jmgur.internal.requests;
+
+import net.azzerial.jmgur.api.utils.config.RequesterConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetryBudgetTest {
+
+    @Test
+    void coldStartCanRetry() {
+        final RetryBudget budget = new RetryBudget(RequesterConfig.DEFAULT_RETRY_BUDGET, RequesterConfig.DEFAULT_RETRY_BUDGET_MINIMUM);
+
+        budget.deposit();
+        assertTrue(budget.tryWithdraw());
+    }
+
+    @Test
+    void depositsEarnRetriesByRatio() {
+        final RetryBudget budget = new RetryBudget(0.5);
+
+        assertFalse(budget.tryWithdraw());
+        budget.deposit();
+        budget.deposit();
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+        assertEquals(1L, budget.getRetryCount());
+        assertEquals(2L, budget.getRejectedCount());
+    }
+
+    @Test
+    void floorRefillsOverTime() throws InterruptedException {
+        final RetryBudget budget = new RetryBudget(0.0, 20.0);
+
+        while (budget.tryWithdraw())
+            continue;
+        Thread.sleep(150L);
+        assertTrue(budget.tryWithdraw());
+    }
+
+    @Test
+    void balanceIsCapped() {
+        final RetryBudget budget = new RetryBudget(1.0, 0.0, 3.0);
+
+        for (int i = 0; i < 10; i += 1)
+            budget.deposit();
+        assertEquals(3.0, budget.getBalance());
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.azzerial.jmgur.internal.requests.restaction;
+
+import net.azzerial.jmgur.api.Jmgur;
+import net.azzerial.jmgur.api.entities.subentities.EntityField;
+import net.azzerial.jmgur.api.requests.restaction.PageRangeRestAction;
+import net.azzerial.jmgur.api.requests.restaction.PagedRestAction;
+import net.azzerial.jmgur.api.requests.restaction.RestAction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PagedPublisherTest {
+
+    @Test
+    void emitsEveryPageThenCompletes() {
+        final FakePages pages = new FakePages();
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        pages.complete(0, 1, 2);
+        pages.complete(1, 3, 4);
+        pages.complete(2);
+        new PagedPublisher<>(pages, 2).subscribe(subscriber);
+        subscriber.request(Long.MAX_VALUE);
+
+        assertEquals(Arrays.asList(1, 2, 3, 4), subscriber.elements);
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    void fetchesNoMoreThanDemanded() {
+        final FakePages pages = new FakePages();
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        new PagedPublisher<>(pages, 2).subscribe(subscriber);
+        assertEquals(0, pages.fetched.size());
+
+        subscriber.request(1);
+        assertEquals(Collections.singletonList(0), pages.fetched);
+        pages.complete(0, 1, 2);
+        assertEquals(Collections.singletonList(1), subscriber.elements);
+        // The buffered element covers the next request, no page is fetched for it.
+        subscriber.request(1);
+        assertEquals(Arrays.asList(1, 2), subscriber.elements);
+        assertEquals(Collections.singletonList(0), pages.fetched);
+    }
+
+    @Test
+    void boundsPagesInFlight() {
+        final FakePages pages = new FakePages();
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        new PagedPublisher<>(pages, 2).subscribe(subscriber);
+        subscriber.request(100);
+        // The page size is unknown until the first page lands, so a single page is fetched.
+        assertEquals(Collections.singletonList(0), pages.fetched);
+        pages.complete(0, 1, 2);
+        assertEquals(Arrays.asList(0, 1, 2), pages.fetched);
+        pages.complete(1, 3, 4);
+        assertEquals(Arrays.asList(0, 1, 2, 3), pages.fetched);
+        assertEquals(Arrays.asList(1, 2, 3, 4), subscriber.elements);
+    }
+
+    @Test
+    void reportsPageFailures() {
+        final FakePages pages = new FakePages();
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        final IllegalStateException failure = new IllegalStateException("page failed");
+
+        new PagedPublisher<>(pages, 2).subscribe(subscriber);
+        subscriber.request(10);
+        pages.page(0).completeExceptionally(failure);
+
+        assertEquals(failure, subscriber.error);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    void rejectsNonPositiveRequests() {
+        final FakePages pages = new FakePages();
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        new PagedPublisher<>(pages, 2).subscribe(subscriber);
+        subscriber.request(0);
+
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertEquals(0, pages.fetched.size());
+    }
+
+    @Test
+    void cancelStopsEmissionAndCancelsPages() {
+        final FakePages pages = new FakePages();
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        new PagedPublisher<>(pages, 2).subscribe(subscriber);
+        subscriber.request(10);
+        subscriber.subscription.cancel();
+        pages.complete(0, 1, 2);
+
+        assertTrue(pages.page(0).isCancelled());
+        assertEquals(0, subscriber.elements.size());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    void dropsDuplicatesAcrossPages() {
+        final FakePages pages = new FakePages();
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        pages.complete(0, 1, 2);
+        pages.complete(1, 2, 3);
+        pages.complete(2);
+        new PagedPublisher<>(pages, 2, Function.identity()).subscribe(subscriber);
+        subscriber.request(Long.MAX_VALUE);
+
+        assertEquals(Arrays.asList(1, 2, 3), subscriber.elements);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void rejectsNullSubscriber() {
+        assertThrows(NullPointerException.class, () -> new PagedPublisher<>(new FakePages(), 2).subscribe(null));
+    }
+
+    /* Inner Classes */
+
+    private static final class RecordingSubscriber implements Subscriber<Integer> {
+
+        private final List<Integer> elements = new ArrayList<>();
+
+        private Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        /* Methods */
+
+        void request(long n) {
+            subscription.request(n);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer element) {
+            elements.add(element);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            this.error = error;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+
+    private static final class FakePages implements PagedRestAction<List<Integer>> {
+
+        private final Map<Integer, CompletableFuture<List<Integer>>> pages = new HashMap<>();
+        private final List<Integer> fetched = new ArrayList<>();
+
+        /* Getters & Setters */
+
+        @NotNull
+        CompletableFuture<List<Integer>> page(int page) {
+            return pages.computeIfAbsent(page, p -> new CompletableFuture<>());
+        }
+
+        @NotNull
+        @Override
+        public Jmgur getApi() {
+            throw new UnsupportedOperationException();
+        }
+
+        @NotNull
+        @Override
+        public RestAction<List<Integer>> get() {
+            return get(0);
+        }
+
+        @NotNull
+        @Override
+        public RestAction<List<Integer>> get(int page) {
+            return new PageAction(page);
+        }
+
+        @NotNull
+        @Override
+        public RestAction<List<Integer>> next() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int page() {
+            return 0;
+        }
+
+        @NotNull
+        @Override
+        public PageRangeRestAction<List<Integer>> getRange(int from, int to) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int getPrefetch() {
+            return 0;
+        }
+
+        @NotNull
+        @Override
+        public PagedRestAction<List<Integer>> setPrefetch(int depth) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int getRetention() {
+            return 0;
+        }
+
+        @NotNull
+        @Override
+        public PagedRestAction<List<Integer>> setRetention(int pages) {
+            throw new UnsupportedOperationException();
+        }
+
+        @NotNull
+        @Override
+        public PagedRestAction<List<Integer>> setPageCache(long ttl, @NotNull TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @NotNull
+        @Override
+        public PagedRestAction<List<Integer>> project(@NotNull EntityField... fields) {
+            throw new UnsupportedOperationException();
+        }
+
+        /* Methods */
+
+        void complete(int page, Integer... elements) {
+            page(page).complete(Arrays.asList(elements));
+        }
+
+        @NotNull
+        @Override
+        public PagedRestAction<List<Integer>> reset() {
+            throw new UnsupportedOperationException();
+        }
+
+        @NotNull
+        @Override
+        public PagedRestAction<List<Integer>> skip(int pages) {
+            throw new UnsupportedOperationException();
+        }
+
+        @NotNull
+        @Override
+        public PagedRestAction<List<Integer>> skipTo(int page) {
+            throw new UnsupportedOperationException();
+        }
+
+        /* Inner Classes */
+
+        private final class PageAction implements RestAction<List<Integer>> {
+
+            private final int page;
+
+            /* Constructors */
+
+            PageAction(int page) {
+                this.page = page;
+            }
+
+            /* Getters & Setters */
+
+            @NotNull
+            @Override
+            public Jmgur getApi() {
+                throw new UnsupportedOperationException();
+            }
+
+            /* Methods */
+
+            @Override
+            public void queue(@Nullable Consumer<? super List<Integer>> success, @Nullable Consumer<? super Throwable> failure) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<Integer> complete() {
+                return submit().join();
+            }
+
+            @NotNull
+            @Override
+            public CompletableFuture<List<Integer>> submit() {
+                fetched.add(page);
+                return page(page);
+            }
+        }
+    }
+}
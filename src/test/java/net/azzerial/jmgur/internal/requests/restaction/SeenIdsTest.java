@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.azzerial.jmgur.internal.requests.restaction;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeenIdsTest {
+
+    @Test
+    void dropsRepeatedNumbers() {
+        final SeenIds<Object> seen = new SeenIds<>(Function.identity());
+
+        assertTrue(seen.add(0L));
+        assertFalse(seen.add(0L));
+        assertTrue(seen.add(48437714L));
+        assertFalse(seen.add(48437714L));
+        assertTrue(seen.add(-1L));
+        assertFalse(seen.add(-1L));
+    }
+
+    @Test
+    void keepsHashesCaseAndLengthApart() {
+        final SeenIds<Object> seen = new SeenIds<>(Function.identity());
+
+        assertTrue(seen.add("orunSTu"));
+        assertFalse(seen.add("orunSTu"));
+        assertTrue(seen.add("ORUNSTU"));
+        assertTrue(seen.add("0"));
+        assertTrue(seen.add("00"));
+        // A numeric id and the same digits as a hash are different ids.
+        assertTrue(seen.add("5"));
+        assertTrue(seen.add(5L));
+    }
+
+    @Test
+    void fallsBackForUnpackableIds() {
+        final SeenIds<Object> seen = new SeenIds<>(Function.identity());
+
+        assertTrue(seen.add("a-hash-too-long-to-pack"));
+        assertFalse(seen.add("a-hash-too-long-to-pack"));
+        assertTrue(seen.add(""));
+        assertFalse(seen.add(""));
+        assertTrue(seen.add(1.5));
+        assertFalse(seen.add(1.5));
+    }
+
+    @Test
+    void neverDropsElementsWithoutId() {
+        final SeenIds<Object> seen = new SeenIds<>(element -> null);
+
+        assertTrue(seen.add("a"));
+        assertTrue(seen.add("a"));
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        final SeenIds<Object> seen = new SeenIds<>(Function.identity());
+
+        for (long i = 1; i <= 10_000; i += 1)
+            assertTrue(seen.add(i));
+        for (long i = 1; i <= 10_000; i += 1)
+            assertFalse(seen.add(i));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.azzerial.jmgur.internal.utils.cache;
+
+import net.azzerial.jmgur.api.utils.CacheStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TinyLfuCacheTest {
+
+    @Test
+    void admitsFrequentCandidatesOverColdVictims() {
+        final TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(100, 0L);
+
+        // Fills the main region with keys 0 to 98, key 99 stays in the window.
+        for (int i = 0; i < 100; i += 1)
+            cache.put(String.valueOf(i), i);
+        // Key 99 is as cold as the probation victim and is rejected.
+        cache.put("hot", -1);
+        cache.put("hot", -1);
+        cache.put("hot", -1);
+        // The hot key leaves the window more frequent than key 0 and replaces it.
+        cache.put("next", -2);
+
+        assertNotNull(cache.get("hot"));
+        assertNull(cache.get("99"));
+        assertNull(cache.get("0"));
+        assertNotNull(cache.get("1"));
+        assertEquals(100, cache.size());
+    }
+
+    @Test
+    void evictsDownToMaximumSize() {
+        final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(10, 0L);
+
+        for (int i = 0; i < 1000; i += 1)
+            cache.put(i, i);
+
+        assertEquals(10, cache.size());
+        assertEquals(990L, cache.getStats().getEvictionCount());
+    }
+
+    @Test
+    void expiresEntriesAfterTtl() throws InterruptedException {
+        final TinyLfuCache<String, String> cache = new TinyLfuCache<>(10, 50L);
+
+        cache.put("key", "value");
+        assertEquals("value", cache.get("key"));
+        Thread.sleep(100L);
+        assertNull(cache.get("key"));
+        assertFalse(cache.update("key", value -> value + "!"));
+
+        final CacheStats stats = cache.getStats();
+
+        assertEquals(1L, stats.getHitCount());
+        assertEquals(1L, stats.getMissCount());
+        assertEquals(1L, stats.getEvictionCount());
+        assertEquals(0, stats.getSize());
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        final TinyLfuCache<String, String> cache = new TinyLfuCache<>(10, 0L);
+
+        cache.put("a", "1");
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+
+        final CacheStats stats = cache.getStats();
+
+        assertEquals(2L, stats.getHitCount());
+        assertEquals(1L, stats.getMissCount());
+        assertEquals(0L, stats.getEvictionCount());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    void updateReplacesOrInvalidates() {
+        final TinyLfuCache<String, String> cache = new TinyLfuCache<>(10, 0L);
+
+        assertFalse(cache.update("a", value -> "2"));
+        cache.put("a", "1");
+        assertTrue(cache.update("a", value -> value + "2"));
+        assertEquals("12", cache.get("a"));
+        assertFalse(cache.update("a", value -> null));
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    void concurrentAccessStaysBounded() throws InterruptedException {
+        final TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(64, 0L);
+        final List<Thread> threads = new ArrayList<>();
+        final List<Throwable> errors = new ArrayList<>();
+
+        for (int t = 0; t < 8; t += 1) {
+            final Thread thread = new Thread(() -> {
+                final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+                for (int i = 0; i < 20_000; i += 1) {
+                    final int key = random.nextInt(256);
+
+                    if (cache.get(key) == null)
+                        cache.put(key, key);
+                }
+            });
+
+            thread.setUncaughtExceptionHandler((th, e) -> {
+                synchronized (errors) {
+                    errors.add(e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads)
+            thread.join();
+
+        assertTrue(errors.isEmpty(), String.valueOf(errors));
+        assertTrue(cache.size() <= 64, "size " + cache.size());
+        assertEquals(160_000L, cache.getStats().getHitCount() + cache.getStats().getMissCount());
+    }
+}
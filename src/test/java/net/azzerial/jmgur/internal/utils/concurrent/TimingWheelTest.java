@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020 Robin Mercier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.azzerial.jmgur.internal.utils.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    private ScheduledExecutorService scheduler;
+
+    /* Methods */
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void firesAfterDelay() throws InterruptedException {
+        final TimingWheel wheel = new TimingWheel(scheduler, 5L, TimeUnit.MILLISECONDS, 8);
+        final CountDownLatch fired = new CountDownLatch(1);
+        final long start = System.nanoTime();
+
+        // Longer than a full turn of the wheel, so the timeout has to survive a few passes.
+        wheel.schedule(fired::countDown, 100L, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(2L, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 95L);
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    void cancelledTimeoutsNeverFire() throws InterruptedException {
+        final TimingWheel wheel = new TimingWheel(scheduler, 5L, TimeUnit.MILLISECONDS, 8);
+        final AtomicInteger fired = new AtomicInteger();
+        final TimingWheel.Timeout timeout = wheel.schedule(fired::incrementAndGet, 20L, TimeUnit.MILLISECONDS);
+
+        timeout.cancel();
+        assertTrue(timeout.isCancelled());
+        assertEquals(0, wheel.getPendingCount());
+        Thread.sleep(60L);
+        assertEquals(0, fired.get());
+    }
+
+    @Test
+    void firesPendingTimeoutsWhenSchedulerRejects() {
+        final TimingWheel wheel = new TimingWheel(scheduler, 5L, TimeUnit.MILLISECONDS, 8);
+        final AtomicInteger fired = new AtomicInteger();
+
+        wheel.schedule(fired::incrementAndGet, 1L, TimeUnit.HOURS).cancel();
+        scheduler.shutdown();
+        wheel.schedule(fired::incrementAndGet, 1L, TimeUnit.HOURS);
+
+        assertEquals(1, fired.get());
+        assertEquals(0, wheel.getPendingCount());
+    }
+}